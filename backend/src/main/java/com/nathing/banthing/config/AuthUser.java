@@ -0,0 +1,37 @@
+package com.nathing.banthing.config;
+
+import java.security.Principal;
+
+/**
+ * JWT 액세스 토큰으로 인증된 사용자 정보(인증 주체, principal)입니다.
+ *
+ * 토큰의 클레임(JwtTokenProvider 참고)을 그대로 담으며 DB를 조회하지 않고 만들어집니다.
+ * - providerId: 토큰 subject (카카오 ID). 항상 존재합니다.
+ * - userId: 내부 사용자 ID. 사용자 ID는 재사용되지 않으므로 토큰이 유효한 동안 바뀌지 않습니다.
+ *   클레임 버전이 현재와 다른(이전에 발급된) 토큰이면 null이며, 이때는 providerId로 조회합니다.
+ * 신뢰 등급처럼 토큰이 유효한 동안 바뀔 수 있는 값은 담지 않습니다. 필요하면 User 엔티티에서 읽어야 합니다.
+ *
+ * getName()은 providerId를 반환하므로 Authentication.getName()으로도 providerId를 얻을 수 있습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record AuthUser(String providerId, Long userId) implements Principal {
+
+    /**
+     * providerId만 있는(클레임이 없는 이전 버전 토큰) 인증 주체를 만듭니다.
+     */
+    public static AuthUser ofProviderId(String providerId) {
+        return new AuthUser(providerId, null);
+    }
+
+    @Override
+    public String getName() {
+        return providerId;
+    }
+
+    @Override
+    public String toString() {
+        return providerId;
+    }
+}
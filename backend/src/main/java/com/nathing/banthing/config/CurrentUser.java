@@ -0,0 +1,23 @@
+package com.nathing.banthing.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 User 파라미터에 로그인한 사용자 엔티티를 주입합니다.
+ *
+ * {@code @AuthenticationPrincipal String providerId}로 받은 뒤 서비스에서 다시 조회하는 대신 사용하며,
+ * 요청당 한 번만 조회됩니다. (CurrentUserArgumentResolver, CurrentUserResolver 참고)
+ * 인증되지 않은 요청이면 AUTHENTICATION_NOT_FOUND(401) 예외가 발생합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
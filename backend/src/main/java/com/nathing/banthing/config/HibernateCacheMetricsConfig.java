@@ -0,0 +1,61 @@
+package com.nathing.banthing.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * Hibernate 2차 캐시 리전별 적중률(hit ratio) 지표를 등록하는 설정 클래스입니다.
+ *
+ * 리전별 hit/miss 요청 수는 hibernate-micrometer가 hibernate.second.level.cache.requests,
+ * hibernate.cache.query.requests 등으로 노출하며, 여기서는 대시보드에서 바로 볼 수 있도록
+ * 누적 적중률을 hibernate.cache.hit.ratio{region=...} 게이지로 함께 제공합니다.
+ * (조회 기록이 없으면 NaN)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Configuration
+public class HibernateCacheMetricsConfig {
+
+    private static final String[] ENTITY_REGIONS = {"mart", "user"};
+    private static final String[] QUERY_REGIONS = {"user-by-provider-id"};
+
+    @Bean
+    public MeterBinder hibernateCacheHitRatioMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return registry -> {
+            for (String region : ENTITY_REGIONS) {
+                register(registry, statistics, region, s -> s.getDomainDataRegionStatistics(region));
+            }
+            for (String region : QUERY_REGIONS) {
+                register(registry, statistics, region, s -> s.getQueryRegionStatistics(region));
+            }
+        };
+    }
+
+    private static void register(MeterRegistry registry, Statistics statistics,
+                                 String region, Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(regionStatistics.apply(s)))
+                .tag("region", region)
+                .description("Hibernate 2차 캐시 리전의 누적 적중률")
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / requests;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Collections;
  * - 토큰 추출: 우선순위 1) Authorization 헤더의 Bearer 토큰, 2) HTTP-Only 쿠키(ACCESS_TOKEN)
  * - 토큰 검증: 서명/만료를 검증합니다.
  * - 컨텍스트 설정: 유효한 토큰이면 {@link SecurityContextHolder}에 인증 객체를 저장합니다.
+ *   인증 주체(principal)는 토큰 클레임으로 만든 {@link AuthUser}이며, 이 과정에서 DB를 조회하지 않습니다.
  * - 비유효/부재: 아무런 설정 없이 다음 필터로 흐름을 넘깁니다.
  *
  * 주의사항
@@ -61,10 +62,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)
                 && SecurityContextHolder.getContext().getAuthentication() == null) {
             Claims claims = jwtTokenProvider.getClaims(token);
-            String subject = claims.getSubject(); // 일반적으로 사용자 식별자
+            AuthUser authUser = jwtTokenProvider.toAuthUser(claims); // subject(providerId) + 사용자 ID 등 클레임
 
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    subject,
+                    authUser,
                     null,
                     Collections.emptyList()
             );
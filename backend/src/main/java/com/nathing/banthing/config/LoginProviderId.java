@@ -0,0 +1,26 @@
+package com.nathing.banthing.config;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 String 파라미터에 로그인한 사용자의 providerId를 주입합니다.
+ *
+ * 인증 주체가 {@link AuthUser}로 바뀌면서 {@code @AuthenticationPrincipal String}으로는 값을 받을 수 없으므로
+ * 이 어노테이션을 사용합니다. 로그인하지 않은 요청(익명 사용자)이면 null이 주입됩니다.
+ * 사용자 ID 등 다른 클레임이 필요하면 {@code @AuthenticationPrincipal AuthUser}로 받습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@AuthenticationPrincipal(expression = "#this instanceof T(com.nathing.banthing.config.AuthUser) ? providerId : null")
+public @interface LoginProviderId {
+}
@@ -1,5 +1,7 @@
 package com.nathing.banthing.config;
 
+import com.nathing.banthing.entity.User;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
 import com.nathing.banthing.util.AppProperties;
 import com.nathing.banthing.util.CookieUtil;
 import com.nathing.banthing.util.JwtTokenProvider;
@@ -14,14 +16,13 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Map;
 
 /**
  * OAuth2 로그인 성공 시 실행되는 핸들러.
  *
  * 동작 순서
  * 1) 인증 주체(OAuth2User)에서 식별자(subject)를 가져온다
- * 2) Access/Refresh JWT를 생성한다
+ * 2) Access/Refresh JWT를 생성한다 (Access Token에는 내부 사용자 ID/신뢰 등급 클레임 포함)
  * 3) 두 토큰을 HTTP-Only 쿠키에 담아 응답 헤더(Set-Cookie)로 내려준다
  * 4) 프론트엔드 애플리케이션 URL로 안전하게 리다이렉트한다
  *
@@ -40,6 +41,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
     private final JwtTokenProvider jwtTokenProvider;
     private final CookieUtil cookieUtil;
     private final AppProperties appProperties;
+    private final CurrentUserResolver currentUserResolver;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
@@ -47,8 +49,9 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
         String subject = String.valueOf(oAuth2User.getName());
 
-        // 2) Access/Refresh 토큰 생성 (클레임은 최소화)
-        String accessToken = jwtTokenProvider.createAccessToken(subject, Map.of());
+        // 2) Access/Refresh 토큰 생성 (CustomOAuth2UserService가 저장한 사용자 정보로 클레임 구성)
+        User user = currentUserResolver.resolve(subject);
+        String accessToken = jwtTokenProvider.createAccessToken(user);
         String refreshToken = jwtTokenProvider.createRefreshToken(subject);
 
         // 3) 토큰을 HTTP-Only 쿠키로 설정 (URL 노출 금지)
@@ -35,6 +35,9 @@ public class SecurityConfig {
             "/login/oauth2/**",
             "/api/some-public-data",
             "/api/meetings/search", // 전체 조회만 허용
+            "/api/meetings/nearby", // 주변 모임 조회 (지도)
+            "/api/meetings/search/facets", // 패싯 검색
+            "/api/meetings/suggest", // 검색어 자동완성
             "/api/chatbot/**", // 챗봇 엔드포인트 공개 (로그인 없이도 접근 가능)
             "/api/chatbot/message", // 챗봇 메시지 전송
             "/api/chatbot/guest", // 게스트용 챗봇 엔드포인트
@@ -104,6 +107,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 조건부 GET(If-None-Match / If-Modified-Since) 재검증을 위해 검증자 헤더 노출, 멱등성 키 재전송 여부 노출
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified", "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,13 +1,20 @@
 package com.nathing.banthing.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
@@ -22,4 +29,10 @@ public class WebConfig implements WebMvcConfigurer {
                 // "file:///" 접두사는 필수입니다.
                 .addResourceLocations("file:" + uploadDir);
     }
-}
\ No newline at end of file
+
+    // @CurrentUser User 파라미터 주입
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
@@ -1,5 +1,8 @@
 package com.nathing.banthing.controller;
 
+import com.nathing.banthing.entity.User;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
 import com.nathing.banthing.util.CookieUtil;
 import com.nathing.banthing.util.JwtTokenProvider;
 import io.jsonwebtoken.Claims;
@@ -13,13 +16,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
-
 /**
  * 인증 관련 엔드포인트 컨트롤러.
  *
  * - /api/auth/refresh: 쿠키의 Refresh Token을 검증하고 새 Access Token 쿠키를 내려줍니다.
  * - 이 컨트롤러는 HTTP-Only 쿠키 기반 재발급만 담당하며, 바디/헤더로 토큰을 주고받지 않습니다.
+ * - 재발급할 때 사용자 정보를 다시 읽어 클레임(사용자 ID, 신뢰 등급)을 최신 값으로 갱신합니다.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -29,6 +31,7 @@ public class AuthController {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CookieUtil cookieUtil;
+    private final CurrentUserResolver currentUserResolver;
 
     /**
      * Refresh Token을 사용해 Access Token을 재발급합니다.
@@ -56,7 +59,15 @@ public class AuthController {
         Claims claims = jwtTokenProvider.getClaims(refreshToken); // Refresh Token의 클레임 파싱
         String subject = claims.getSubject(); // 사용자 식별자(subject)
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(subject, Map.of()); // 새 Access Token 생성
+        User user;
+        try {
+            user = currentUserResolver.resolve(subject); // 클레임을 최신 사용자 정보로 구성
+        } catch (BusinessException e) {
+            log.warn("[AuthController] User not found for refresh token subject={}", subject);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(); // 탈퇴 등으로 사용자가 없으면 401
+        }
+
+        String newAccessToken = jwtTokenProvider.createAccessToken(user); // 새 Access Token 생성
         cookieUtil.addAccessTokenCookie(response, newAccessToken); // Access Token 쿠키로 설정
         log.info("[AuthController] Access token reissued for subject={}", subject);
         return ResponseEntity.noContent().build(); // 204 No Content 반환
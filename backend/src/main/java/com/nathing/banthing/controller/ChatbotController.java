@@ -1,5 +1,6 @@
 package com.nathing.banthing.controller;
 
+import com.nathing.banthing.config.LoginProviderId;
 import com.nathing.banthing.dto.common.ApiResponse;
 import com.nathing.banthing.dto.request.ChatbotMessageRequest;
 import com.nathing.banthing.dto.response.ChatbotConversationHistoryResponse;
@@ -11,7 +12,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
@@ -40,7 +40,7 @@ public class ChatbotController {
     @PostMapping("/message")
     public ResponseEntity<ApiResponse<ChatbotMessageResponse>> sendMessage(
             @Valid @RequestBody ChatbotMessageRequest request,
-            @AuthenticationPrincipal String subject,
+            @LoginProviderId String subject,
             HttpServletRequest httpRequest) {
 
         try {
@@ -140,7 +140,7 @@ public class ChatbotController {
      */
     @GetMapping("/history")
     public ResponseEntity<ApiResponse<List<ChatbotConversationHistoryResponse>>> getChatHistory(
-            @AuthenticationPrincipal String subject) {
+            @LoginProviderId String subject) {
 
         if (subject == null) {
             return ResponseEntity.ok(ApiResponse.success(
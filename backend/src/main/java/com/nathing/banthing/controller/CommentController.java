@@ -1,5 +1,6 @@
 package com.nathing.banthing.controller;
 
+import com.nathing.banthing.config.LoginProviderId;
 import com.nathing.banthing.dto.request.CommentCreateDto;
 import com.nathing.banthing.dto.request.CommentUpdateDto;
 import com.nathing.banthing.dto.response.CommentListDto;
@@ -10,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @RestController
@@ -29,7 +29,7 @@ public class CommentController {
     @PostMapping
     public ResponseEntity<CommentReadDto> createComment(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId,
+            @LoginProviderId String providerId,
             @RequestBody CommentCreateDto createDto) {
         CommentReadDto createdComment = commentService.createComment(meetingId, providerId, createDto.getContent());
         return ResponseEntity.status(HttpStatus.CREATED).body(createdComment);
@@ -43,7 +43,7 @@ public class CommentController {
     @GetMapping
     public ResponseEntity<CommentListDto> getCommentsByMeetingId(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
         CommentListDto comments = commentService.getCommentsByMeetingId(meetingId, providerId);
         return ResponseEntity.ok(comments);
     }
@@ -58,7 +58,7 @@ public class CommentController {
     public ResponseEntity<CommentReadDto> updateComment(
             @PathVariable Long commentId,
             @RequestBody CommentUpdateDto updateDto,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
         CommentReadDto updatedComment = commentService.updateComment(commentId, providerId, updateDto.getContent());
         return ResponseEntity.ok(updatedComment);
@@ -72,7 +72,7 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
         commentService.deleteComment(commentId, providerId);
         return ResponseEntity.noContent().build();
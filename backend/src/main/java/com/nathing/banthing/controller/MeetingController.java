@@ -1,24 +1,38 @@
 package com.nathing.banthing.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.config.LoginProviderId;
 import com.nathing.banthing.dto.common.ApiResponse;
 import com.nathing.banthing.dto.request.MeetingCreateRequest;
+import com.nathing.banthing.dto.request.MeetingSearchCondition;
 import com.nathing.banthing.dto.request.MeetingUpdateRequest;
+import com.nathing.banthing.dto.request.ParticipantDecisionRequest;
 import com.nathing.banthing.dto.response.*;
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
 import com.nathing.banthing.repository.MeetingsRepository;
 import com.nathing.banthing.service.*;
+import com.nathing.banthing.service.idempotency.Idempotent;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,7 +45,7 @@ import java.util.List;
  *
  * 주요 기능:
  * - 모임 생성
- * - 전체 모임 목록 조회
+ * - 전체 모임 목록 조회 (스트리밍 조회 포함)
  * - 특정 모임 상세 조회
  * - 모임 수정
  * - 모임 삭제
@@ -53,7 +67,7 @@ import java.util.List;
  *
  * 유효성 검사와 인증:
  * - `@Valid` 어노테이션을 활용하여 요청 데이터의 유효성을 검사합니다.
- * - `@AuthenticationPrincipal` 어노테이션으로 현재 사용자의 인증 정보를 자동 주입합니다.
+ * - `@LoginProviderId`(@AuthenticationPrincipal 메타 어노테이션)로 현재 사용자의 providerId를 자동 주입합니다.
  *
  * @author 고동현
  * @since - 2025-09-15
@@ -72,6 +86,8 @@ public class MeetingController {
     private final DeleteMeetingService deleteMeetingService;
     private final JoinMeetingService joinMeetingService;
     private final ManageMeetingService manageMeetingService;
+    private final MeetingVersionService meetingVersionService;
+    private final ObjectMapper objectMapper;
 
 
 
@@ -82,11 +98,12 @@ public class MeetingController {
      * @param providerId 사용자 ID
      * @return 생성된 모임 ID를 포함한 응답
      */
+    @Idempotent
     @PostMapping
     public ResponseEntity<ApiResponse<MeetingCreateResponse>> createMeeting(
             @RequestPart("request") @Valid MeetingCreateRequest request,
             @RequestPart(value = "imageFile", required = false) MultipartFile imageFile,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
         Meeting newMeeting = createMeetingService.createMeeting(request, imageFile, providerId);
         MeetingCreateResponse responseDto = new MeetingCreateResponse(newMeeting);
@@ -98,34 +115,221 @@ public class MeetingController {
     /**
      * 전체 모임 목록 조회 API
      *
-     * @return 전체 모임 목록
+     * 검색어 없이 cursor 또는 size 파라미터를 전달하면 커서 기반 피드 모드로 동작하여
+     * 전체 목록 대신 한 페이지 분량({@link MeetingFeedResponse})만 반환합니다.
+     *
+     * 조건부 GET을 지원합니다. 모임 목록 버전으로 계산한 ETag/Last-Modified가
+     * 요청의 If-None-Match/If-Modified-Since와 같으면 목록을 조회하지 않고 304를 응답합니다.
+     *
+     * @param keyword 검색어 (선택)
+     * @param cursor  피드 모드: 이전 응답의 nextCursor (선택)
+     * @param size    피드 모드: 페이지 크기 (선택)
+     * @return 전체 모임 목록 또는 모임 피드 페이지 (변경이 없으면 304)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<MeetingSimpleResponse>>> getAllMeetings(
-            @RequestParam(required = false) String keyword) { //  수정: keyword를 쿼리 파라미터로 받습니다.
+    public ResponseEntity<?> getAllMeetings(
+            @RequestParam(required = false) String keyword, //  수정: keyword를 쿼리 파라미터로 받습니다.
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+
+        MeetingVersionService.Validators validators = meetingVersionService.getListValidators(keyword, cursor, size);
+        if (webRequest.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
+
+        // 검색어가 없고 커서/페이지 크기가 지정되면 피드 모드로 조회합니다.
+        if ((keyword == null || keyword.isBlank()) && (cursor != null || size != null)) {
+            MeetingFeedResponse feed = findMeetingService.getMeetingFeed(cursor, size);
+            return conditional(validators).body(ApiResponse.success("모임 목록이 성공적으로 조회되었습니다.", feed));
+        }
 
         //  수정: 서비스 계층의 새로운 검색 메서드를 호출합니다.
         List<MeetingSimpleResponse> meetings = findMeetingService.searchMeetings(keyword);
 
         ApiResponse<List<MeetingSimpleResponse>> apiResponse = ApiResponse.success("모임 목록이 성공적으로 조회되었습니다.", meetings);
 
-        return ResponseEntity.ok(apiResponse);
+        return conditional(validators).body(apiResponse);
+    }
+
+    /**
+     * 전체 모임 목록 스트리밍 조회 API (stream=true)
+     *
+     * 운영 내보내기나 지도 화면처럼 페이지 없이 전체 목록이 필요한 경우에 사용합니다.
+     * 응답 형식은 일반 목록 조회와 같은 ApiResponse이지만, 목록을 메모리에 모으지 않고
+     * DB에서 페이지 단위로 읽는 즉시 Jackson JsonGenerator로 응답 스트림에 한 건씩 기록합니다.
+     * 순서는 일반 목록 조회와 같은 최신순(생성 시각, 같으면 모임 ID 내림차순)입니다.
+     * 건수/시간 제한(meeting.stream.max-rows / meeting.stream.timeout, 기본값은 제한 없음)을 켠 경우
+     * 전체를 보내지 못했으면 data 뒤의 truncated가 true입니다.
+     * 검색어는 검색 엔진 설정(meeting.search.engine)과 관계없이 제목/설명/마트명 부분 일치(LIKE)로 찾으므로,
+     * pg_trgm/memory 엔진을 쓰는 일반 검색과 결과 범위/순서가 다를 수 있습니다.
+     * 예) /api/meetings/search?stream=true&keyword=코스트코
+     *
+     * @param keyword 검색어 (선택)
+     */
+    @GetMapping(value = "/search", params = "stream=true")
+    public void streamAllMeetings(
+            @RequestParam(required = false) String keyword,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+
+        MeetingVersionService.Validators validators = meetingVersionService.getListValidators("stream", keyword);
+        if (webRequest.checkNotModified(validators.etag(), validators.lastModified())) {
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+
+        // ApiResponse와 같은 필드 순서(success, message, timestamp, data)로 직접 기록합니다.
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "모임 목록이 성공적으로 조회되었습니다.");
+            generator.writeFieldName("timestamp");
+            generator.writeObject(LocalDateTime.now());
+            generator.writeArrayFieldStart("data");
+
+            boolean truncated = findMeetingService.streamMeetings(keyword, meeting -> {
+                try {
+                    generator.writeObject(meeting);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+            generator.writeBooleanField("truncated", truncated);
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊는 등 쓰기에 실패하면 다음 페이지를 읽지 않고 중단합니다.
+            log.warn("모임 목록 스트리밍 중단: {}", e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 검색어 자동완성 API
+     *
+     * 사용자가 입력하는 동안 호출되며, 메모리 트라이에서 모임 제목/마트명/인기 검색어를 제안합니다.
+     * 초성("ㅋㅅㅌ")이나 입력 중인 글자("코ㅅ")도 접두어로 사용할 수 있습니다.
+     *
+     * @param prefix 입력 중인 접두어
+     * @param limit  최대 개수 (선택, 최대 10)
+     * @return 제안 검색어 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<MeetingSuggestResponse>>> suggestKeywords(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+
+        List<MeetingSuggestResponse> suggestions = findMeetingService.suggest(prefix, limit);
+
+        return ResponseEntity.ok(ApiResponse.success("검색어 제안이 성공적으로 조회되었습니다.", suggestions));
+    }
+
+    /**
+     * 모임 패싯 검색 API
+     *
+     * 브랜드, 마트, 모임 상태, 모임 일시 범위, 최소 남은 자리 조건으로 모임을 페이지 단위로 조회하고
+     * 각 필터 선택지별 모임 수를 함께 반환합니다.
+     * 예) /api/meetings/search/facets?brands=COSTCO&statuses=RECRUITING&from=2025-10-20T00:00:00&minFreeSeats=1
+     *
+     * @param condition 필터 조건 (쿼리 파라미터)
+     * @param page      페이지 번호 (선택, 0부터)
+     * @param size      페이지 크기 (선택)
+     * @return 모임 목록과 패싯별 건수
+     */
+    @GetMapping("/search/facets")
+    public ResponseEntity<ApiResponse<MeetingFacetSearchResponse>> searchMeetingsWithFacets(
+            @ModelAttribute MeetingSearchCondition condition,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+
+        MeetingFacetSearchResponse result = findMeetingService.searchWithFacets(condition, page, size);
+
+        return ResponseEntity.ok(ApiResponse.success("모임 목록이 성공적으로 조회되었습니다.", result));
+    }
+
+    /**
+     * 주변 모임 조회 API
+     *
+     * 지도 화면에서 사용하며, 중심 좌표로부터 반경 안의 모집중인 모임을 가까운 순으로 반환합니다.
+     *
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 검색 반경 km (선택, 기본 5km, 최대 50km)
+     * @return 거리 정보를 포함한 주변 모임 목록
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<MeetingNearbyResponse>>> getNearbyMeetings(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm) {
+
+        List<MeetingNearbyResponse> meetings = findMeetingService.findNearbyMeetings(lat, lng, radiusKm);
+
+        return ResponseEntity.ok(ApiResponse.success("주변 모임 목록이 성공적으로 조회되었습니다.", meetings));
     }
 
     /**
      * 모임 상세 조회 API
      *
+     * 조건부 GET을 지원합니다. 모임/호스트/참여자 수정 시각으로 계산한 ETag가 같으면 304를 응답합니다.
+     *
      * @param meetingId 조회할 모임의 ID
-     * @return 모임 상세 정보
+     * @return 모임 상세 정보 (변경이 없으면 304)
      */
     @GetMapping("/search/{meetingId}")
-    public ResponseEntity<ApiResponse<MeetingDetailResponse>> getMeetingById(@PathVariable Long meetingId) {
+    public ResponseEntity<ApiResponse<MeetingDetailResponse>> getMeetingById(@PathVariable Long meetingId,
+                                                                             WebRequest webRequest) {
+
+        // 모임이 없으면 검증자 없이 조회하여 기존과 같이 MEETING_NOT_FOUND 응답
+        MeetingVersionService.Validators validators = meetingVersionService.getDetailValidators(meetingId);
+        if (validators != null && webRequest.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
 
         MeetingDetailResponse meetingDetail = findMeetingService.findMeetingById(meetingId);
 
         ApiResponse<MeetingDetailResponse> apiResponse = ApiResponse.success("모임 상세 정보가 성공적으로 조회되었습니다.", meetingDetail);
 
-        return ResponseEntity.ok(apiResponse);
+        return conditional(validators).body(apiResponse);
+    }
+
+    /**
+     * 모임 상세 일괄 조회 API
+     *
+     * 카드 그리드/챗봇 대화 기록처럼 여러 모임을 한 번에 표시할 때, 모임마다 상세 API를 호출하지 않고
+     * 한 번의 요청으로 조회합니다. 존재하지 않거나 삭제된 모임은 결과에서 제외됩니다.
+     *
+     * @param ids 조회할 모임 ID 목록 (예: ?ids=1,2,3, 최대 50개)
+     * @return 요청한 ID 순서대로 정렬된 모임 상세 정보 목록
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<List<MeetingDetailResponse>>> getMeetingsByIds(@RequestParam List<Long> ids) {
+
+        List<MeetingDetailResponse> meetings = findMeetingService.findMeetingsByIds(ids);
+
+        return ResponseEntity.ok(ApiResponse.success("모임 상세 정보 목록이 성공적으로 조회되었습니다.", meetings));
+    }
+
+    /**
+     * 조건부 GET 응답 헤더를 설정합니다.
+     * no-cache로 캐시 저장은 허용하되 매번 ETag로 재검증하도록 합니다.
+     */
+    private ResponseEntity.BodyBuilder conditional(MeetingVersionService.Validators validators) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (validators == null) {
+            return builder;
+        }
+        builder.eTag(validators.etag());
+        if (validators.lastModified() > 0) {
+            builder.lastModified(validators.lastModified());
+        }
+        return builder;
     }
 
 
@@ -136,10 +340,11 @@ public class MeetingController {
      * @param request   수정할 모임 데이터
      * @return 수정된 모임 ID를 포함한 응답
      */
+    @Idempotent
     @PutMapping("/update/{meetingId}")
     public ResponseEntity<ApiResponse<MeetingUpdateResponse>> updateMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId,
+            @LoginProviderId String providerId,
             @Valid @RequestBody MeetingUpdateRequest request) {
 
         Meeting updatedMeeting = updateMeetingService.updateMeeting(meetingId, request, providerId);
@@ -155,10 +360,11 @@ public class MeetingController {
      * @param meetingId 삭제할 모임의 ID
      * @return 성공 응답
      */
+    @Idempotent
     @DeleteMapping("/delete/{meetingId}")
     public ResponseEntity<ApiResponse<Void>> deleteMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
 
         deleteMeetingService.deleteMeeting(meetingId, providerId);
@@ -186,7 +392,7 @@ public class MeetingController {
             @RequestParam int page,
             @RequestParam int size,
             @RequestParam MeetingParticipant.ApplicationStatus status,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
         log.info("참여한 모임 목록 조회 API 호출 - 페이지: {}, 크기: {}, 상태: {}", page, size, status);
 
         // 페이지 변환
@@ -213,10 +419,11 @@ public class MeetingController {
      * @param providerId 현재 로그인한 사용자의 ID (자동 주입)
      * @return 성공 응답
      */
+    @Idempotent
     @PostMapping("/{meetingId}/join")
     public ResponseEntity<ApiResponse<Void>> joinMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
         joinMeetingService.joinMeeting(meetingId, providerId);
 
@@ -234,7 +441,7 @@ public class MeetingController {
     @GetMapping("/{meetingId}/participants")
     public ResponseEntity<ApiResponse<ParticipantListResponse>> getParticipants(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
 
         // 호출하는 서비스 메서드 이름만 수정
         ParticipantListResponse participants = joinMeetingService.getParticipants(meetingId, providerId);
@@ -256,11 +463,12 @@ public class MeetingController {
      * @param hostProviderId 현재 인증된 사용자의 고유 식별자(ID)로서, 주최자(호스트)를 나타냅니다.
      * @return 참가 신청 승인 작업이 성공적으로 완료되었음을 나타내는 응답 객체입니다.
      */
+    @Idempotent
     @PostMapping("/{meetingId}/participants/{participantId}/approve")
     public ResponseEntity<ApiResponse<Void>> approveParticipant(
             @PathVariable Long meetingId,
             @PathVariable Long participantId,
-            @AuthenticationPrincipal String hostProviderId) {
+            @LoginProviderId String hostProviderId) {
         manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId);
         return ResponseEntity.ok(ApiResponse.success("참가 신청이 승인되었습니다.", null));
     }
@@ -268,15 +476,30 @@ public class MeetingController {
     /**
      * 참가자의 모임 참가 신청을 거절하는 API
      */
+    @Idempotent
     @PostMapping("/{meetingId}/participants/{participantId}/reject")
     public ResponseEntity<ApiResponse<Void>> rejectParticipant(
             @PathVariable Long meetingId,
             @PathVariable Long participantId,
-            @AuthenticationPrincipal String hostProviderId) {
+            @LoginProviderId String hostProviderId) {
         manageMeetingService.rejectParticipant(meetingId, participantId, hostProviderId);
         return ResponseEntity.ok(ApiResponse.success("참가 신청이 거절되었습니다.", null));
     }
 
+    /**
+     * 여러 참가 신청을 한 번에 승인/거절하는 API
+     * 일부 신청이 실패해도(정원 초과, 이미 처리됨 등) 나머지는 처리되며, 신청별 결과를 함께 반환합니다.
+     */
+    @Idempotent
+    @PostMapping("/{meetingId}/participants/decisions")
+    public ResponseEntity<ApiResponse<ParticipantDecisionResponse>> decideParticipants(
+            @PathVariable Long meetingId,
+            @Valid @RequestBody ParticipantDecisionRequest request,
+            @LoginProviderId String hostProviderId) {
+        ParticipantDecisionResponse response = manageMeetingService.decideParticipants(meetingId, request, hostProviderId);
+        return ResponseEntity.ok(ApiResponse.success("참가 신청이 일괄 처리되었습니다.", response));
+    }
+
     /**
      * 모집을 마감하는 API 핸들러 메서드입니다.
      *
@@ -284,13 +507,14 @@ public class MeetingController {
      * 성공적으로 실행된 경우, 모집이 마감되었다는 메시지를 포함한 응답을 반환합니다.
      *
      * @param meetingId 모집을 마감할 모임의 고유 식별자 (PathVariable로 전달됨)
-     * @param hostProviderId 현재 요청을 보낸 사용자의 ID로, 인증 정보에서 추출됨 (AuthenticationPrincipal로 전달됨)
+     * @param hostProviderId 현재 요청을 보낸 사용자의 ID로, 인증 정보에서 추출됨 (LoginProviderId로 전달됨)
      * @return 모집 마감 성공 메시지가 포함된 응답
      */
+    @Idempotent
     @PostMapping("/{meetingId}/close-recruitment")
     public ResponseEntity<ApiResponse<Void>> closeRecruitment(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String hostProviderId) {
+            @LoginProviderId String hostProviderId) {
         manageMeetingService.closeRecruitment(meetingId, hostProviderId);
         return ResponseEntity.ok(ApiResponse.success("모집이 마감되었습니다.", null));
     }
@@ -305,10 +529,11 @@ public class MeetingController {
      * @param providerId 인증된 사용자의 고유 식별자 (authentication principal)
      * @return ApiResponse 객체를 감싼 ResponseEntity로 처리 결과를 반환합니다. 성공적으로 처리된 경우 "모임에서 탈퇴하였습니다." 메시지가 포함됩니다.
      */
+    @Idempotent
     @PostMapping("/{meetingId}/leave")
     public ResponseEntity<ApiResponse<Void>> leaveMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String providerId) {
+            @LoginProviderId String providerId) {
         manageMeetingService.leaveMeeting(meetingId, providerId);
         return ResponseEntity.ok(ApiResponse.success("모임에서 탈퇴하였습니다.", null));
     }
@@ -321,10 +546,11 @@ public class MeetingController {
      * @param hostProviderId 완료 처리를 요청하는 호스트 사용자의 식별자(ID)
      * @return 모임 완료 처리 결과를 포함하는 ResponseEntity 객체
      */
+    @Idempotent
     @PostMapping("/{meetingId}/complete")
     public ResponseEntity<ApiResponse<Void>> completeMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal String hostProviderId) {
+            @LoginProviderId String hostProviderId) {
         manageMeetingService.completeMeeting(meetingId, hostProviderId);
         return ResponseEntity.ok(ApiResponse.success("모임이 종료되었습니다.", null));
     }
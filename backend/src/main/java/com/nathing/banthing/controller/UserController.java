@@ -1,12 +1,14 @@
 package com.nathing.banthing.controller;
 
+import com.nathing.banthing.config.CurrentUser;
+import com.nathing.banthing.config.LoginProviderId;
 import com.nathing.banthing.dto.common.ApiResponse;
 import com.nathing.banthing.dto.response.UserInfoResponse;
 import com.nathing.banthing.dto.response.UserResponse;
+import com.nathing.banthing.entity.User;
 import com.nathing.banthing.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,8 +25,8 @@ import org.springframework.web.bind.annotation.RestController;
  * - PUT /api/users/me/agreement: 현재 인증된 사용자의 약관 동의 상태 업데이트
  *
  * 주의:
- * 각 메서드는 `@AuthenticationPrincipal` 어노테이션을 사용하여 인증된 사용자의 정보를
- * 메서드에 주입받아 처리합니다.
+ * 각 메서드는 `@LoginProviderId`(@AuthenticationPrincipal 메타 어노테이션)를 사용하여 인증된 사용자의 정보를
+ * 메서드에 주입받아 처리합니다. 사용자 엔티티가 필요하면 `@CurrentUser`로 요청당 한 번 조회한 User를 주입받습니다.
  *
  * @author 강관주
  * @since 2025-09-15
@@ -37,9 +39,9 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping("/me")
-    public ResponseEntity<?> me(@AuthenticationPrincipal String subject) {
-        // subject는 OAuth2 nameAttributeKey(google: sub, kakao: id) → providerId로 사용 중
-        UserInfoResponse dto = userService.findMeByProviderId(subject);
+    public ResponseEntity<?> me(@CurrentUser User user) {
+        // JWT subject(OAuth2 nameAttributeKey, kakao: id) = providerId로 찾은 사용자
+        UserInfoResponse dto = UserInfoResponse.from(user);
 
         ApiResponse<UserInfoResponse> apiResponse = ApiResponse.success("사용자의 정보가 성공적으로 조회되었습니다.", dto);
 
@@ -47,7 +49,7 @@ public class UserController {
     }
 
     @PutMapping("/me/agreement")
-    public ResponseEntity<?> updateAgreement(@AuthenticationPrincipal String subject) {
+    public ResponseEntity<?> updateAgreement(@LoginProviderId String subject) {
         // 사용자의 동의 상태를 업데이트
         UserResponse dto = userService.updateUserAgreement(subject);
 
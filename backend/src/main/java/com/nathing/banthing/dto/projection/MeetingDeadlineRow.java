@@ -0,0 +1,18 @@
+package com.nathing.banthing.dto.projection;
+
+import com.nathing.banthing.entity.Meeting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 마감 큐(MeetingDeadlineQueue)에 올릴 모임의 상태와 모임 시간만 담은 JPQL 생성자 프로젝션입니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record MeetingDeadlineRow(
+        Long meetingId,
+        Meeting.MeetingStatus status,
+        LocalDateTime meetingDate
+) {
+}
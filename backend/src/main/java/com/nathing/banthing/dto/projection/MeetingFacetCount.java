@@ -0,0 +1,20 @@
+package com.nathing.banthing.dto.projection;
+
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+
+/**
+ * 패싯 집계용 프로젝션입니다. (마트, 모임 상태) 조합별 모임 수를 담습니다.
+ * 마트가 브랜드를 결정하므로 이 조합만으로 브랜드/마트/상태 패싯을 모두 계산할 수 있습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record MeetingFacetCount(
+        Long martId,
+        String martName,
+        Mart.MartBrand martBrand,
+        Meeting.MeetingStatus status,
+        Long count
+) {
+}
@@ -0,0 +1,30 @@
+package com.nathing.banthing.dto.projection;
+
+import com.nathing.banthing.entity.Meeting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여 모임 목록(프로필) 조회용 JPQL 생성자 프로젝션입니다.
+ *
+ * 모임/마트/호스트에서 응답에 필요한 컬럼만 조회하며, 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+ * 승인된 참여자 목록은 {@link ParticipantSummaryRow}로 별도 IN 쿼리에서 채웁니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record MeetingProfileRow(
+        Long meetingId,
+        String title,
+        String description,
+        String martName,
+        LocalDateTime meetingDate,
+        Integer currentParticipants,
+        Integer maxParticipants,
+        Meeting.MeetingStatus status,
+        String thumbnailImageUrl,
+        String hostNickname,
+        String hostProfileImageUrl,
+        Integer hostTrustScore
+) {
+}
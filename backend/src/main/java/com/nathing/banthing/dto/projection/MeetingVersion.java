@@ -0,0 +1,32 @@
+package com.nathing.banthing.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단에 사용하는 모임 데이터 버전입니다.
+ *
+ * 응답 본문을 만들지 않고도 내용이 바뀌었는지 알 수 있도록,
+ * 응답에 영향을 주는 행들의 최대 수정 시각과 행 수만 가볍게 집계합니다.
+ * (행 수는 수정 시각을 남기지 않는 삭제/탈퇴를 감지하기 위해 사용합니다.)
+ *
+ * @param lastModified 응답에 포함된 데이터의 최대 수정 시각 (데이터가 없으면 null)
+ * @param rowCount     응답에 영향을 주는 행 수
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record MeetingVersion(LocalDateTime lastModified, Long rowCount) {
+
+    public MeetingVersion(LocalDateTime meetingUpdatedAt, LocalDateTime hostUpdatedAt,
+                          LocalDateTime participantsUpdatedAt, LocalDateTime participantUsersUpdatedAt,
+                          Long participantCount) {
+        this(latest(latest(meetingUpdatedAt, hostUpdatedAt), latest(participantsUpdatedAt, participantUsersUpdatedAt)),
+                participantCount);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,17 @@
+package com.nathing.banthing.dto.projection;
+
+import com.nathing.banthing.entity.MeetingParticipant;
+
+/**
+ * 여러 모임의 참여자 요약 정보를 한 번에 조회하기 위한 JPQL 생성자 프로젝션입니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public record ParticipantSummaryRow(
+        Long meetingId,
+        String nickname,
+        String profileImageUrl,
+        MeetingParticipant.ParticipantType participantType
+) {
+}
@@ -0,0 +1,47 @@
+package com.nathing.banthing.dto.request;
+
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MeetingSearchCondition 클래스는 모임 패싯 검색의 필터 조건을 표현하는 DTO(Data Transfer Object)입니다.
+ * 쿼리 파라미터로 바인딩되며(@ModelAttribute), 지정하지 않은 조건은 필터에서 제외됩니다.
+ *
+ * 필드 설명:
+ * - brands: 마트 브랜드 목록 (예: brands=COSTCO&brands=TRADERS)
+ * - martIds: 마트 ID 목록
+ * - statuses: 모임 상태 목록 (비어 있으면 취소된 모임을 제외한 전체)
+ * - from / to: 모임 일시 범위 (ISO-8601, 양 끝 포함)
+ * - minFreeSeats: 최소 남은 자리 수 (최대 인원 - 현재 인원)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSearchCondition {
+
+    private List<Mart.MartBrand> brands;
+
+    private List<Long> martIds;
+
+    private List<Meeting.MeetingStatus> statuses;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private Integer minFreeSeats;
+}
@@ -0,0 +1,47 @@
+package com.nathing.banthing.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ParticipantDecisionRequest 클래스는 호스트가 여러 참가 신청을 한 번에 승인/거절할 때 사용하는 요청 DTO입니다.
+ *
+ * 필드 설명:
+ * - decisions: 처리할 참가 신청 목록 (1 ~ 100건). 승인은 목록 순서대로 남은 정원만큼만 처리됩니다.
+ *   같은 참가 신청이 여러 번 포함되면 처음 것만 처리합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantDecisionRequest {
+
+    @NotEmpty(message = "처리할 참가 신청 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다.")
+    private List<@Valid Item> decisions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "참가 신청 ID는 필수입니다.")
+        private Long participantId;
+
+        @NotNull(message = "처리 결과(APPROVE/REJECT)는 필수입니다.")
+        private Decision decision;
+    }
+
+    public enum Decision {
+        APPROVE, REJECT
+    }
+}
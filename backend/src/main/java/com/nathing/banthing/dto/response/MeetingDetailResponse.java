@@ -1,5 +1,7 @@
 package com.nathing.banthing.dto.response;
 
+import com.nathing.banthing.dto.projection.MeetingProfileRow;
+import com.nathing.banthing.dto.projection.ParticipantSummaryRow;
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
 import lombok.Getter;
@@ -50,6 +52,29 @@ public class MeetingDetailResponse {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 프로젝션 조회 결과로 응답을 만드는 생성자입니다. (참여 모임 목록용)
+     *
+     * @param row                  모임/마트/호스트 컬럼 프로젝션
+     * @param approvedParticipants 해당 모임의 승인된 참여자 프로젝션 목록
+     */
+    public MeetingDetailResponse(MeetingProfileRow row, List<ParticipantSummaryRow> approvedParticipants) {
+        this.meetingId = row.meetingId();
+        this.title = row.title();
+        this.description = row.description();
+        this.martName = row.martName();
+        this.meetingDate = row.meetingDate();
+        this.currentParticipants = row.currentParticipants();
+        this.maxParticipants = row.maxParticipants();
+        this.status = row.status().name();
+        this.thumbnailImageUrl = row.thumbnailImageUrl();
+
+        this.hostInfo = new HostInfo(row.hostNickname(), row.hostProfileImageUrl(), row.hostTrustScore());
+        this.participants = approvedParticipants.stream()
+                .map(ParticipantInfo::new)
+                .collect(Collectors.toList());
+    }
+
     // 호스트 정보를 담을 내부 클래스
     @Getter
     private static class HostInfo {
@@ -62,6 +87,12 @@ public class MeetingDetailResponse {
             this.nickname = host.getNickname();
             this.profileImageUrl = host.getProfileImageUrl();
         }
+
+        public HostInfo(String nickname, String profileImageUrl, int trustScore) {
+            this.nickname = nickname;
+            this.profileImageUrl = profileImageUrl;
+            this.trustScore = trustScore;
+        }
     }
 
     // 참여자 정보를 담을 내부 클래스
@@ -76,5 +107,11 @@ public class MeetingDetailResponse {
             this.profileImageUrl = participant.getUser().getProfileImageUrl();
             this.participantType = participant.getParticipantType().name();
         }
+
+        public ParticipantInfo(ParticipantSummaryRow row) {
+            this.nickname = row.nickname();
+            this.profileImageUrl = row.profileImageUrl();
+            this.participantType = row.participantType().name();
+        }
     }
 }
\ No newline at end of file
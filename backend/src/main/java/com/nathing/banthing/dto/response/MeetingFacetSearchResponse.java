@@ -0,0 +1,44 @@
+package com.nathing.banthing.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MeetingFacetSearchResponse 클래스는 패싯 검색 결과(모임 목록 + 패싯별 건수)를 응답하기 위한 DTO(Data Transfer Object)입니다.
+ *
+ * 주요 필드:
+ * - content: 현재 페이지의 모임 목록 (최신순)
+ * - page / size / totalElements: 페이징 정보 (totalElements는 모든 필터를 적용한 전체 건수)
+ * - brandCounts / statusCounts / martCounts: 패싯별 건수
+ *   각 패싯은 자기 자신을 제외한 나머지 필터를 적용한 건수이므로, 클라이언트는 선택지를 바꿨을 때의 결과 수를 미리 보여줄 수 있습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MeetingFacetSearchResponse {
+    private List<MeetingSimpleResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Long> brandCounts;
+    private Map<String, Long> statusCounts;
+    private List<MartFacet> martCounts;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class MartFacet {
+        private Long martId;
+        private String martName;
+        private long count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.nathing.banthing.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * MeetingFeedResponse 클래스는 커서 기반으로 페이징된 모임 피드를 응답으로 반환하기 위한 DTO(Data Transfer Object)입니다.
+ *
+ * 주요 필드:
+ * - content: 현재 페이지의 모임 목록 (최신순)
+ * - nextCursor: 다음 페이지를 요청할 때 그대로 전달하는 불투명 커서 (마지막 페이지이면 null)
+ * - hasNext: 다음 페이지 존재 여부
+ * - size: 요청한 페이지 크기
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MeetingFeedResponse {
+    private List<MeetingSimpleResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
@@ -0,0 +1,49 @@
+package com.nathing.banthing.dto.response;
+
+import com.nathing.banthing.entity.MeetingCard;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * MeetingNearbyResponse 클래스는 "내 주변 모임" 조회 결과를 응답하기 위한 DTO(Data Transfer Object)입니다.
+ * <p>
+ * 지도 화면에서 사용하므로 목록 응답({@link MeetingSimpleResponse})에서 설명(description)을 제외해 응답 크기를 줄이고,
+ * 서버에서 계산한 중심 좌표로부터의 거리(distanceKm)를 함께 제공합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+public class MeetingNearbyResponse {
+
+    private final Long meetingId;
+    private final Long martId;
+    private final String title;
+    private final String martName;
+    private final LocalDateTime meetingDate;
+    private final Integer currentParticipants;
+    private final Integer maxParticipants;
+    private final String status;
+    private final String thumbnailImageUrl;
+    private final BigDecimal latitude;
+    private final BigDecimal longitude;
+    private final double distanceKm;
+
+    public MeetingNearbyResponse(MeetingCard card, double distanceKm) {
+        this.meetingId = card.getMeetingId();
+        this.martId = card.getMartId();
+        this.title = card.getTitle();
+        this.martName = card.getMartName();
+        this.meetingDate = card.getMeetingDate();
+        this.currentParticipants = card.getApprovedCount();
+        this.maxParticipants = card.getMaxParticipants();
+        this.status = card.getStatus().name();
+        this.thumbnailImageUrl = card.getThumbnailImageUrl();
+        this.latitude = card.getLatitude();
+        this.longitude = card.getLongitude();
+        // 소수점 둘째 자리(10m 단위)까지만 전달
+        this.distanceKm = Math.round(distanceKm * 100) / 100.0;
+    }
+}
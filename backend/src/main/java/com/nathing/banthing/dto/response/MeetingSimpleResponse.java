@@ -1,6 +1,7 @@
 package com.nathing.banthing.dto.response;
 
 import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingCard;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -20,6 +21,8 @@ import java.time.LocalDateTime;
  * <p>
  * 생성자:
  * - `MeetingSimpleResponse(Meeting meeting)`는 전달받은 Meeting 객체를 기반으로 정보를 초기화합니다.
+ * - `MeetingSimpleResponse(MeetingCard card)`는 모임 카드 읽기 모델을 기반으로 정보를 초기화합니다. (모임 피드)
+ * - 컬럼 단위 생성자는 JPQL 생성자 프로젝션(SELECT new ...)용으로, 엔티티 없이 필요한 컬럼만으로 초기화합니다.
  * <p>
  * 필드 설명:
  * - meetingId: 모임의 고유 식별자
@@ -64,4 +67,41 @@ public class MeetingSimpleResponse {
         this.latitude = meeting.getMart().getLatitude();
         this.longitude = meeting.getMart().getLongitude();
     }
+
+    public MeetingSimpleResponse(MeetingCard card) {
+        this.meetingId = card.getMeetingId();
+        this.martId = card.getMartId();
+        this.title = card.getTitle();
+        this.description = card.getDescription();
+        this.martName = card.getMartName();
+        this.meetingDate = card.getMeetingDate();
+        this.currentParticipants = card.getApprovedCount();
+        this.maxParticipants = card.getMaxParticipants();
+        this.status = card.getStatus().name();
+        this.thumbnailImageUrl = card.getThumbnailImageUrl();
+        this.latitude = card.getLatitude();
+        this.longitude = card.getLongitude();
+    }
+
+    /**
+     * JPQL 생성자 프로젝션용 생성자
+     * 목록 조회 시 Meeting/Mart 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 바로 DTO로 만듭니다.
+     */
+    public MeetingSimpleResponse(Long meetingId, Long martId, String title, String description, String martName,
+                                 LocalDateTime meetingDate, Integer currentParticipants, Integer maxParticipants,
+                                 Meeting.MeetingStatus status, String thumbnailImageUrl,
+                                 BigDecimal latitude, BigDecimal longitude) {
+        this.meetingId = meetingId;
+        this.martId = martId;
+        this.title = title;
+        this.description = description;
+        this.martName = martName;
+        this.meetingDate = meetingDate;
+        this.currentParticipants = currentParticipants;
+        this.maxParticipants = maxParticipants;
+        this.status = status.name();
+        this.thumbnailImageUrl = thumbnailImageUrl;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.nathing.banthing.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * MeetingSuggestResponse 클래스는 검색어 자동완성 제안 한 건을 응답하기 위한 DTO(Data Transfer Object)입니다.
+ *
+ * 필드 설명:
+ * - text: 제안 검색어 (모임 제목, 마트명 또는 인기 검색어)
+ * - type: 제안 종류 (MART, TITLE, KEYWORD)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingSuggestResponse {
+    private final String text;
+    private final String type;
+}
@@ -0,0 +1,55 @@
+package com.nathing.banthing.dto.response;
+
+import com.nathing.banthing.dto.request.ParticipantDecisionRequest;
+import com.nathing.banthing.exception.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ParticipantDecisionResponse 클래스는 참가 신청 일괄 승인/거절 결과를 응답하기 위한 DTO입니다.
+ *
+ * 요청 순서대로 참가 신청별 처리 결과(results)를 담고, 실패한 항목에는 에러 코드와 메시지를 함께 제공합니다.
+ * 처리 후 모임의 현재 인원/정원/상태도 함께 반환하여 화면을 다시 조회하지 않아도 되도록 합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@Builder
+public class ParticipantDecisionResponse {
+
+    private final int approvedCount;
+    private final int rejectedCount;
+    private final int failedCount;
+    private final Integer currentParticipants;
+    private final Integer maxParticipants;
+    private final String status;
+    private final List<Result> results;
+
+    @Getter
+    public static class Result {
+        private final Long participantId;
+        private final ParticipantDecisionRequest.Decision decision;
+        private final boolean success;
+        private final String error;
+        private final String message;
+
+        private Result(Long participantId, ParticipantDecisionRequest.Decision decision, ErrorCode errorCode) {
+            this.participantId = participantId;
+            this.decision = decision;
+            this.success = errorCode == null;
+            this.error = errorCode == null ? null : errorCode.getCode();
+            this.message = errorCode == null ? null : errorCode.getMessage();
+        }
+
+        public static Result succeeded(Long participantId, ParticipantDecisionRequest.Decision decision) {
+            return new Result(participantId, decision, null);
+        }
+
+        public static Result failed(Long participantId, ParticipantDecisionRequest.Decision decision, ErrorCode errorCode) {
+            return new Result(participantId, decision, errorCode);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.nathing.banthing.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키(Idempotency-Key)로 처리한 쓰기 요청의 응답을 보관하는 엔티티입니다.
+ *
+ * 같은 사용자가 같은 키로 다시 요청하면 서비스를 다시 실행하지 않고 여기에 저장된 응답을 그대로 돌려줍니다.
+ * 메모리 캐시(IdempotencyStore)에서 밀려났거나 다른 서버가 처리한 요청도 이 테이블로 찾을 수 있으며,
+ * 만료(expiresAt)된 행은 주기적으로 삭제됩니다.
+ *
+ * 요청을 처리하기 전에 PENDING 행을 먼저 INSERT 하므로 (provider_id, idempotency_key) 유니크 제약이
+ * 서버에 관계없이 같은 키의 동시 요청을 하나만 통과시킵니다. 처리에 성공하면 COMPLETED로 바꾸고 응답을 채우며,
+ * 실패하면 행을 삭제합니다. 행은 IdempotencyStore가 조건부 UPDATE / INSERT / DELETE로만 변경합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Entity
+// 인덱스는 Flyway 마이그레이션(db/migration)에서 관리합니다.
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_provider_key",
+                columnNames = {"provider_id", "idempotency_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idempotency_id")
+    private Long idempotencyId;
+
+    // 요청한 사용자 (키는 사용자별로 구분합니다.)
+    @Column(name = "provider_id", nullable = false)
+    private String providerId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // 키를 처음 사용한 요청 (예: "POST /api/meetings/1/join", 본문이 있으면 뒤에 본문 해시)
+    @Column(name = "request_fingerprint", nullable = false, length = 500)
+    private String requestFingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private State state;
+
+    // 응답 상태 코드 (처리 중이면 null)
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    // 응답 본문 (JSON)
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum State {
+        PENDING,    // 처리 중 (expiresAt까지 끝나지 않으면 다른 요청이 가져갈 수 있음)
+        COMPLETED   // 처리 완료, 응답 저장됨
+    }
+}
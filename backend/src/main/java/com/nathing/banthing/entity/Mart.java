@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 // 1. 마트 정보 엔터티
+// 거의 바뀌지 않는 참조 데이터이므로 2차 캐시에 보관합니다. (리전: mart)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mart")
 @Table(name = "marts", uniqueConstraints = {
         @UniqueConstraint(name = "uk_mart_name", columnNames = {"mart_name"})
 })
@@ -5,6 +5,8 @@ import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -15,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 인덱스(부분 인덱스 포함)는 Flyway 마이그레이션(db/migration)에서 관리합니다.
 @Table(name = "meetings")
 @Getter
 @Setter
@@ -22,8 +25,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"hostUser", "mart", "participants", "suggestions", "feedbacks"})
-@SQLDelete(sql = "UPDATE meetings SET deleted_at = NOW() WHERE meeting_id = ?")
+@SQLDelete(sql = "UPDATE meetings SET deleted_at = NOW(), version = version + 1 WHERE meeting_id = ? AND version = ?")
 @Where(clause = "deleted_at IS NULL")
+// 현재 인원은 0 이상, 정원 이하 (운영 DB는 V4 마이그레이션에서 같은 이름으로 추가)
+@Check(name = "ck_meetings_current_participants",
+        constraints = "current_participants >= 0 AND current_participants <= max_participants")
 public class Meeting {
 
     @Id
@@ -69,6 +75,12 @@ public class Meeting {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 낙관적 락 버전 (동시 수정 시 나중 커밋이 실패하고 @RetryOnConflict로 재시도)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
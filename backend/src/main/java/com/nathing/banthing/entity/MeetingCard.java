@@ -0,0 +1,138 @@
+package com.nathing.banthing.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록/카드 화면 전용 비정규화 읽기 모델입니다.
+ *
+ * 목록을 그릴 때마다 meetings, marts, users(호스트)를 조인하지 않도록
+ * 카드에 필요한 모임/마트/호스트 컬럼을 한 행에 모아 둡니다.
+ * 원본은 항상 Meeting이며, 모임 쓰기 서비스가 발행하는 MeetingChangedEvent를
+ * MeetingCardProjector가 같은 트랜잭션(커밋 직전)에서 받아 이 행을 갱신합니다.
+ * 삭제된 모임은 카드에서도 삭제되므로 별도의 deleted_at 조건이 필요 없습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Entity
+// 인덱스는 Flyway 마이그레이션(db/migration)에서 관리합니다.
+@Table(name = "meeting_cards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingCard {
+
+    // 원본 모임 ID (자동 생성하지 않음)
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "meeting_date", nullable = false)
+    private LocalDateTime meetingDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private Meeting.MeetingStatus status;
+
+    // 승인된 참여 인원 (호스트 포함, Meeting.currentParticipants)
+    @Column(name = "approved_count")
+    private Integer approvedCount;
+
+    @Column(name = "max_participants", nullable = false)
+    private Integer maxParticipants;
+
+    @Column(name = "thumbnail_image_url", length = 500)
+    private String thumbnailImageUrl;
+
+    // ===== 마트 =====
+    @Column(name = "mart_id", nullable = false)
+    private Long martId;
+
+    @Column(name = "mart_name", nullable = false, length = 100)
+    private String martName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mart_brand", nullable = false)
+    private Mart.MartBrand martBrand;
+
+    @Column(name = "latitude", nullable = false, precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", nullable = false, precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    // ===== 호스트 =====
+    @Column(name = "host_user_id", nullable = false)
+    private Long hostUserId;
+
+    @Column(name = "host_nickname", nullable = false, length = 50)
+    private String hostNickname;
+
+    @Column(name = "host_profile_image_url", length = 255)
+    private String hostProfileImageUrl;
+
+    @Column(name = "host_trust_score", nullable = false)
+    private Integer hostTrustScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "host_trust_grade", nullable = false)
+    private TrustGrade hostTrustGrade;
+
+    // 원본 모임의 생성/수정 시각 (목록 정렬 및 동기화 확인용)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MeetingCard(Meeting meeting) {
+        this.meetingId = meeting.getMeetingId();
+        apply(meeting);
+    }
+
+    /**
+     * 원본 모임(마트/호스트 포함)의 현재 상태로 카드 내용을 덮어씁니다.
+     */
+    public void apply(Meeting meeting) {
+        this.title = meeting.getTitle();
+        this.description = meeting.getDescription();
+        this.meetingDate = meeting.getMeetingDate();
+        this.status = meeting.getStatus();
+        this.approvedCount = meeting.getCurrentParticipants();
+        this.maxParticipants = meeting.getMaxParticipants();
+        this.thumbnailImageUrl = meeting.getThumbnailImageUrl();
+        this.createdAt = meeting.getCreatedAt();
+        this.updatedAt = meeting.getUpdatedAt();
+
+        Mart mart = meeting.getMart();
+        this.martId = mart.getMartId();
+        this.martName = mart.getMartName();
+        this.martBrand = mart.getMartBrand();
+        this.latitude = mart.getLatitude();
+        this.longitude = mart.getLongitude();
+
+        applyHost(meeting.getHostUser());
+    }
+
+    /**
+     * 호스트의 프로필/신뢰도만 갱신합니다.
+     */
+    public void applyHost(User host) {
+        this.hostUserId = host.getUserId();
+        this.hostNickname = host.getNickname();
+        this.hostProfileImageUrl = host.getProfileImageUrl();
+        this.hostTrustScore = host.getTrustScore();
+        this.hostTrustGrade = host.getTrustGrade();
+    }
+}
@@ -0,0 +1,50 @@
+package com.nathing.banthing.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록의 변경 번호를 기록하는 엔티티입니다. (행 하나, 조건부 GET용)
+ *
+ * 모임 목록에 보이는 데이터를 바꾸는 트랜잭션은 커밋 직전(BEFORE_COMMIT)에 이 행의 changeSeq를 1 올립니다.
+ * 행 잠금 때문에 증가는 커밋 순서대로 일어나므로, 먼저 시작했거나 이전 시각을 기록한 쓰기가 나중에 커밋되어도
+ * 변경 번호는 항상 커밋할 때 커집니다. (MAX(updated_at)은 커밋 전에 정한 시각이라 이 순서를 보장하지 못합니다.)
+ * 행은 MeetingVersionService가 조건부 UPDATE / INSERT로만 변경합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "meeting_list_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingListVersion {
+
+    // 모임 목록 행 ID (행은 하나뿐입니다.)
+    public static final Long LIST_ID = 1L;
+
+    @Id
+    @Column(name = "list_id")
+    private Long listId;
+
+    // 커밋된 변경마다 1씩 증가하는 번호
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    // 마지막 변경 시각 (Last-Modified)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MeetingListVersion(LocalDateTime updatedAt) {
+        this.listId = LIST_ID;
+        this.changeSeq = 1L;
+        this.updatedAt = updatedAt;
+    }
+}
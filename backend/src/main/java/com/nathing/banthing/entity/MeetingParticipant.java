@@ -2,6 +2,7 @@ package com.nathing.banthing.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -46,6 +47,12 @@ public class MeetingParticipant {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 낙관적 락 버전 (동시 수정 시 나중 커밋이 실패하고 @RetryOnConflict로 재시도)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 
     public enum ParticipantType {
         HOST, PARTICIPANT
@@ -0,0 +1,48 @@
+package com.nathing.banthing.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업별 리스(lease)를 기록하는 엔티티입니다.
+ *
+ * 여러 서버가 같은 스케줄 작업을 동시에 실행하지 않도록, 작업마다 행 하나를 두고
+ * 만료(expiresAt)된 리스만 다른 서버가 가져갈 수 있게 합니다.
+ * 리스를 가져갈 때마다 펜싱 토큰(fencingToken)이 1씩 증가하므로,
+ * 리스가 만료된 뒤에도 작업을 계속하던 이전 소유자는 토큰이 달라져 쓰기 전에 걸러집니다.
+ * 행은 SchedulerLeaseManager가 조건부 UPDATE / INSERT로만 변경합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    // 작업 이름 (예: "meeting-start")
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // 리스를 가진 서버 식별자
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -5,6 +5,9 @@ import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.UsersRepository;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,8 +32,15 @@ import java.util.List;
  * @author 송민재
  * @since 2025-09-13
  * - 점수를 업데이트, 반환하는 메서드를 추가했습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ * - 요청마다 반복되는 사용자 조회를 줄이기 위해 2차 캐시(리전: user)에 보관합니다.
+ *   프로필/신뢰도/약관 동의 변경은 엔티티 변경 감지로 반영되므로 커밋 시 캐시도 함께 갱신됩니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(
         name = "users",
         uniqueConstraints = {
@@ -84,6 +94,12 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 낙관적 락 버전 (신뢰도 점수 등 동시 수정 시 나중 커밋이 실패하고 @RetryOnConflict로 재시도)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
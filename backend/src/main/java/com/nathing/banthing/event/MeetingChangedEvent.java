@@ -0,0 +1,49 @@
+package com.nathing.banthing.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 모임의 생성/수정/삭제/상태 변경을 알리는 애플리케이션 이벤트입니다.
+ *
+ * 모임 쓰기 서비스(Create/Update/Delete/Manage/Scheduler)가 발행하며,
+ * 검색 인덱스처럼 모임 데이터를 메모리에 들고 있는 컴포넌트가 구독하여 증분 갱신합니다.
+ * 이벤트에는 모임 ID만 담고, 구독자는 커밋 이후 최신 상태를 직접 다시 읽습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeetingChangedEvent {
+
+    private final Long meetingId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, STATUS_CHANGED, PARTICIPANTS_CHANGED
+    }
+
+    public static MeetingChangedEvent created(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, ChangeType.CREATED);
+    }
+
+    public static MeetingChangedEvent updated(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, ChangeType.UPDATED);
+    }
+
+    public static MeetingChangedEvent deleted(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, ChangeType.DELETED);
+    }
+
+    public static MeetingChangedEvent statusChanged(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, ChangeType.STATUS_CHANGED);
+    }
+
+    public static MeetingChangedEvent participantsChanged(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nathing.banthing.event;
+
+import com.nathing.banthing.entity.Meeting;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 여러 모임의 상태가 UPDATE 한 번으로 같은 상태로 바뀌었음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * 스케줄러의 일괄 상태 전환이 실제로 바뀐 모임 ID만 모아 청크마다 한 번 발행합니다.
+ * 모임 카드는 스케줄러가 같은 트랜잭션에서 이미 일괄 갱신하므로, 메모리 인덱스/캐시/마감 큐만 커밋 이후에
+ * 모임을 하나씩 다시 읽지 않고 새 상태로 반영합니다. (모임별 변경은 {@link MeetingChangedEvent} 참고)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MeetingsStatusChangedEvent {
+
+    private final List<Long> meetingIds;
+    private final Meeting.MeetingStatus status;
+}
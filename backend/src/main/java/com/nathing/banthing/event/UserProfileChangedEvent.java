@@ -0,0 +1,22 @@
+package com.nathing.banthing.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 사용자의 닉네임/프로필 이미지/신뢰도 점수 변경을 알리는 애플리케이션 이벤트입니다.
+ *
+ * 호스트 정보를 복사해 두는 읽기 모델(모임 카드)이 구독하여 해당 사용자가 호스트인 행을 갱신합니다.
+ * {@link MeetingChangedEvent}와 마찬가지로 사용자 ID만 담고, 구독자가 최신 상태를 직접 다시 읽습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
@@ -22,6 +22,11 @@ import lombok.Getter;
  * CANNOT_JOIN_AS_HOST("CANNOT_JOIN_AS_HOST", "모임 호스트는 참가 신청할 수 없습니다.", 400) - 고동현
  * PARTICIPANT_APPLICATION_STATUS_INVALID("PARTICIPANT_APPLICATION_STATUS_INVALID", "참가 신청 상태가 올바르지 않습니다.", 400)- 고동현
  * MEETING_IS_FULL("MEETING_IS_FULL", "모임 정원이 다 찼습니다.", 400) - 고동현
+ * INVALID_CURSOR("INVALID_CURSOR", "페이지 커서가 올바르지 않습니다.", 400), 목적 : 모임 피드 커서 형식 오류 - 고동현
+ * CONCURRENT_UPDATE("CONCURRENT_UPDATE", "다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요.", 409), 목적 : 낙관적 락 충돌 재시도 실패 - 고동현
+ * IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED", "이미 다른 요청에 사용된 Idempotency-Key입니다.", 422), 목적 : 멱등성 키를 다른 요청에 재사용 - 고동현
+ * IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY_REQUEST_IN_PROGRESS", "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", 409), 목적 : 멱등성 키 동시 요청 - 고동현
+ * SCHEDULER_LEASE_LOST("SCHEDULER_LEASE_LOST", "스케줄러 작업 리스가 만료되어 다른 서버로 넘어갔습니다.", 409), 목적 : 리스를 잃은 서버의 스케줄 작업 중단(펜싱) - 고동현
  */
 @Getter
 @AllArgsConstructor
@@ -42,6 +47,7 @@ public enum ErrorCode {
     INVALID_MEETING_STATUS("INVALID_MEETING_STATUS", "잘못된 모임 상태입니다.", 400),
     MEETING_FULL("MEETING_FULL", "모임 정원이 초과되었습니다.", 400),
     NOT_MEETING_HOST("NOT_MEETING_HOST", "모임 호스트가 아닙니다.", 403),
+    INVALID_CURSOR("INVALID_CURSOR", "페이지 커서가 올바르지 않습니다.", 400),
 
 
     // 기본 에러 코드
@@ -55,6 +61,10 @@ public enum ErrorCode {
     BUSINESS_ERROR("BUSINESS_ERROR", "비즈니스 로직 오류가 발생했습니다.", 400),
     VALIDATION_ERROR("VALIDATION_ERROR", "유효성 검사에 실패했습니다.", 400),
     DUPLICATE_RESOURCE("DUPLICATE_RESOURCE", "이미 존재하는 리소스입니다.", 409),
+    CONCURRENT_UPDATE("CONCURRENT_UPDATE", "다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요.", 409),
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED", "이미 다른 요청에 사용된 Idempotency-Key입니다.", 422),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY_REQUEST_IN_PROGRESS", "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", 409),
+    SCHEDULER_LEASE_LOST("SCHEDULER_LEASE_LOST", "스케줄러 작업 리스가 만료되어 다른 서버로 넘어갔습니다.", 409),
 
     // 인증 관련 에러 코드
     USER_NOT_FOUND("USER_NOT_FOUND", "사용자를 찾을 수 없습니다.", 404),
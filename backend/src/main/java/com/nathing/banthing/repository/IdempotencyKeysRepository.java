@@ -0,0 +1,96 @@
+package com.nathing.banthing.repository;
+
+import com.nathing.banthing.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키 응답 기록({@link IdempotencyKey}) 리포지토리입니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public interface IdempotencyKeysRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    /**
+     * 사용자의 만료되지 않은 멱등성 키 기록을 상태와 관계없이 조회합니다. (uk_idempotency_keys_provider_key 사용)
+     */
+    Optional<IdempotencyKey> findByProviderIdAndIdempotencyKeyAndExpiresAtAfter(
+            String providerId, String idempotencyKey, LocalDateTime now);
+
+    /**
+     * 키를 처리 중(PENDING)으로 선점합니다.
+     * 같은 키의 행이 이미 있으면(다른 요청이 먼저 선점했거나 처리를 끝냄) 유니크 제약 충돌(DataIntegrityViolationException)이 발생합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (provider_id, idempotency_key, request_fingerprint, state, created_at, expires_at) " +
+            "VALUES (:providerId, :idempotencyKey, :fingerprint, 'PENDING', :now, :expiresAt)", nativeQuery = true)
+    int insertPending(@Param("providerId") String providerId,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("fingerprint") String fingerprint,
+                      @Param("now") LocalDateTime now,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 기록(끝나지 않은 PENDING 포함)을 처리 중으로 다시 선점합니다.
+     * 두 요청이 동시에 실행해도 먼저 UPDATE한 쪽만 조건(expiresAt <= now)을 만족하므로 한 요청만 1을 반환합니다.
+     *
+     * @return 선점했으면 1, 만료된 기록이 없으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IdempotencyKey k SET k.state = com.nathing.banthing.entity.IdempotencyKey.State.PENDING, " +
+            "k.requestFingerprint = :fingerprint, k.statusCode = NULL, k.responseBody = NULL, " +
+            "k.createdAt = :now, k.expiresAt = :expiresAt " +
+            "WHERE k.providerId = :providerId AND k.idempotencyKey = :idempotencyKey AND k.expiresAt <= :now")
+    int takeOverIfExpired(@Param("providerId") String providerId,
+                          @Param("idempotencyKey") String idempotencyKey,
+                          @Param("fingerprint") String fingerprint,
+                          @Param("now") LocalDateTime now,
+                          @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 처리 중인 기록에 응답을 채우고 완료로 바꿉니다.
+     *
+     * @return 완료했으면 1, 처리 중 기록이 없으면(만료 후 다른 요청이 가져감) 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IdempotencyKey k SET k.state = com.nathing.banthing.entity.IdempotencyKey.State.COMPLETED, " +
+            "k.statusCode = :statusCode, k.responseBody = :responseBody, k.expiresAt = :expiresAt " +
+            "WHERE k.providerId = :providerId AND k.idempotencyKey = :idempotencyKey " +
+            "AND k.requestFingerprint = :fingerprint " +
+            "AND k.state = com.nathing.banthing.entity.IdempotencyKey.State.PENDING")
+    int complete(@Param("providerId") String providerId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("fingerprint") String fingerprint,
+                 @Param("statusCode") int statusCode,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 처리에 실패한 요청의 처리 중 기록을 삭제하여 같은 키로 다시 시도할 수 있게 합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k " +
+            "WHERE k.providerId = :providerId AND k.idempotencyKey = :idempotencyKey " +
+            "AND k.requestFingerprint = :fingerprint " +
+            "AND k.state = com.nathing.banthing.entity.IdempotencyKey.State.PENDING")
+    int deletePending(@Param("providerId") String providerId,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("fingerprint") String fingerprint);
+
+    /**
+     * 만료된 기록을 한 번에 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,205 @@
+package com.nathing.banthing.repository;
+
+import com.nathing.banthing.dto.projection.MeetingProfileRow;
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingCard;
+import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.entity.TrustGrade;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 모임 카드 읽기 모델({@link MeetingCard}) 리포지토리입니다.
+ *
+ * 목록/검색/주변 모임 조회는 이 테이블 하나만 읽으며, 조인이 필요 없습니다.
+ * (참여 모임 목록은 참여 관계를 찾기 위해 meeting_participants와만 조인합니다.)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public interface MeetingCardsRepository extends JpaRepository<MeetingCard, Long> {
+
+    /**
+     * 목록 응답(MeetingSimpleResponse)용 JPQL 생성자 프로젝션 (MeetingCard c 별칭을 전제로 합니다.)
+     */
+    String SIMPLE_RESPONSE_PROJECTION = "SELECT new com.nathing.banthing.dto.response.MeetingSimpleResponse(" +
+            "c.meetingId, c.martId, c.title, c.description, c.martName, c.meetingDate, " +
+            "c.approvedCount, c.maxParticipants, c.status, c.thumbnailImageUrl, " +
+            "c.latitude, c.longitude) ";
+
+    String KEYWORD_CONDITION = "(LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(c.martName) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+
+    /**
+     * 전체 모임 목록 (최신순, 제외 상태 제외)
+     */
+    @Query(SIMPLE_RESPONSE_PROJECTION +
+            "FROM MeetingCard c WHERE c.status <> :excludedStatus ORDER BY c.createdAt DESC")
+    List<MeetingSimpleResponse> findAllSimpleResponses(@Param("excludedStatus") Meeting.MeetingStatus excludedStatus);
+
+    /**
+     * 제목/설명/마트명 키워드 검색 (최신순, 제외 상태 제외)
+     */
+    @Query(SIMPLE_RESPONSE_PROJECTION +
+            "FROM MeetingCard c WHERE " + KEYWORD_CONDITION +
+            "AND c.status <> :excludedStatus ORDER BY c.createdAt DESC")
+    List<MeetingSimpleResponse> findSimpleResponsesByKeyword(@Param("keyword") String keyword,
+                                                             @Param("excludedStatus") Meeting.MeetingStatus excludedStatus);
+
+    /**
+     * pg_trgm GIN 인덱스를 사용하는 키워드 검색 (PostgreSQL 전용, 제외 상태 제외)
+     *
+     * ILIKE 조건은 카드의 제목/설명/마트명 gin_trgm_ops 인덱스로 처리되고(V12),
+     * word_similarity 점수(제목 3 / 설명 2 / 마트명 2 가중치)로 관련도 순 정렬합니다.
+     *
+     * @param keyword  원본 검색어 (유사도 계산용)
+     * @param pattern  LIKE 특수문자를 이스케이프한 '%keyword%' 패턴
+     * @param pageable 최대 결과 수 (offset은 항상 0)
+     */
+    @Query(SIMPLE_RESPONSE_PROJECTION +
+            "FROM MeetingCard c WHERE c.status <> :excludedStatus " +
+            "AND (c.title ILIKE :pattern OR c.description ILIKE :pattern OR c.martName ILIKE :pattern) " +
+            "ORDER BY CAST(FUNCTION('word_similarity', :keyword, c.title) AS Double) * 3 " +
+            "+ CAST(FUNCTION('word_similarity', :keyword, COALESCE(c.description, '')) AS Double) * 2 " +
+            "+ CAST(FUNCTION('word_similarity', :keyword, c.martName) AS Double) * 2 DESC, " +
+            "c.createdAt DESC")
+    List<MeetingSimpleResponse> searchSimpleByTrigram(@Param("keyword") String keyword,
+                                                      @Param("pattern") String pattern,
+                                                      @Param("excludedStatus") Meeting.MeetingStatus excludedStatus,
+                                                      Pageable pageable);
+
+    /**
+     * 모임 피드의 첫 페이지를 조회합니다. (최신순, 키셋 페이지네이션)
+     * 다음 페이지 커서에 생성 시각이 필요하므로 카드 엔티티를 조회합니다. (단일 테이블, 연관 로딩 없음)
+     *
+     * @param excludedStatus 피드에서 제외할 상태 (CANCELLED)
+     * @param pageable       LIMIT 지정을 위한 페이지 정보 (offset은 항상 0)
+     */
+    @Query("SELECT c FROM MeetingCard c WHERE c.status <> :excludedStatus " +
+            "ORDER BY c.createdAt DESC, c.meetingId DESC")
+    List<MeetingCard> findFeedFirstPage(@Param("excludedStatus") Meeting.MeetingStatus excludedStatus,
+                                        Pageable pageable);
+
+    /**
+     * 커서(createdAt, meetingId) 이후의 모임 피드를 조회합니다.
+     * 커서보다 먼저 생성된 모임만 조회하며, 생성 시각이 같으면 meetingId로 순서를 결정합니다.
+     */
+    @Query("SELECT c FROM MeetingCard c WHERE c.status <> :excludedStatus " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.meetingId < :meetingId)) " +
+            "ORDER BY c.createdAt DESC, c.meetingId DESC")
+    List<MeetingCard> findFeedAfterCursor(@Param("excludedStatus") Meeting.MeetingStatus excludedStatus,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("meetingId") Long meetingId,
+                                          Pageable pageable);
+
+    /**
+     * 여러 모임을 ID 목록(IN)으로 조회합니다. (반환 순서는 보장되지 않음)
+     */
+    @Query(SIMPLE_RESPONSE_PROJECTION + "FROM MeetingCard c WHERE c.meetingId IN :meetingIds")
+    List<MeetingSimpleResponse> findSimpleResponsesByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 키워드 검색 결과의 첫 페이지 (스트리밍 응답용, findFeedFirstPage의 키워드 검색 버전)
+     */
+    @Query("SELECT c FROM MeetingCard c WHERE " + KEYWORD_CONDITION +
+            "AND c.status <> :excludedStatus ORDER BY c.createdAt DESC, c.meetingId DESC")
+    List<MeetingCard> findFeedFirstPageByKeyword(@Param("keyword") String keyword,
+                                                 @Param("excludedStatus") Meeting.MeetingStatus excludedStatus,
+                                                 Pageable pageable);
+
+    /**
+     * 커서(createdAt, meetingId) 이후의 키워드 검색 결과 (스트리밍 응답용, findFeedAfterCursor의 키워드 검색 버전)
+     */
+    @Query("SELECT c FROM MeetingCard c WHERE " + KEYWORD_CONDITION +
+            "AND c.status <> :excludedStatus " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.meetingId < :meetingId)) " +
+            "ORDER BY c.createdAt DESC, c.meetingId DESC")
+    List<MeetingCard> findFeedAfterCursorByKeyword(@Param("keyword") String keyword,
+                                                   @Param("excludedStatus") Meeting.MeetingStatus excludedStatus,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("meetingId") Long meetingId,
+                                                   Pageable pageable);
+
+    /**
+     * 여러 마트의 특정 상태 모임 카드 (주변 모임 조회)
+     */
+    List<MeetingCard> findByMartIdInAndStatus(Collection<Long> martIds, Meeting.MeetingStatus status);
+
+    /**
+     * 사용자의 특정 참여 상태 모임 목록 (최신순, 페이징)
+     * 모임/마트/호스트 컬럼은 모두 카드에서 읽고, 참여 관계만 meeting_participants에서 찾습니다.
+     */
+    @Query(value = "SELECT new com.nathing.banthing.dto.projection.MeetingProfileRow(" +
+            "c.meetingId, c.title, c.description, c.martName, c.meetingDate, " +
+            "c.approvedCount, c.maxParticipants, c.status, c.thumbnailImageUrl, " +
+            "c.hostNickname, c.hostProfileImageUrl, c.hostTrustScore) " +
+            "FROM MeetingParticipant mp JOIN MeetingCard c ON c.meetingId = mp.meeting.meetingId " +
+            "WHERE mp.user.userId = :userId AND mp.applicationStatus = :status " +
+            "ORDER BY c.createdAt DESC",
+            countQuery = "SELECT COUNT(mp) FROM MeetingParticipant mp JOIN MeetingCard c ON c.meetingId = mp.meeting.meetingId " +
+                    "WHERE mp.user.userId = :userId AND mp.applicationStatus = :status")
+    Page<MeetingProfileRow> findProfileRowsByUserIdAndStatus(
+            @Param("userId") Long userId,
+            @Param("status") MeetingParticipant.ApplicationStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * 여러 모임의 상세 응답용 컬럼을 ID 목록(IN)으로 한 번에 조회합니다. (반환 순서는 보장되지 않음)
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.MeetingProfileRow(" +
+            "c.meetingId, c.title, c.description, c.martName, c.meetingDate, " +
+            "c.approvedCount, c.maxParticipants, c.status, c.thumbnailImageUrl, " +
+            "c.hostNickname, c.hostProfileImageUrl, c.hostTrustScore) " +
+            "FROM MeetingCard c WHERE c.meetingId IN :meetingIds")
+    List<MeetingProfileRow> findProfileRowsByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 호스트 프로필/신뢰도가 바뀌면 해당 사용자가 호스트인 카드를 한 번에 갱신합니다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MeetingCard c SET c.hostNickname = :nickname, c.hostProfileImageUrl = :profileImageUrl, " +
+            "c.hostTrustScore = :trustScore, c.hostTrustGrade = :trustGrade WHERE c.hostUserId = :hostUserId")
+    int updateHost(@Param("hostUserId") Long hostUserId,
+                   @Param("nickname") String nickname,
+                   @Param("profileImageUrl") String profileImageUrl,
+                   @Param("trustScore") Integer trustScore,
+                   @Param("trustGrade") TrustGrade trustGrade);
+
+    /**
+     * 여러 모임 카드의 상태를 한 번에 바꿉니다. (스케줄러 일괄 상태 전환)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MeetingCard c SET c.status = :status, c.updatedAt = :now WHERE c.meetingId IN :meetingIds")
+    int updateStatusByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds,
+                                  @Param("status") Meeting.MeetingStatus status,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 삭제되지 않은 모든 모임으로 카드를 한 번에 생성합니다. (INSERT ... SELECT, 전체 재구성용)
+     * 기존 카드를 먼저 비운 뒤 호출해야 합니다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO MeetingCard (meetingId, title, description, meetingDate, status, approvedCount, maxParticipants, " +
+            "thumbnailImageUrl, martId, martName, martBrand, latitude, longitude, " +
+            "hostUserId, hostNickname, hostProfileImageUrl, hostTrustScore, hostTrustGrade, createdAt, updatedAt) " +
+            "SELECT m.meetingId, m.title, m.description, m.meetingDate, m.status, m.currentParticipants, m.maxParticipants, " +
+            "m.thumbnailImageUrl, mart.martId, mart.martName, mart.martBrand, mart.latitude, mart.longitude, " +
+            "host.userId, host.nickname, host.profileImageUrl, host.trustScore, host.trustGrade, m.createdAt, m.updatedAt " +
+            "FROM Meeting m JOIN m.mart mart JOIN m.hostUser host WHERE m.deletedAt IS NULL")
+    int insertAllFromMeetings();
+}
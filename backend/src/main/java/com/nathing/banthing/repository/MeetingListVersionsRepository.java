@@ -0,0 +1,27 @@
+package com.nathing.banthing.repository;
+
+import com.nathing.banthing.entity.MeetingListVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface MeetingListVersionsRepository extends JpaRepository<MeetingListVersion, Long> {
+
+    /**
+     * 모임 목록 변경 번호를 1 올립니다.
+     * 행 잠금은 호출한 트랜잭션이 끝날 때까지 유지되므로 동시에 커밋하는 쓰기는 커밋 순서대로 번호를 받습니다.
+     *
+     * 커밋 직전 다른 쓰기와 함께 실행되므로 영속성 컨텍스트를 비우지 않습니다.
+     *
+     * @return 올렸으면 1, 행이 없으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MeetingListVersion v SET v.changeSeq = v.changeSeq + 1, v.updatedAt = :now " +
+            "WHERE v.listId = :listId")
+    int increment(@Param("listId") Long listId, @Param("now") LocalDateTime now);
+}
@@ -1,10 +1,18 @@
 package com.nathing.banthing.repository;
 
+import com.nathing.banthing.dto.projection.ParticipantSummaryRow;
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
 import com.nathing.banthing.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +37,74 @@ public interface MeetingParticipantsRepository extends JpaRepository<MeetingPart
 //    Optional<Object> findByMeetingMeetingIdAndUserProviderIdAndApplicationStatus(Long meetingId, String providerId, MeetingParticipant.ApplicationStatus applicationStatus);
 
     Optional<Object> findByMeetingMeetingIdAndUserUserIdAndApplicationStatus(Long meetingId, Long userId, MeetingParticipant.ApplicationStatus applicationStatus);
+
+    /**
+     * 여러 모임의 특정 상태 참여자 요약 정보를 한 번에 조회합니다. (참여 순)
+     * 참여 모임 목록에서 모임마다 참여자를 지연 로딩하지 않도록 IN 쿼리 한 번으로 가져옵니다.
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.ParticipantSummaryRow(" +
+            "mp.meeting.meetingId, u.nickname, u.profileImageUrl, mp.participantType) " +
+            "FROM MeetingParticipant mp JOIN mp.user u " +
+            "WHERE mp.meeting.meetingId IN :meetingIds AND mp.applicationStatus = :status " +
+            "ORDER BY mp.participantId")
+    List<ParticipantSummaryRow> findSummariesByMeetingIdInAndStatus(
+            @Param("meetingIds") Collection<Long> meetingIds,
+            @Param("status") MeetingParticipant.ApplicationStatus status);
+
+    /**
+     * 모임의 대기중(PENDING) 참가 신청만 승인 상태로 바꿉니다. (조건부 UPDATE)
+     * 같은 신청을 동시에 두 번 승인해도 한 번만 성공하므로 인원이 두 번 늘어나지 않습니다.
+     *
+     * @return 변경된 행 수 (0이면 이미 처리되었거나 다른 모임의 신청)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MeetingParticipant mp SET mp.applicationStatus = :approvedStatus, mp.updatedAt = :now, " +
+            "mp.version = mp.version + 1 " +
+            "WHERE mp.participantId = :participantId AND mp.meeting.meetingId = :meetingId " +
+            "AND mp.applicationStatus = :pendingStatus")
+    int approveIfPending(@Param("participantId") Long participantId,
+                         @Param("meetingId") Long meetingId,
+                         @Param("pendingStatus") MeetingParticipant.ApplicationStatus pendingStatus,
+                         @Param("approvedStatus") MeetingParticipant.ApplicationStatus approvedStatus,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 참가자를 조회 시점의 신청 상태 그대로일 때만 삭제합니다. (조건부 DELETE)
+     * 동시에 탈퇴하거나 그 사이 승인되었으면 0을 반환하므로 인원을 잘못 줄이지 않습니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MeetingParticipant mp WHERE mp.participantId = :participantId AND mp.applicationStatus = :status")
+    int deleteByParticipantIdAndStatus(@Param("participantId") Long participantId,
+                                       @Param("status") MeetingParticipant.ApplicationStatus status);
+
+    /**
+     * 모임의 참가 신청 여러 건을 비관적 락(SELECT ... FOR UPDATE)으로 조회합니다. (참가 신청 ID 순)
+     * 일괄 승인/거절에서 처리하는 동안 다른 요청이 같은 신청을 바꾸지 못하도록 잠그며,
+     * 항상 ID 순으로 잠가 동시에 실행되는 일괄 처리끼리 교착 상태가 생기지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mp FROM MeetingParticipant mp " +
+            "WHERE mp.meeting.meetingId = :meetingId AND mp.participantId IN :participantIds " +
+            "ORDER BY mp.participantId")
+    List<MeetingParticipant> findForUpdateByMeetingIdAndParticipantIdIn(
+            @Param("meetingId") Long meetingId,
+            @Param("participantIds") Collection<Long> participantIds);
+
+    /**
+     * 모임의 대기중(PENDING) 참가 신청 여러 건의 상태를 UPDATE 한 번으로 바꿉니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MeetingParticipant mp SET mp.applicationStatus = :newStatus, mp.updatedAt = :now, " +
+            "mp.version = mp.version + 1 " +
+            "WHERE mp.participantId IN :participantIds AND mp.meeting.meetingId = :meetingId " +
+            "AND mp.applicationStatus = :pendingStatus")
+    int updateStatusIfPending(@Param("participantIds") Collection<Long> participantIds,
+                              @Param("meetingId") Long meetingId,
+                              @Param("pendingStatus") MeetingParticipant.ApplicationStatus pendingStatus,
+                              @Param("newStatus") MeetingParticipant.ApplicationStatus newStatus,
+                              @Param("now") LocalDateTime now);
 }
@@ -1,30 +1,154 @@
 package com.nathing.banthing.repository;
 
+import com.nathing.banthing.dto.projection.MeetingDeadlineRow;
+import com.nathing.banthing.dto.projection.MeetingVersion;
 import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.repository.custom.MeetingsRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface MeetingsRepository extends JpaRepository<Meeting, Long> {
+public interface MeetingsRepository extends JpaRepository<Meeting, Long>, MeetingsRepositoryCustom {
 
-    // 특정 상태이면서 모임 시간이 지난 모임들 조회
-    List<Meeting> findByStatusAndMeetingDateBefore(Meeting.MeetingStatus status, LocalDateTime dateTime);
+    /**
+     * 시작 시간이 지난 모집중 모임 중 승인된 참여자(호스트 포함)가 1명 이하인 모임 ID를 조회합니다. (스케줄러 자동 취소 대상)
+     * 참여자 컬렉션을 불러오지 않고 상관 서브쿼리로 승인 인원을 셉니다.
+     * afterId보다 큰 ID를 pageable 크기만큼 ID 순으로 반환합니다. (키셋 페이지네이션, 청크 처리용)
+     */
+    @Query("SELECT m.meetingId FROM Meeting m " +
+            "WHERE m.status = :recruitingStatus AND m.meetingDate < :now AND m.deletedAt IS NULL " +
+            "AND m.meetingId > :afterId " +
+            "AND (SELECT COUNT(mp) FROM MeetingParticipant mp " +
+            "     WHERE mp.meeting = m AND mp.applicationStatus = :approvedStatus) <= 1 " +
+            "ORDER BY m.meetingId")
+    List<Long> findIdsToCancel(@Param("recruitingStatus") Meeting.MeetingStatus recruitingStatus,
+                               @Param("approvedStatus") MeetingParticipant.ApplicationStatus approvedStatus,
+                               @Param("now") LocalDateTime now,
+                               @Param("afterId") Long afterId,
+                               Pageable pageable);
+
+    /**
+     * 시작 시간이 지난 모집중/모집마감 모임 중 시작할 모임(모집마감이거나 승인된 참여자가 2명 이상) ID를 조회합니다.
+     * (스케줄러 자동 시작 대상) 취소 대상과 겹치지 않으므로 취소 청크가 실패해도 그 모임이 대신 시작되지 않습니다.
+     * afterId보다 큰 ID를 pageable 크기만큼 ID 순으로 반환합니다. (키셋 페이지네이션, 청크 처리용)
+     */
+    @Query("SELECT m.meetingId FROM Meeting m " +
+            "WHERE m.status IN :startableStatuses AND m.meetingDate < :now AND m.deletedAt IS NULL " +
+            "AND m.meetingId > :afterId " +
+            "AND (m.status = :fullStatus OR (SELECT COUNT(mp) FROM MeetingParticipant mp " +
+            "     WHERE mp.meeting = m AND mp.applicationStatus = :approvedStatus) > 1) " +
+            "ORDER BY m.meetingId")
+    List<Long> findIdsToStart(@Param("startableStatuses") Collection<Meeting.MeetingStatus> startableStatuses,
+                              @Param("fullStatus") Meeting.MeetingStatus fullStatus,
+                              @Param("approvedStatus") MeetingParticipant.ApplicationStatus approvedStatus,
+                              @Param("now") LocalDateTime now,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    /**
+     * 특정 상태이면서 모임 시간이 지난 모임의 ID만 조회합니다. (엔티티를 불러오지 않음)
+     * afterId보다 큰 ID를 pageable 크기만큼 ID 순으로 반환합니다. (키셋 페이지네이션, 청크 처리용)
+     */
+    @Query("SELECT m.meetingId FROM Meeting m " +
+            "WHERE m.status IN :statuses AND m.meetingDate < :dateTime AND m.deletedAt IS NULL " +
+            "AND m.meetingId > :afterId " +
+            "ORDER BY m.meetingId")
+    List<Long> findIdsByStatusInAndMeetingDateBefore(@Param("statuses") Collection<Meeting.MeetingStatus> statuses,
+                                                     @Param("dateTime") LocalDateTime dateTime,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    /**
+     * 특정 상태인 모임의 ID/상태/모임 시간만 조회합니다. (모임 마감 큐 초기 적재)
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.MeetingDeadlineRow(m.meetingId, m.status, m.meetingDate) " +
+            "FROM Meeting m WHERE m.status IN :statuses AND m.deletedAt IS NULL")
+    List<MeetingDeadlineRow> findDeadlineRowsByStatusIn(@Param("statuses") Collection<Meeting.MeetingStatus> statuses);
+
+    /**
+     * 단일 모임의 ID/상태/모임 시간만 조회합니다. (모임 변경 시 마감 큐 갱신)
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.MeetingDeadlineRow(m.meetingId, m.status, m.meetingDate) " +
+            "FROM Meeting m WHERE m.meetingId = :meetingId AND m.deletedAt IS NULL")
+    Optional<MeetingDeadlineRow> findDeadlineRowByMeetingId(@Param("meetingId") Long meetingId);
+
+    /**
+     * 여러 모임의 ID/상태/모임 시간만 조회합니다. (일괄 상태 전환 후 마감 큐 갱신)
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.MeetingDeadlineRow(m.meetingId, m.status, m.meetingDate) " +
+            "FROM Meeting m WHERE m.meetingId IN :meetingIds AND m.deletedAt IS NULL")
+    List<MeetingDeadlineRow> findDeadlineRowsByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 조회한 모임 중 아직 취소 조건(모집중, 모임 시간 경과, 승인 인원 1명 이하)을 만족하는 모임만 UPDATE 한 번으로 취소합니다.
+     * 조회 이후 다른 요청이 상태를 바꾸거나 참여자를 승인한 모임은 같은 조건을 다시 확인하여 제외하며,
+     * 버전을 올려 낙관적 락과 충돌을 알립니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.status = :cancelledStatus, m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId IN :meetingIds AND m.status = :recruitingStatus " +
+            "AND m.meetingDate < :now AND m.deletedAt IS NULL " +
+            "AND (SELECT COUNT(mp) FROM MeetingParticipant mp " +
+            "     WHERE mp.meeting.meetingId = m.meetingId AND mp.applicationStatus = :approvedStatus) <= 1")
+    int cancelByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds,
+                            @Param("recruitingStatus") Meeting.MeetingStatus recruitingStatus,
+                            @Param("approvedStatus") MeetingParticipant.ApplicationStatus approvedStatus,
+                            @Param("cancelledStatus") Meeting.MeetingStatus cancelledStatus,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 조회한 모임 중 아직 시작 조건(모집중/모집마감, 모임 시간 경과, 모집마감이거나 승인 인원 2명 이상)을 만족하는 모임만
+     * UPDATE 한 번으로 시작합니다. 조회 이후 승인이 취소되어 취소 대상이 된 모임은 같은 조건을 다시 확인하여 제외합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.status = :ongoingStatus, m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId IN :meetingIds AND m.status IN :startableStatuses " +
+            "AND m.meetingDate < :now AND m.deletedAt IS NULL " +
+            "AND (m.status = :fullStatus OR (SELECT COUNT(mp) FROM MeetingParticipant mp " +
+            "     WHERE mp.meeting.meetingId = m.meetingId AND mp.applicationStatus = :approvedStatus) > 1)")
+    int startByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds,
+                           @Param("startableStatuses") Collection<Meeting.MeetingStatus> startableStatuses,
+                           @Param("fullStatus") Meeting.MeetingStatus fullStatus,
+                           @Param("approvedStatus") MeetingParticipant.ApplicationStatus approvedStatus,
+                           @Param("ongoingStatus") Meeting.MeetingStatus ongoingStatus,
+                           @Param("now") LocalDateTime now);
 
     /**
-     * [추가된 메서드]
-     * 여러 상태(IN)를 기준으로, 특정 시간(Before) 이전의 모임을 찾아오는 메서드입니다.
-     * Spring Data JPA의 쿼리 메서드 규칙에 따라 자동으로 SQL이 생성됩니다.
+     * 조회한 모임 중 아직 fromStatuses 상태이고 모임 시간이 dueBefore 이전인 모임만 UPDATE 한 번으로 전환합니다.
+     * (스케줄러 일괄 상태 전환) 조회 이후 다른 요청이 상태나 모임 시간을 바꾼 모임은 같은 조건을 다시 확인하여 제외하며,
+     * 버전을 올려 낙관적 락과 충돌을 알립니다.
      *
-     * @param statuses   조회할 모임 상태들의 리스트 (e.g., [RECRUITING, FULL])
-     * @param dateTime   기준 시간
-     * @return           조건에 맞는 모임 엔티티 리스트
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.status = :newStatus, m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId IN :meetingIds AND m.status IN :fromStatuses " +
+            "AND m.meetingDate < :dueBefore AND m.deletedAt IS NULL")
+    int updateStatusByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds,
+                                  @Param("fromStatuses") Collection<Meeting.MeetingStatus> fromStatuses,
+                                  @Param("newStatus") Meeting.MeetingStatus newStatus,
+                                  @Param("dueBefore") LocalDateTime dueBefore,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 모임 ID 목록 중 지정한 상태인 모임의 ID만 조회합니다. (일괄 전환 후 실제로 바뀐 모임 확인)
      */
-    List<Meeting> findByStatusInAndMeetingDateBefore(List<Meeting.MeetingStatus> statuses, LocalDateTime dateTime);
+    @Query("SELECT m.meetingId FROM Meeting m WHERE m.meetingId IN :meetingIds AND m.status = :status")
+    List<Long> findIdsByMeetingIdInAndStatus(@Param("meetingIds") Collection<Long> meetingIds,
+                                             @Param("status") Meeting.MeetingStatus status);
 
     /**
      * 상태별 모임 조회 (삭제되지 않은 모임만)
@@ -41,6 +165,35 @@ public interface MeetingsRepository extends JpaRepository<Meeting, Long> {
             "m.deletedAt IS NULL")
     List<Meeting> findByKeywordAndRecruiting(@Param("keyword") String keyword);
 
+    /**
+     * pg_trgm GIN 인덱스를 사용하는 키워드 검색 (PostgreSQL 전용)
+     *
+     * ILIKE 조건은 gin_trgm_ops 인덱스로 처리되어 순차 스캔 없이 부분 문자열(한글 포함)을 찾고,
+     * word_similarity 점수(제목 3 / 설명 2 / 마트명 2 가중치)로 관련도 순 정렬합니다.
+     *
+     * @param keyword 원본 검색어 (유사도 계산용)
+     * @param pattern LIKE 특수문자를 이스케이프한 '%keyword%' 패턴
+     * @param limit   최대 결과 수
+     */
+    @Query(value = """
+        SELECT m.*
+        FROM meetings m
+        JOIN marts ma ON m.mart_id = ma.mart_id
+        WHERE m.deleted_at IS NULL
+            AND m.status <> 'CANCELLED'
+            AND (m.title ILIKE :pattern
+                OR m.description ILIKE :pattern
+                OR ma.mart_name ILIKE :pattern)
+        ORDER BY word_similarity(:keyword, m.title) * 3
+                + word_similarity(:keyword, COALESCE(m.description, '')) * 2
+                + word_similarity(:keyword, ma.mart_name) * 2 DESC,
+            m.created_at DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Meeting> searchByTrigram(@Param("keyword") String keyword,
+                                  @Param("pattern") String pattern,
+                                  @Param("limit") int limit);
+
     /**
      * 마트 지점별 모집중인 모임 조회
      */
@@ -64,6 +217,46 @@ public interface MeetingsRepository extends JpaRepository<Meeting, Long> {
     @Query("SELECT m FROM Meeting m JOIN FETCH m.mart ORDER BY m.createdAt DESC")
     List<Meeting> findAllWithMartByOrderByCreatedAtDesc();
 
+    /**
+     * 특정 상태의 모임을 Mart와 함께 조회합니다. (삭제되지 않은 모임만)
+     * 메모리 검색 인덱스를 처음 구성할 때 사용합니다.
+     */
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.mart WHERE m.status = :status AND m.deletedAt IS NULL")
+    List<Meeting> findAllWithMartByStatus(@Param("status") Meeting.MeetingStatus status);
+
+    /**
+     * 단일 모임을 Mart와 함께 조회합니다.
+     */
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.mart WHERE m.meetingId = :meetingId")
+    Optional<Meeting> findWithMartByMeetingId(@Param("meetingId") Long meetingId);
+
+    /**
+     * 모임 상세 화면에 필요한 애그리거트(마트, 호스트, 참여 신청과 각 신청자)를 한 번의 쿼리로 조회합니다.
+     * 참여자 수가 늘어나도 실행되는 SQL은 한 번으로 고정됩니다.
+     */
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.mart JOIN FETCH m.hostUser " +
+            "LEFT JOIN FETCH m.participants mp LEFT JOIN FETCH mp.user " +
+            "WHERE m.meetingId = :meetingId")
+    Optional<Meeting> findDetailByMeetingId(@Param("meetingId") Long meetingId);
+
+    /**
+     * 여러 모임을 ID 목록(IN)으로 Mart와 함께 조회합니다. (반환 순서는 보장되지 않음)
+     */
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.mart WHERE m.meetingId IN :meetingIds")
+    List<Meeting> findAllWithMartByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 모임 상세 응답의 버전을 조회합니다. (조건부 GET용)
+     * 상세 응답에는 호스트와 참여자 정보가 포함되므로 모임/호스트/참여 신청/참여자 사용자의 수정 시각과 참여 신청 수를 함께 집계합니다.
+     * 모임이 없으면 null을 반환합니다.
+     */
+    @Query("SELECT new com.nathing.banthing.dto.projection.MeetingVersion(" +
+            "m.updatedAt, host.updatedAt, MAX(mp.updatedAt), MAX(u.updatedAt), COUNT(mp)) " +
+            "FROM Meeting m JOIN m.hostUser host LEFT JOIN m.participants mp LEFT JOIN mp.user u " +
+            "WHERE m.meetingId = :meetingId AND m.deletedAt IS NULL " +
+            "GROUP BY m.meetingId, m.updatedAt, host.updatedAt")
+    MeetingVersion findDetailVersion(@Param("meetingId") Long meetingId);
+
     /**
      * 주어진 사용자 ID에 대해 승인된 모임 목록을 반환하는 메서드입니다. (최신순)
      *
@@ -101,4 +294,56 @@ public interface MeetingsRepository extends JpaRepository<Meeting, Long> {
             @Param("status") String status,
             Pageable pageable
     );
+
+    /**
+     * 정원이 남아 있는 모집중 모임의 현재 인원을 1 늘립니다. (조건부 UPDATE 한 번으로 원자적으로 처리)
+     * 늘어난 인원이 정원에 도달하면 같은 UPDATE에서 상태를 FULL로 바꿉니다.
+     * SET 절의 m.currentParticipants는 변경 전 값입니다.
+     *
+     * @return 변경된 행 수 (0이면 모집중이 아니거나 정원이 찼음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.currentParticipants = m.currentParticipants + 1, " +
+            "m.status = CASE WHEN m.currentParticipants + 1 >= m.maxParticipants THEN :fullStatus ELSE m.status END, " +
+            "m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId = :meetingId AND m.status = :recruitingStatus " +
+            "AND m.currentParticipants < m.maxParticipants AND m.deletedAt IS NULL")
+    int incrementParticipantsIfAvailable(@Param("meetingId") Long meetingId,
+                                         @Param("recruitingStatus") Meeting.MeetingStatus recruitingStatus,
+                                         @Param("fullStatus") Meeting.MeetingStatus fullStatus,
+                                         @Param("now") LocalDateTime now);
+
+    /**
+     * 모집중 모임의 현재 인원을 count만큼 늘립니다. (일괄 승인용 조건부 UPDATE)
+     * 늘어난 인원이 정원을 넘으면 변경하지 않고, 정원에 도달하면 같은 UPDATE에서 상태를 FULL로 바꿉니다.
+     *
+     * @return 변경된 행 수 (0이면 모집중이 아니거나 남은 자리가 부족함)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.currentParticipants = m.currentParticipants + :count, " +
+            "m.status = CASE WHEN m.currentParticipants + :count >= m.maxParticipants THEN :fullStatus ELSE m.status END, " +
+            "m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId = :meetingId AND m.status = :recruitingStatus " +
+            "AND m.currentParticipants + :count <= m.maxParticipants AND m.deletedAt IS NULL")
+    int addParticipantsIfAvailable(@Param("meetingId") Long meetingId,
+                                   @Param("count") int count,
+                                   @Param("recruitingStatus") Meeting.MeetingStatus recruitingStatus,
+                                   @Param("fullStatus") Meeting.MeetingStatus fullStatus,
+                                   @Param("now") LocalDateTime now);
+
+    /**
+     * 모임의 현재 인원을 1 줄입니다. (조건부 UPDATE 한 번으로 원자적으로 처리)
+     * 정원이 차서 FULL이었던 모임은 같은 UPDATE에서 다시 RECRUITING으로 바꿉니다.
+     *
+     * @return 변경된 행 수 (0이면 줄일 인원이 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Meeting m SET m.currentParticipants = m.currentParticipants - 1, " +
+            "m.status = CASE WHEN m.status = :fullStatus THEN :recruitingStatus ELSE m.status END, " +
+            "m.updatedAt = :now, m.version = m.version + 1 " +
+            "WHERE m.meetingId = :meetingId AND m.currentParticipants > 0 AND m.deletedAt IS NULL")
+    int decrementParticipants(@Param("meetingId") Long meetingId,
+                              @Param("fullStatus") Meeting.MeetingStatus fullStatus,
+                              @Param("recruitingStatus") Meeting.MeetingStatus recruitingStatus,
+                              @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,68 @@
+package com.nathing.banthing.repository;
+
+import com.nathing.banthing.entity.SchedulerLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SchedulerLeasesRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 만료된 리스를 가져오고 펜싱 토큰을 1 올립니다.
+     * 두 서버가 동시에 실행해도 먼저 UPDATE한 쪽만 조건(expiresAt <= now)을 만족하므로 한 서버만 1을 반환합니다.
+     *
+     * @return 가져왔으면 1, 아직 다른 서버가 가지고 있거나 행이 없으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, " +
+            "l.acquiredAt = :now, l.expiresAt = :expiresAt " +
+            "WHERE l.jobName = :jobName AND l.expiresAt <= :now")
+    int takeOverIfExpired(@Param("jobName") String jobName,
+                          @Param("owner") String owner,
+                          @Param("now") LocalDateTime now,
+                          @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 작업의 첫 리스를 만듭니다. 다른 서버가 먼저 만들었으면 기본 키 충돌(DataIntegrityViolationException)이 발생합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (job_name, owner, fencing_token, acquired_at, expires_at) " +
+            "VALUES (:jobName, :owner, 1, :now, :expiresAt)", nativeQuery = true)
+    int insertLease(@Param("jobName") String jobName,
+                    @Param("owner") String owner,
+                    @Param("now") LocalDateTime now,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT l.fencingToken FROM SchedulerLease l WHERE l.jobName = :jobName AND l.owner = :owner")
+    Optional<Long> findFencingToken(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    /**
+     * 펜싱 토큰이 일치하고 만료되지 않은 리스를 공유 락(FOR SHARE)으로 조회합니다.
+     * 호출한 트랜잭션이 끝날 때까지 다른 서버의 takeOverIfExpired가 대기하므로, 그동안 리스가 넘어가지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM SchedulerLease l " +
+            "WHERE l.jobName = :jobName AND l.fencingToken = :fencingToken AND l.expiresAt > :now")
+    Optional<SchedulerLease> findHeldForShare(@Param("jobName") String jobName,
+                                              @Param("fencingToken") Long fencingToken,
+                                              @Param("now") LocalDateTime now);
+
+    /**
+     * 작업이 끝난 리스의 만료 시각을 releaseAt으로 당깁니다.
+     * releaseAt은 지금 또는 획득 후 최소 유지 시간 중 늦은 쪽이므로, 같은 주기에 늦게 깨어난 서버는 여전히 건너뜁니다.
+     * (그 사이 다른 서버가 가져간 리스는 토큰이 달라 건드리지 않습니다.)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :releaseAt " +
+            "WHERE l.jobName = :jobName AND l.fencingToken = :fencingToken AND l.expiresAt > :now")
+    int release(@Param("jobName") String jobName,
+                @Param("fencingToken") Long fencingToken,
+                @Param("now") LocalDateTime now,
+                @Param("releaseAt") LocalDateTime releaseAt);
+}
@@ -1,7 +1,10 @@
 package com.nathing.banthing.repository;
 
 import com.nathing.banthing.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -15,7 +18,14 @@ public interface UsersRepository extends JpaRepository<User, Long> {
      *         사용자 정보가 없으면 비어 있는 Optional 반환.
      * @author 강관주
      * @since 2025.09.13
+     *
+     * 인증된 요청마다 호출되므로 쿼리 캐시(리전: user-by-provider-id)에 결과 ID를 보관하고,
+     * 엔티티는 2차 캐시에서 읽습니다. users 테이블이 변경되면 캐시된 결과는 자동으로 무효화됩니다.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-by-provider-id")
+    })
     Optional<User> findByProviderId(String providerId);
 
     /**
@@ -0,0 +1,29 @@
+package com.nathing.banthing.repository.custom;
+
+import com.nathing.banthing.dto.projection.MeetingFacetCount;
+import com.nathing.banthing.dto.request.MeetingSearchCondition;
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * QueryDSL로 구현하는 모임 동적 검색 쿼리입니다. (구현: MeetingsRepositoryCustomImpl)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public interface MeetingsRepositoryCustom {
+
+    /**
+     * 조건에 맞는 모임을 목록 응답 프로젝션으로 조회합니다. (최신순, 페이징)
+     */
+    List<MeetingSimpleResponse> searchByCondition(MeetingSearchCondition condition, Pageable pageable);
+
+    /**
+     * 패싯 집계를 위해 (마트, 상태) 조합별 모임 수를 조회합니다.
+     * 브랜드/마트/상태 필터는 패싯 계산에 필요하므로 적용하지 않고, 날짜/남은 자리 필터만 적용합니다.
+     * 단, 상태를 지정하지 않으면 결과 목록과 같이 취소된 모임을 제외합니다.
+     */
+    List<MeetingFacetCount> countFacets(MeetingSearchCondition condition);
+}
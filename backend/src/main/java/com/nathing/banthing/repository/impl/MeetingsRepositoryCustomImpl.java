@@ -0,0 +1,112 @@
+package com.nathing.banthing.repository.impl;
+
+import com.nathing.banthing.dto.projection.MeetingFacetCount;
+import com.nathing.banthing.dto.request.MeetingSearchCondition;
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.repository.custom.MeetingsRepositoryCustom;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static com.nathing.banthing.entity.QMart.mart;
+import static com.nathing.banthing.entity.QMeeting.meeting;
+
+/**
+ * {@link MeetingsRepositoryCustom}의 QueryDSL 구현체입니다.
+ *
+ * 지정된 조건만 WHERE 절에 추가하여(null 조건은 QueryDSL이 무시) 요청마다 하나의 SQL을 만들고,
+ * 상태/모임 일시/마트 조건은 (status, meeting_date), mart_id 인덱스를 탈 수 있는 형태로 유지합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@RequiredArgsConstructor
+public class MeetingsRepositoryCustomImpl implements MeetingsRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MeetingSimpleResponse> searchByCondition(MeetingSearchCondition condition, Pageable pageable) {
+        return queryFactory
+                .select(Projections.constructor(MeetingSimpleResponse.class,
+                        meeting.meetingId, mart.martId, meeting.title, meeting.description, mart.martName,
+                        meeting.meetingDate, meeting.currentParticipants, meeting.maxParticipants,
+                        meeting.status, meeting.thumbnailImageUrl, mart.latitude, mart.longitude))
+                .from(meeting)
+                .join(meeting.mart, mart)
+                .where(
+                        notDeleted(),
+                        brandIn(condition.getBrands()),
+                        martIdIn(condition.getMartIds()),
+                        statusIn(condition.getStatuses()),
+                        meetingDateGoe(condition),
+                        meetingDateLoe(condition),
+                        freeSeatsGoe(condition.getMinFreeSeats()))
+                .orderBy(meeting.createdAt.desc(), meeting.meetingId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<MeetingFacetCount> countFacets(MeetingSearchCondition condition) {
+        return queryFactory
+                .select(Projections.constructor(MeetingFacetCount.class,
+                        mart.martId, mart.martName, mart.martBrand, meeting.status, meeting.count()))
+                .from(meeting)
+                .join(meeting.mart, mart)
+                .where(
+                        notDeleted(),
+                        defaultStatus(condition.getStatuses()),
+                        meetingDateGoe(condition),
+                        meetingDateLoe(condition),
+                        freeSeatsGoe(condition.getMinFreeSeats()))
+                .groupBy(mart.martId, mart.martName, mart.martBrand, meeting.status)
+                .fetch();
+    }
+
+    private BooleanExpression notDeleted() {
+        return meeting.deletedAt.isNull();
+    }
+
+    private BooleanExpression brandIn(List<Mart.MartBrand> brands) {
+        return (brands == null || brands.isEmpty()) ? null : mart.martBrand.in(brands);
+    }
+
+    private BooleanExpression martIdIn(List<Long> martIds) {
+        return (martIds == null || martIds.isEmpty()) ? null : meeting.mart.martId.in(martIds);
+    }
+
+    // 상태를 지정하지 않으면 기존 목록과 같이 취소된 모임만 제외
+    private BooleanExpression statusIn(List<Meeting.MeetingStatus> statuses) {
+        return (statuses == null || statuses.isEmpty())
+                ? meeting.status.ne(Meeting.MeetingStatus.CANCELLED)
+                : meeting.status.in(statuses);
+    }
+
+    // 패싯 집계: 상태를 지정하지 않으면 결과 목록과 같이 취소된 모임을 SQL에서 제외하고,
+    // 지정하면 상태 패싯이 다른 상태의 건수도 보여야 하므로 상태 조건을 두지 않습니다.
+    private BooleanExpression defaultStatus(List<Meeting.MeetingStatus> statuses) {
+        return (statuses == null || statuses.isEmpty()) ? meeting.status.ne(Meeting.MeetingStatus.CANCELLED) : null;
+    }
+
+    private BooleanExpression meetingDateGoe(MeetingSearchCondition condition) {
+        return condition.getFrom() == null ? null : meeting.meetingDate.goe(condition.getFrom());
+    }
+
+    private BooleanExpression meetingDateLoe(MeetingSearchCondition condition) {
+        return condition.getTo() == null ? null : meeting.meetingDate.loe(condition.getTo());
+    }
+
+    private BooleanExpression freeSeatsGoe(Integer minFreeSeats) {
+        return (minFreeSeats == null || minFreeSeats <= 0)
+                ? null
+                : meeting.maxParticipants.subtract(meeting.currentParticipants).goe(minFreeSeats);
+    }
+}
@@ -16,7 +16,8 @@ import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.ChatbotConversationsRepository;
 import com.nathing.banthing.repository.ChatbotMeetingsSuggestionRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.search.MeetingSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -50,10 +51,14 @@ public class ChatbotServiceImpl implements ChatbotService {
     private final ChatbotConfig chatbotConfig;
 
     // 데이터베이스 레포지토리들
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ChatbotConversationsRepository conversationRepository;
     private final ChatbotMeetingsSuggestionRepository suggestionRepository;
     private final MeetingsRepository meetingsRepository;
+    private final MeetingSearchIndex meetingSearchIndex;
+
+    // 프롬프트와 추천에 사용할 인덱스 후보 수
+    private static final int MEETING_CANDIDATES = 10;
 
     /**
      * Google Gemini AI API 상태 확인
@@ -93,22 +98,21 @@ public class ChatbotServiceImpl implements ChatbotService {
     public ChatbotMessageResponse processAuthenticatedMessage(String providerId, String userMessage) {
         try {
             // 1. 사용자 정보 조회
-            User user = usersRepository.findByProviderId(providerId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            User user = currentUserResolver.resolve(providerId);
 
-            // 2. 현재 모집중인 모임 목록 조회 (실시간 데이터)
-            List<Meeting> activeMeetings = meetingsRepository.findByStatusAndDeletedAtIsNull(Meeting.MeetingStatus.RECRUITING);
+            // 2. 검색 인덱스에서 메시지와 관련된 모집중 모임 후보 조회 (관련 모임이 없으면 최근 모임)
+            List<String> keywords = extractKeywords(userMessage);
+            MeetingCandidates candidates = findCandidateMeetings(keywords);
 
             // 3. 대화 의도 파악
             ChatbotConversation.IntentType intentType = determineIntentType(userMessage);
 
-            List<String> keywords = extractKeywords(userMessage);
-            if (!keywords.isEmpty() && !activeMeetings.isEmpty()) {
+            if (!keywords.isEmpty() && !candidates.meetings().isEmpty()) {
                 intentType = ChatbotConversation.IntentType.MEETING_SEARCH;
             }
 
             // 4. AI 응답 생성 시도
-            String botResponse = generateAuthenticatedResponse(user, userMessage, activeMeetings);
+            String botResponse = generateAuthenticatedResponse(user, userMessage, candidates);
 
             // 5. 대화 기록 저장
             ChatbotConversation savedConversation = saveConversation(user, userMessage, botResponse, intentType);
@@ -116,12 +120,12 @@ public class ChatbotServiceImpl implements ChatbotService {
 
             // 6. 모임 추천 생성 - 게스트와 동일한 방식으로 변경
             List<ChatbotMessageResponse.MeetingSuggestionResponse> suggestedMeetings = new ArrayList<>();
-            if (intentType == ChatbotConversation.IntentType.MEETING_SEARCH && !activeMeetings.isEmpty()) {
-                List<Meeting> relevantMeetings = findRelevantMeetings(keywords, activeMeetings);
+            if (intentType == ChatbotConversation.IntentType.MEETING_SEARCH && !candidates.meetings().isEmpty()) {
+                List<Meeting> relevantMeetings = candidates.relevant();
 
                 // 관련 모임이 없으면 최신 모임 3개 추천
                 if (relevantMeetings.isEmpty()) {
-                    relevantMeetings = activeMeetings.stream()
+                    relevantMeetings = candidates.meetings().stream()
                             .limit(3)
                             .collect(Collectors.toList());
                 }
@@ -174,26 +178,26 @@ public class ChatbotServiceImpl implements ChatbotService {
             log.info("=== 게스트 사용자 챗봇 처리 시작 ===");
             log.info("메시지: {}", userMessage);
 
-            // 1. 현재 모집중인 모임 목록 조회
-            List<Meeting> activeMeetings = meetingsRepository.findByStatusAndDeletedAtIsNull(Meeting.MeetingStatus.RECRUITING);
-            log.info("현재 활성 모임 수: {}", activeMeetings.size());
+            // 1. 검색 인덱스에서 메시지와 관련된 모집중 모임 후보 조회 (관련 모임이 없으면 최근 모임)
+            List<String> keywords = extractKeywords(userMessage);
+            MeetingCandidates candidates = findCandidateMeetings(keywords);
+            log.info("현재 활성 모임 수: {}, 후보: {}", meetingSearchIndex.size(), candidates.meetings().size());
 
             // 2. 의도 분류 (추가!)
             ChatbotConversation.IntentType intentType = determineIntentType(userMessage);
 
             // 3. 게스트 응답 생성
-            String botResponse = generateGuestResponse(userMessage, activeMeetings);
+            String botResponse = generateGuestResponse(userMessage, candidates);
 
             // 4. 키워드 기반 모임 추천 생성
             List<ChatbotMessageResponse.MeetingSuggestionResponse> suggestedMeetings = new ArrayList<>();
-            List<String> keywords = extractKeywords(userMessage);
-            if (!keywords.isEmpty() && !activeMeetings.isEmpty()) { // 키워드가 있으면 모임 검색으로 처리
+            if (!keywords.isEmpty() && !candidates.meetings().isEmpty()) { // 키워드가 있으면 모임 검색으로 처리
                 intentType = ChatbotConversation.IntentType.MEETING_SEARCH; // 의도 타입 강제 변경
 
-                List<Meeting> relevantMeetings = findRelevantMeetings(keywords, activeMeetings);
+                List<Meeting> relevantMeetings = candidates.relevant();
                 // 관련 모임이 없으면 최신 모임 3개 추천
                 if (relevantMeetings.isEmpty()) {
-                    relevantMeetings = activeMeetings.stream()
+                    relevantMeetings = candidates.meetings().stream()
                             .limit(3)
                             .collect(Collectors.toList());
                 }
@@ -255,8 +259,7 @@ public class ChatbotServiceImpl implements ChatbotService {
             log.info("providerId: {}", providerId);
 
             // 1. 사용자 정보 조회
-            User user = usersRepository.findByProviderId(providerId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            User user = currentUserResolver.resolve(providerId);
 
             // 2. 최근 10개 대화 조회 (페이징 처리)
             PageRequest pageRequest = PageRequest.of(0, 10);
@@ -283,16 +286,16 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 로그인한 사용자를 위한 개인화된 AI 응답 생성
      * AI API 호출 실패 시 대체 로직으로 전환
      */
-    private String generateAuthenticatedResponse(User user, String userMessage, List<Meeting> activeMeetings) {
+    private String generateAuthenticatedResponse(User user, String userMessage, MeetingCandidates candidates) {
         try {
             // 1. AI API 키 확인
             if (chatbotConfig.getApiKey() == null || chatbotConfig.getApiKey().trim().isEmpty()) {
                 log.warn("AI API 키 없음 - 대체 로직 사용");
-                return generateFallbackResponse(userMessage, activeMeetings, true);
+                return generateFallbackResponse(userMessage, candidates, true);
             }
 
             // 2. 개인화된 시스템 프롬프트 생성
-            String systemPrompt = buildPersonalizedPrompt(user, activeMeetings);
+            String systemPrompt = buildPersonalizedPrompt(user, candidates);
 
             // 3. AI 모델 호출
             String model = chatbotConfig.getModelName();
@@ -305,12 +308,12 @@ public class ChatbotServiceImpl implements ChatbotService {
                 return response.text().trim();
             } else {
                 log.warn("AI 응답이 비어있음 - 대체 로직 사용");
-                return generateFallbackResponse(userMessage, activeMeetings, true);
+                return generateFallbackResponse(userMessage, candidates, true);
             }
 
         } catch (Exception e) {
             log.error("AI 응답 생성 실패 - 대체 로직으로 전환", e);
-            return generateFallbackResponse(userMessage, activeMeetings, true);
+            return generateFallbackResponse(userMessage, candidates, true);
         }
     }
 
@@ -318,16 +321,16 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 게스트 사용자를 위한 기본 AI 응답 생성
      * AI API 호출 실패 시 대체 로직으로 전환
      */
-    private String generateGuestResponse(String userMessage, List<Meeting> activeMeetings) {
+    private String generateGuestResponse(String userMessage, MeetingCandidates candidates) {
         try {
             // 1. AI API 키 확인
             if (chatbotConfig.getApiKey() == null || chatbotConfig.getApiKey().trim().isEmpty()) {
                 log.warn("AI API 키 없음 - 대체 로직 사용");
-                return generateFallbackResponse(userMessage, activeMeetings, false);
+                return generateFallbackResponse(userMessage, candidates, false);
             }
 
             // 2. 게스트용 시스템 프롬프트 생성
-            String systemPrompt = buildGuestPrompt(activeMeetings);
+            String systemPrompt = buildGuestPrompt(candidates);
 
             // 3. AI 모델 호출
             String model = chatbotConfig.getModelName();
@@ -340,12 +343,12 @@ public class ChatbotServiceImpl implements ChatbotService {
                 return response.text().trim();
             } else {
                 log.warn("AI 응답이 비어있음 - 대체 로직 사용");
-                return generateFallbackResponse(userMessage, activeMeetings, false);
+                return generateFallbackResponse(userMessage, candidates, false);
             }
 
         } catch (Exception e) {
             log.error("게스트 AI 응답 생성 실패 - 대체 로직으로 전환", e);
-            return generateFallbackResponse(userMessage, activeMeetings, false);
+            return generateFallbackResponse(userMessage, candidates, false);
         }
     }
 
@@ -353,7 +356,7 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 개인화된 시스템 프롬프트 생성
      * 사용자 정보 + 실시간 모임 정보를 포함한 상세 프롬프트
      */
-    private String buildPersonalizedPrompt(User user, List<Meeting> activeMeetings) {
+    private String buildPersonalizedPrompt(User user, MeetingCandidates candidates) {
         StringBuilder prompt = new StringBuilder();
 
         // 1. 기본 시스템 프롬프트 추가
@@ -374,12 +377,14 @@ public class ChatbotServiceImpl implements ChatbotService {
         prompt.append(String.format("- 신뢰도 등급: %s\n", user.getTrustGrade()));
         prompt.append(String.format("- 노쇼 횟수: %d회\n\n", user.getNoShowCount()));
 
-        // 3. 실시간 모임 정보 추가
+        // 3. 실시간 모임 정보 추가 (전체 모임 대신 검색 인덱스 후보만)
+        List<Meeting> activeMeetings = candidates.meetings();
         prompt.append("# 현재 진행 중인 모임 정보\n");
         if (activeMeetings.isEmpty()) {
             prompt.append("현재 모집중인 모임이 없습니다.\n");
         } else {
-            prompt.append(String.format("총 %d개의 모임이 모집 중입니다:\n\n", activeMeetings.size()));
+            prompt.append(String.format("총 %d개의 모임이 모집 중입니다. %s:\n\n", meetingSearchIndex.size(),
+                    candidates.matched() ? "질문과 관련된 모임" : "최근 등록된 모임"));
             for (int i = 0; i < activeMeetings.size(); i++) {
                 Meeting meeting = activeMeetings.get(i);
                 prompt.append(String.format("%d. [%s] %s\n", i + 1, meeting.getMart().getMartName(), meeting.getTitle()));
@@ -396,7 +401,7 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 게스트용 시스템 프롬프트 생성
      * 서비스 소개 + 회원가입 유도 + 실시간 모임 정보
      */
-    private String buildGuestPrompt(List<Meeting> activeMeetings) {
+    private String buildGuestPrompt(MeetingCandidates candidates) {
         StringBuilder prompt = new StringBuilder();
 
         // 1. 게스트용 기본 프롬프트 추가
@@ -407,12 +412,13 @@ public class ChatbotServiceImpl implements ChatbotService {
         prompt.append("'아래 카카오로 시작하기 버튼을 이용해주세요!'라고만 간단히 답변하세요.\n");
         prompt.append("다른 설명이나 추가 안내는 하지 마세요.\n\n");
 
-        // 2. 실시간 모임 정보 추가 (간략버전)
+        // 2. 실시간 모임 정보 추가 (간략버전, 검색 인덱스 후보 중 3개)
+        List<Meeting> activeMeetings = candidates.meetings();
         prompt.append("# 현재 진행 중인 모임 정보 (예시)\n");
         if (activeMeetings.isEmpty()) {
             prompt.append("현재 새로운 모임이 준비 중입니다.\n");
         } else {
-            prompt.append(String.format("현재 %d개의 모임이 모집 중입니다:\n\n", Math.min(3, activeMeetings.size())));
+            prompt.append(String.format("현재 %d개의 모임이 모집 중입니다:\n\n", meetingSearchIndex.size()));
             for (int i = 0; i < Math.min(3, activeMeetings.size()); i++) {
                 Meeting meeting = activeMeetings.get(i);
                 prompt.append(String.format("- [%s] %s (참여: %d/%d명)\n",
@@ -428,7 +434,7 @@ public class ChatbotServiceImpl implements ChatbotService {
      * AI API 실패 시 사용하는 대체 응답 생성 로직
      * 키워드 기반 매칭으로 관련 모임 찾기
      */
-    private String generateFallbackResponse(String userMessage, List<Meeting> activeMeetings, boolean isAuthenticated) {
+    private String generateFallbackResponse(String userMessage, MeetingCandidates candidates, boolean isAuthenticated) {
         StringBuilder response = new StringBuilder();
 
         if (isAuthenticated) {
@@ -446,9 +452,9 @@ public class ChatbotServiceImpl implements ChatbotService {
             }
         }
 
-        // 키워드 기반 모임 검색
-        List<String> keywords = extractKeywords(userMessage);
-        List<Meeting> relevantMeetings = findRelevantMeetings(keywords, activeMeetings);
+        // 키워드 기반 모임 검색 (검색 인덱스 후보)
+        List<Meeting> activeMeetings = candidates.meetings();
+        List<Meeting> relevantMeetings = candidates.relevant();
 
         if (!relevantMeetings.isEmpty()) {
             response.append("요청하신 내용과 관련된 모임을 찾았습니다. 아래 카드를 확인해보세요!\n\n");
@@ -504,57 +510,31 @@ public class ChatbotServiceImpl implements ChatbotService {
     }
 
     /**
-     * 키워드와 관련된 모임 찾기
+     * 키워드와 관련된 모집중 모임 후보 찾기
+     * 매 메시지마다 모집중 모임 전체를 조회하지 않고, 메모리 n-gram 인덱스에서 관련도 순으로 후보 ID만 찾은 뒤 해당 모임만 조회합니다.
+     * (점수: 제목 3 / 설명 2 / 마트명 2 / 주소 1, 키워드가 없거나 관련 모임이 없으면 최근 모임)
      */
-    private List<Meeting> findRelevantMeetings(List<String> keywords, List<Meeting> activeMeetings) {
-        if (keywords.isEmpty()) {
-            return activeMeetings.stream().limit(3).collect(Collectors.toList());
+    private MeetingCandidates findCandidateMeetings(List<String> keywords) {
+        List<Long> meetingIds = keywords.isEmpty()
+                ? List.of()
+                : meetingSearchIndex.search(keywords, MEETING_CANDIDATES);
+        boolean matched = !meetingIds.isEmpty();
+        if (!matched) {
+            meetingIds = meetingSearchIndex.recent(MEETING_CANDIDATES);
+        }
+        if (meetingIds.isEmpty()) {
+            return new MeetingCandidates(List.of(), false);
         }
 
-        return activeMeetings.stream()
-                .filter(meeting -> {
-                    String title = meeting.getTitle().replaceAll("[^가-힣a-z0-9\\s]", " ").toLowerCase();
-                    String description = meeting.getDescription().replaceAll("[^가-힣a-z0-9\\s]", " ").toLowerCase();
-                    String martName = meeting.getMart().getMartName().replaceAll("[^가-힣a-z0-9\\s]", " ").toLowerCase();
-                    String martAddress = meeting.getMart().getAddress().replaceAll("[^가-힣a-z0-9\\s]", " ").toLowerCase();
-
-                    // 하나라도 키워드가 매칭되면 포함
-                    return keywords.stream().anyMatch(keyword -> {
-                        String lowerKeyword = keyword.toLowerCase();
-                        return title.contains(lowerKeyword) ||
-                                description.contains(lowerKeyword) ||
-                                martName.contains(lowerKeyword) ||
-                                martAddress.contains(lowerKeyword);
-                    });
-                })
-                .sorted((m1, m2) -> {
-                    // 매칭된 키워드 수가 많은 순으로 정렬
-                    int score1 = calculateMatchScore(m1, keywords);
-                    int score2 = calculateMatchScore(m2, keywords);
-                    return Integer.compare(score2, score1);
-                })
-                .limit(3)
+        // 인덱스 반영 전에 모집이 끝난 모임은 제외하고 인덱스 순서를 유지
+        Map<Long, Meeting> meetingsById = meetingsRepository.findAllWithMartByMeetingIdIn(meetingIds).stream()
+                .filter(meeting -> meeting.getStatus() == Meeting.MeetingStatus.RECRUITING)
+                .collect(Collectors.toMap(Meeting::getMeetingId, meeting -> meeting));
+        List<Meeting> meetings = meetingIds.stream()
+                .map(meetingsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-    }
-
-    /**
-     * 모임의 키워드 매칭 점수 계산
-     */
-    private int calculateMatchScore(Meeting meeting, List<String> keywords) {
-        String title = meeting.getTitle().toLowerCase();
-        String description = meeting.getDescription().toLowerCase();
-        String martName = meeting.getMart().getMartName().toLowerCase();
-        String martAddress = meeting.getMart().getAddress().toLowerCase();
-
-        int score = 0;
-        for (String keyword : keywords) {
-            String lowerKeyword = keyword.toLowerCase();
-            if (title.contains(lowerKeyword)) score += 3; // 제목 매칭이 가장 중요
-            if (description.contains(lowerKeyword)) score += 2; // 설명 매칭
-            if (martName.contains(lowerKeyword)) score += 2; // 마트명 매칭
-            if (martAddress.contains(lowerKeyword)) score += 1; // 주소 매칭
-        }
-        return score;
+        return new MeetingCandidates(meetings, matched && !meetings.isEmpty());
     }
 
     /**
@@ -589,18 +569,18 @@ public class ChatbotServiceImpl implements ChatbotService {
      * 모임 추천 생성 (로그인 사용자 전용)
      */
     private List<ChatbotMessageResponse.MeetingSuggestionResponse> generateMeetingSuggestions(
-            ChatbotConversation conversation, String userMessage, List<Meeting> activeMeetings) {
+            ChatbotConversation conversation, String userMessage, MeetingCandidates candidates) {
 
         List<ChatbotMessageResponse.MeetingSuggestionResponse> suggestions = new ArrayList<>();
 
         try {
             // 키워드 기반으로 관련 모임 찾기
             List<String> keywords = extractKeywords(userMessage);
-            List<Meeting> relevantMeetings = findRelevantMeetings(keywords, activeMeetings);
+            List<Meeting> relevantMeetings = candidates.relevant();
 
             // 관련 모임이 없으면 최신 모임 3개 추천
-            if (relevantMeetings.isEmpty() && !activeMeetings.isEmpty()) {
-                relevantMeetings = activeMeetings.stream()
+            if (relevantMeetings.isEmpty() && !candidates.meetings().isEmpty()) {
+                relevantMeetings = candidates.meetings().stream()
                         .limit(3)
                         .collect(Collectors.toList());
             }
@@ -713,4 +693,18 @@ public class ChatbotServiceImpl implements ChatbotService {
             throw new IllegalStateException("ChatbotMeetingSuggestion 인스턴스 생성 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 인덱스에서 찾은 모집중 모임 후보
+     *
+     * @param meetings 관련도 순(관련 모임이 없으면 최신순) 후보
+     * @param matched  키워드와 관련된 모임을 찾았으면 true
+     */
+    private record MeetingCandidates(List<Meeting> meetings, boolean matched) {
+
+        // 추천 카드에 보여줄 관련 모임 (최대 3개)
+        List<Meeting> relevant() {
+            return matched ? meetings.stream().limit(3).collect(Collectors.toList()) : List.of();
+        }
+    }
+}
@@ -12,7 +12,7 @@ import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.CommentRepository;
 import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +28,7 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final MeetingsRepository meetingRepository;
     private final MeetingParticipantsRepository meetingParticipantRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
 
 
     /**
@@ -73,8 +73,7 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     public CommentReadDto createComment(Long meetingId, String providerId, String content) {
         // 1. 사용자 및 모임 존재 확인
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user = currentUserResolver.resolve(providerId);
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
@@ -125,9 +124,8 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public CommentReadDto updateComment(Long commentId, String providerId, String content) {
-        // 1. 로그인한 사용자 존재 여부 확인
-        usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 1. 로그인한 사용자 확인 (요청당 한 번만 조회)
+        Long userId = currentUserResolver.resolveUserId(providerId);
 
         // 2. 댓글 존재 여부 확인 및 엔티티 조회
         Comment comment = commentRepository.findById(commentId)
@@ -135,16 +133,17 @@ public class CommentServiceImpl implements CommentService {
 
         // 3. 모임 호스트 및 댓글 작성자 권한 확인
         // 현재 사용자가 댓글 작성자이거나 모임 호스트인지 확인하는 로직 추가
+        // 작성자/호스트 엔티티를 지연 로딩하지 않도록 외래 키(ID)로 비교합니다.
         Meeting meeting = comment.getMeeting();
-        boolean isHost = meeting.getHostUser().getProviderId().equals(providerId);
-        boolean isAuthor = comment.getUser().getProviderId().equals(providerId);
+        boolean isAuthor = comment.getUser().getUserId().equals(userId);
+        boolean isHost = isAuthor || meeting.getHostUser().getUserId().equals(userId);
 
         if (!isHost && !isAuthor) {
             throw new BusinessException(ErrorCode.FORBIDDEN_COMMENT);
         }
 
         // 4. 현재 사용자가 댓글의 작성자인지 확인
-        if (!comment.getUser().getProviderId().equals(providerId)) {
+        if (!isAuthor) {
             throw new BusinessException(ErrorCode.FORBIDDEN_COMMENT);
         }
 
@@ -163,9 +162,8 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public void deleteComment(Long commentId, String providerId) {
-        // 1. 로그인한 사용자 존재 여부 확인
-        usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 1. 로그인한 사용자 확인 (요청당 한 번만 조회)
+        Long userId = currentUserResolver.resolveUserId(providerId);
 
         // 2. 댓글 존재 여부 확인 및 엔티티 조회
         Comment comment = commentRepository.findById(commentId)
@@ -173,16 +171,17 @@ public class CommentServiceImpl implements CommentService {
 
         // 3. 모임 호스트 및 댓글 작성자 권한 확인
         // 현재 사용자가 댓글 작성자이거나 모임 호스트인지 확인하는 로직 추가
+        // 작성자/호스트 엔티티를 지연 로딩하지 않도록 외래 키(ID)로 비교합니다.
         Meeting meeting = comment.getMeeting();
-        boolean isHost = meeting.getHostUser().getProviderId().equals(providerId);
-        boolean isAuthor = comment.getUser().getProviderId().equals(providerId);
+        boolean isAuthor = comment.getUser().getUserId().equals(userId);
+        boolean isHost = isAuthor || meeting.getHostUser().getUserId().equals(userId);
 
         if (!isHost && !isAuthor) {
             throw new BusinessException(ErrorCode.FORBIDDEN_COMMENT);
         }
 
         // 4. 현재 사용자가 댓글의 작성자인지 확인
-        if (!comment.getUser().getProviderId().equals(providerId)) {
+        if (!isAuthor) {
             throw new BusinessException(ErrorCode.FORBIDDEN_COMMENT);
         }
 
@@ -5,14 +5,16 @@ import com.nathing.banthing.entity.Mart;
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
 import com.nathing.banthing.entity.User;
+import com.nathing.banthing.event.MeetingChangedEvent;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.MartsRepository;
 import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,9 +34,10 @@ import org.springframework.beans.factory.annotation.Value;
 public class CreateMeetingService {
 
     private final MartsRepository martsRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final MeetingsRepository meetingsRepository;
     private final MeetingParticipantsRepository meetingParticipantsRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String DEFAULT_THUMBNAIL_IMAGE_URL = "/images/meeting-default-img.svg";
 
     // application.yml의 값을 주입받기 위한 어노테이션
@@ -53,8 +56,7 @@ public class CreateMeetingService {
      */
     public Meeting createMeeting(MeetingCreateRequest request, MultipartFile imageFile, String providerId) {
 
-        User hostUser = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User hostUser = currentUserResolver.resolve(providerId);
 
         Mart mart = martsRepository.findById(request.getMartId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.MART_NOT_FOUND));
@@ -90,6 +92,8 @@ public class CreateMeetingService {
                 .build();
         meetingParticipantsRepository.save(hostParticipant);
 
+        eventPublisher.publishEvent(MeetingChangedEvent.created(savedMeeting.getMeetingId()));
+
         log.info("새로운 모임이 생성되었습니다. meetingId: {}, hostId: {}", savedMeeting.getMeetingId(), hostUser.getUserId());
         return savedMeeting;
     }
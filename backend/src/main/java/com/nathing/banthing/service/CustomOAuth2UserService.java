@@ -1,8 +1,10 @@
 package com.nathing.banthing.service;
 
 import com.nathing.banthing.entity.User;
+import com.nathing.banthing.event.UserProfileChangedEvent;
 import com.nathing.banthing.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -40,6 +42,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UsersRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 공급자에서 사용자 정보를 조회하고, 우리 DB와 동기화한 뒤 OAuth2User를 반환합니다.
@@ -106,6 +109,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         userRepository.save(user);
 
+        // 기존 사용자의 프로필이 바뀌었을 수 있으므로 호스트 정보를 담은 모임 카드도 갱신합니다.
+        existing.ifPresent(u -> eventPublisher.publishEvent(new UserProfileChangedEvent(u.getUserId())));
+
         return new DefaultOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
                 attributes,
@@ -1,11 +1,14 @@
 package com.nathing.banthing.service;
 
 import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteMeetingService {
 
     private final MeetingsRepository meetingsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모임 논리적 삭제
      * @param meetingId 삭제할 모임의 ID
      * @param providerId 요청을 보낸 사용자의 ID (권한 확인용)
      */
+    @RetryOnConflict
     public void deleteMeeting(Long meetingId, String providerId) {
         // 1. 삭제할 모임을 조회합니다.
         //    (@Where 어노테이션 덕분에 이미 삭제된 모임은 여기서 조회되지 않습니다.)
@@ -36,6 +41,7 @@ public class DeleteMeetingService {
         // 3. 'delete'를 호출하면, JPA가 @SQLDelete에 정의된 쿼리를 실행하여
         //    deleted_at 컬럼을 업데이트합니다. (논리적 삭제)
         meetingsRepository.delete(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.deleted(meetingId));
 
         log.info("모임이 논리적으로 삭제되었습니다. meetingId: {}, userId: {}", meetingId, providerId);
     }
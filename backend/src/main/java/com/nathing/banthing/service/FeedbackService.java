@@ -4,12 +4,15 @@ import com.nathing.banthing.dto.enums.FeedbackSearchType;
 import com.nathing.banthing.dto.request.FeedbackCreateRequest;
 import com.nathing.banthing.dto.response.FeedbackResponse;
 import com.nathing.banthing.entity.*;
+import com.nathing.banthing.event.UserProfileChangedEvent;
 import com.nathing.banthing.repository.FeedbacksRepository;
 import com.nathing.banthing.repository.MeetingParticipantsRepository; // 가정: 이 리포지토리가 존재합니다.
 import com.nathing.banthing.repository.MeetingsRepository;
 import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.retry.RetryOnConflict;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +26,10 @@ public class FeedbackService {
     private final MeetingsRepository meetingsRepository;
     private final FeedbacksRepository feedbacksRepository;
     private final MeetingParticipantsRepository meetingParticipantsRepository; // 추가
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
+    @RetryOnConflict
     public User createFeedback(FeedbackCreateRequest dto, String  giverIdStr, String receiverIdStr) {
         // meetingId 유효성 검사
         Meeting meeting = meetingsRepository.findById(dto.getMeetingId())
@@ -84,6 +89,9 @@ public class FeedbackService {
         receiverUser.updateTrustScore(event);
         usersRepository.save(receiverUser);
 
+        // 신뢰도가 바뀌었으므로 받은 사용자가 호스트인 모임 카드도 갱신합니다.
+        eventPublisher.publishEvent(new UserProfileChangedEvent(receiverUser.getUserId()));
+
         // 업데이트된 User 엔티티를 반환합니다.
         return receiverUser;
     }
@@ -1,21 +1,43 @@
 package com.nathing.banthing.service;
 
+import com.nathing.banthing.dto.projection.MeetingFacetCount;
+import com.nathing.banthing.dto.projection.MeetingProfileRow;
+import com.nathing.banthing.dto.projection.ParticipantSummaryRow;
+import com.nathing.banthing.dto.request.MeetingSearchCondition;
 import com.nathing.banthing.dto.response.*;
 import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingCard;
 import com.nathing.banthing.entity.MeetingParticipant;
-import com.nathing.banthing.entity.User;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.util.MeetingFeedCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -32,9 +54,18 @@ import java.util.stream.Collectors;
  * 1. 전체 모임 목록 조회
  * 2. 특정 모임 ID를 기반으로 상세 정보 조회
  * 3. 주어진 사용자의 참여한 모임 목록을 페이징 처리하여 조회
+ * 4. 커서 기반 모임 피드 조회
+ * 5. 좌표 기반 주변 모임 조회
+ * 6. 조건(브랜드/마트/상태/일시/남은 자리) 기반 패싯 검색
+ * 7. 검색어 자동완성
+ * 8. 대용량 목록 스트리밍 조회
  * <p>
  * 사용된 의존성:
  * - MeetingsRepository: 모임 데이터에 접근하기 위한 JPA 리포지토리 인터페이스입니다.
+ * - MeetingCardsRepository: 목록/주변/참여 모임 조회용 비정규화 읽기 모델(모임 카드) 리포지토리입니다.
+ * - MeetingSearchEngine: 설정으로 선택되는 키워드 검색 백엔드입니다. (LIKE / pg_trgm / memory)
+ * - MeetingSearchCache: 정규화된 검색어별 검색 결과 캐시입니다.
+ * - MartSpatialIndex: 마트 좌표의 격자 공간 인덱스입니다. (주변 모임 조회)
  * - MeetingSimpleResponse: 모임의 간략한 정보를 포함하는 DTO 클래스입니다.
  * - MeetingDetailResponse: 특정 모임의 상세 정보를 포함하는 DTO 클래스입니다.
  * - BusinessException 및 ErrorCode: 예외 처리 및 에러 코드 정의를 위한 클래스입니다.
@@ -48,43 +79,327 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class FindMeetingService {
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 5.0;
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int DEFAULT_FACET_PAGE_SIZE = 20;
+    private static final int MAX_FACET_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 50;
+    static final int STREAM_PAGE_SIZE = 500;
+
     private final MeetingsRepository meetingsRepository;
-    private final UsersRepository usersRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final MeetingParticipantsRepository meetingParticipantsRepository;
+    private final MeetingSearchEngine meetingSearchEngine;
+    private final MeetingSearchCache meetingSearchCache;
+    private final MeetingSuggestIndex meetingSuggestIndex;
+    private final MartSpatialIndex martSpatialIndex;
+
+    // 스트리밍 건수/시간 제한 (0이면 제한 없음, 기본값은 전체 내보내기를 위해 제한 없음)
+    @Value("${meeting.stream.max-rows:0}")
+    private int maxStreamRows;
+
+    @Value("${meeting.stream.timeout:0s}")
+    private Duration streamTimeout;
 
     /**
      * 전체 모임 목록 조회 (생성 시간 최신순으로 정렬)
+     * 목록 응답에 필요한 컬럼만 DTO 프로젝션으로 조회하여 엔티티 하이드레이션 비용을 줄이고,
+     * 결과는 정규화된 검색어별로 캐시합니다. (모임 변경 시 무효화)
      * @return 전체 모임의 핵심 정보 리스트
      */
     public List<MeetingSimpleResponse> searchMeetings(String keyword) {
-        List<Meeting> meetings;
+        List<MeetingSimpleResponse> meetings = meetingSearchCache.get(keyword, this::loadMeetings);
+
+        // 결과가 있었던 검색어는 자동완성 인기 검색어 후보로 기록합니다.
+        if (keyword != null && !keyword.isBlank() && !meetings.isEmpty()) {
+            meetingSuggestIndex.recordSearch(keyword);
+        }
+        return meetings;
+    }
+
+    /**
+     * 전체 모임 목록 스트리밍 조회 (최신순)
+     *
+     * searchMeetings와 같은 목록을 리스트로 모으지 않고 한 건씩 consumer에 넘깁니다.
+     * 모임 피드와 같은 (createdAt, meetingId) 키셋으로 STREAM_PAGE_SIZE건씩 나누어 읽으므로 순서는 searchMeetings와 같은 최신순이고,
+     * 페이지마다 짧은 읽기 트랜잭션을 따로 사용하므로 consumer가 응답을 쓰는 동안에는 트랜잭션과 DB 커서를 잡고 있지 않습니다.
+     * 캐시는 거치지 않습니다.
+     * 건수(meeting.stream.max-rows)/시간(meeting.stream.timeout) 제한은 설정으로 켜며, 기본값(0)은 제한 없이 끝까지 보냅니다.
+     * 검색어가 있으면 검색 엔진 설정(meeting.search.engine)과 관계없이 카드 LIKE 검색으로 스트리밍합니다.
+     * (pg_trgm/memory 엔진은 관련도 순 상위 max-results건만 돌려주므로 전체 내보내기와 맞지 않습니다.)
+     *
+     * @param keyword  검색어 (선택)
+     * @param consumer 모임 한 건씩 처리할 콜백 (트랜잭션 밖에서 호출됨)
+     * @return 전체를 보내지 못하고 건수/시간 제한으로 멈췄으면 true
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean streamMeetings(String keyword, Consumer<MeetingSimpleResponse> consumer) {
+        String trimmed = (keyword == null || keyword.isBlank()) ? null : keyword.trim();
+        Pageable limit = PageRequest.of(0, STREAM_PAGE_SIZE);
+        long deadline = System.nanoTime() + streamTimeout.toNanos();
+        MeetingCard last = null;
+        int sent = 0;
 
+        while (true) {
+            List<MeetingCard> page = findStreamPage(trimmed, last, limit);
+            for (MeetingCard card : page) {
+                if (maxStreamRows > 0 && sent == maxStreamRows) {
+                    log.warn("모임 목록 스트리밍 건수 제한 도달: keyword={}, sent={}", trimmed, sent);
+                    return true;
+                }
+                consumer.accept(new MeetingSimpleResponse(card));
+                sent++;
+            }
+            if (page.size() < STREAM_PAGE_SIZE) {
+                return false;
+            }
+            if (!streamTimeout.isZero() && System.nanoTime() - deadline > 0) {
+                log.warn("모임 목록 스트리밍 시간 제한 도달: keyword={}, sent={}", trimmed, sent);
+                return true;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    /**
+     * 스트리밍의 다음 페이지를 조회합니다. (last가 null이면 첫 페이지)
+     */
+    private List<MeetingCard> findStreamPage(String keyword, MeetingCard last, Pageable limit) {
+        Meeting.MeetingStatus excluded = Meeting.MeetingStatus.CANCELLED;
+        if (keyword == null) {
+            return (last == null)
+                    ? meetingCardsRepository.findFeedFirstPage(excluded, limit)
+                    : meetingCardsRepository.findFeedAfterCursor(excluded, last.getCreatedAt(), last.getMeetingId(), limit);
+        }
+        return (last == null)
+                ? meetingCardsRepository.findFeedFirstPageByKeyword(keyword, excluded, limit)
+                : meetingCardsRepository.findFeedAfterCursorByKeyword(
+                        keyword, excluded, last.getCreatedAt(), last.getMeetingId(), limit);
+    }
+
+    /**
+     * 검색어 자동완성
+     * 데이터베이스를 거치지 않고 메모리 접두어 트라이에서 제안 검색어를 조회합니다.
+     *
+     * @param prefix 입력 중인 접두어 (완성된 글자, 입력 중인 자모, 초성 모두 가능)
+     * @param limit  최대 개수 (null이면 MeetingSuggestIndex.TOP_K)
+     * @return 제안 검색어 목록 (가중치 순)
+     */
+    public List<MeetingSuggestResponse> suggest(String prefix, Integer limit) {
+        int size = (limit == null) ? MeetingSuggestIndex.TOP_K : Math.max(1, Math.min(limit, MeetingSuggestIndex.TOP_K));
+        return meetingSuggestIndex.suggest(prefix, size);
+    }
+
+    private List<MeetingSimpleResponse> loadMeetings(String keyword) {
         // ️ 검색어가 비어 있지 않으면 키워드 검색을 수행합니다.
-        if (keyword != null && !keyword.isBlank()) {
-            // meetingsRepository에 이미 제목이나 설명에 키워드가 포함된 모임을 찾는 메서드가 있습니다.
-            meetings = meetingsRepository.findByKeywordAndRecruiting(keyword);
+        if (!keyword.isEmpty()) {
+            // 설정(meeting.search.engine)에 따라 선택된 검색 엔진(LIKE / pg_trgm / memory)으로 검색합니다.
+            return meetingSearchEngine.searchSimple(keyword);
+        }
+
+        // 검색어가 없으면 취소된 모임을 제외한 전체 모임을 최신순으로 모임 카드에서 조회합니다.
+        return meetingCardsRepository.findAllSimpleResponses(Meeting.MeetingStatus.CANCELLED);
+    }
+
+    /**
+     * 커서 기반 모임 피드 조회 (생성 시간 최신순)
+     *
+     * 전체 모임을 한 번에 불러오던 방식과 달리, 취소/삭제 모임을 쿼리에서 제외하고
+     * 커서 이후의 모임을 size 만큼만 읽어오므로 모임 이력이 쌓여도 페이지당 비용이 일정합니다.
+     * 모임 카드 테이블 하나만 (created_at, meeting_id) 인덱스 순서로 읽으므로 마트 조인이나 지연 로딩이 없습니다.
+     * 다음 페이지 존재 여부는 size + 1 건을 조회하여 판단합니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_FEED_SIZE, null이면 DEFAULT_FEED_SIZE)
+     * @return 모임 목록과 다음 커서를 포함한 피드 응답
+     */
+    public MeetingFeedResponse getMeetingFeed(String cursor, Integer size) {
+        int pageSize = (size == null) ? DEFAULT_FEED_SIZE : Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MeetingCard> cards;
+        if (cursor == null || cursor.isBlank()) {
+            cards = meetingCardsRepository.findFeedFirstPage(Meeting.MeetingStatus.CANCELLED, limit);
         } else {
-            // 검색어가 없으면 전체 모임을 최신순으로 조회합니다.
-            meetings = meetingsRepository.findAllWithMartByOrderByCreatedAtDesc();
+            MeetingFeedCursor decoded = MeetingFeedCursor.decode(cursor);
+            cards = meetingCardsRepository.findFeedAfterCursor(
+                    Meeting.MeetingStatus.CANCELLED, decoded.getCreatedAt(), decoded.getMeetingId(), limit);
         }
 
-        return meetings.stream()
-                .filter(meeting -> meeting.getStatus() != Meeting.MeetingStatus.CANCELLED)
-                .map(MeetingSimpleResponse::new)
-                .collect(Collectors.toList());
+        boolean hasNext = cards.size() > pageSize;
+        List<MeetingCard> page = hasNext ? cards.subList(0, pageSize) : cards;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MeetingCard last = page.get(page.size() - 1);
+            nextCursor = MeetingFeedCursor.encode(last.getCreatedAt(), last.getMeetingId());
+        }
+
+        return MeetingFeedResponse.builder()
+                .content(page.stream().map(MeetingSimpleResponse::new).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
+    /**
+     * 좌표 기준 반경 안의 모집중인 모임을 가까운 순으로 조회합니다.
+     *
+     * 전체 모임을 내려받아 단말에서 거리를 계산하던 방식 대신, 마트 공간 인덱스로 반경 안의 마트를 찾고
+     * 해당 마트들의 모집중 모임만 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param latitude  중심 위도 (-90 ~ 90)
+     * @param longitude 중심 경도 (-180 ~ 180)
+     * @param radiusKm  검색 반경 km (0 초과 ~ MAX_NEARBY_RADIUS_KM, null이면 DEFAULT_NEARBY_RADIUS_KM)
+     * @return 거리 오름차순(같으면 모임 일시 순) 모임 목록
+     */
+    public List<MeetingNearbyResponse> findNearbyMeetings(Double latitude, Double longitude, Double radiusKm) {
+        double radius = (radiusKm == null) ? DEFAULT_NEARBY_RADIUS_KM : radiusKm;
+        if (latitude == null || longitude == null
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || !(radius > 0) || radius > MAX_NEARBY_RADIUS_KM) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        Map<Long, Double> distanceByMartId = martSpatialIndex.findWithinRadius(latitude, longitude, radius).stream()
+                .collect(Collectors.toMap(MartSpatialIndex.MartDistance::martId, MartSpatialIndex.MartDistance::distanceKm));
+        if (distanceByMartId.isEmpty()) {
+            return List.of();
+        }
+
+        return meetingCardsRepository.findByMartIdInAndStatus(
+                        distanceByMartId.keySet(), Meeting.MeetingStatus.RECRUITING).stream()
+                .map(card -> new MeetingNearbyResponse(card, distanceByMartId.get(card.getMartId())))
+                .sorted(Comparator.comparingDouble(MeetingNearbyResponse::getDistanceKm)
+                        .thenComparing(MeetingNearbyResponse::getMeetingDate))
+                .toList();
     }
+
+    /**
+     * 조건 기반 모임 패싯 검색
+     *
+     * 결과 목록은 지정된 조건만 WHERE 절에 넣은 QueryDSL 쿼리 하나로 페이지 분량만 조회하고,
+     * 패싯 건수는 (마트, 상태)별 집계 쿼리 하나로 가져와 메모리에서 계산합니다.
+     * 각 패싯은 자기 자신을 제외한 나머지 필터를 적용한 건수이며, totalElements는 모든 필터를 적용한 건수입니다.
+     *
+     * @param condition 필터 조건
+     * @param page      페이지 번호 (0부터, null이면 0)
+     * @param size      페이지 크기 (1 ~ MAX_FACET_PAGE_SIZE, null이면 DEFAULT_FACET_PAGE_SIZE)
+     * @return 모임 목록과 패싯별 건수
+     */
+    public MeetingFacetSearchResponse searchWithFacets(MeetingSearchCondition condition, Integer page, Integer size) {
+        if ((condition.getFrom() != null && condition.getTo() != null && condition.getFrom().isAfter(condition.getTo()))
+                || (condition.getMinFreeSeats() != null && condition.getMinFreeSeats() < 0)
+                || (page != null && page < 0)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        int pageNumber = (page == null) ? 0 : page;
+        int pageSize = (size == null) ? DEFAULT_FACET_PAGE_SIZE : Math.max(1, Math.min(size, MAX_FACET_PAGE_SIZE));
+
+        List<MeetingSimpleResponse> content =
+                meetingsRepository.searchByCondition(condition, PageRequest.of(pageNumber, pageSize));
+        List<MeetingFacetCount> facetCounts = meetingsRepository.countFacets(condition);
+
+        Predicate<MeetingFacetCount> brandMatches = row -> isEmpty(condition.getBrands())
+                || condition.getBrands().contains(row.martBrand());
+        Predicate<MeetingFacetCount> martMatches = row -> isEmpty(condition.getMartIds())
+                || condition.getMartIds().contains(row.martId());
+        // 상태를 지정하지 않은 경우 취소된 모임은 집계 쿼리에서 이미 제외됩니다.
+        Predicate<MeetingFacetCount> statusMatches = row -> isEmpty(condition.getStatuses())
+                || condition.getStatuses().contains(row.status());
+
+        Map<String, Long> brandCounts = new LinkedHashMap<>();
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        Map<Long, Long> martCounts = new LinkedHashMap<>();
+        Map<Long, String> martNames = new LinkedHashMap<>();
+        long totalElements = 0;
+
+        for (MeetingFacetCount row : facetCounts) {
+            boolean brand = brandMatches.test(row);
+            boolean mart = martMatches.test(row);
+            boolean status = statusMatches.test(row);
+
+            if (mart && status) {
+                brandCounts.merge(row.martBrand().name(), row.count(), Long::sum);
+            }
+            if (brand && mart) {
+                statusCounts.merge(row.status().name(), row.count(), Long::sum);
+            }
+            if (brand && status) {
+                martCounts.merge(row.martId(), row.count(), Long::sum);
+                martNames.putIfAbsent(row.martId(), row.martName());
+            }
+            if (brand && mart && status) {
+                totalElements += row.count();
+            }
+        }
+
+        return MeetingFacetSearchResponse.builder()
+                .content(content)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(totalElements)
+                .brandCounts(brandCounts)
+                .statusCounts(statusCounts)
+                .martCounts(martCounts.entrySet().stream()
+                        .map(entry -> new MeetingFacetSearchResponse.MartFacet(
+                                entry.getKey(), martNames.get(entry.getKey()), entry.getValue()))
+                        .sorted(Comparator.comparingLong(MeetingFacetSearchResponse.MartFacet::getCount).reversed())
+                        .toList())
+                .build();
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+
     /**
      * 특정 모임 상세 조회
+     * 마트/호스트/참여자를 한 번의 fetch join 쿼리로 조회하여 응답 변환 중 지연 로딩이 발생하지 않습니다.
      *
      * @param meetingId 조회할 모임의 ID
      * @return 모임의 상세 정보
      */
     public MeetingDetailResponse findMeetingById(Long meetingId) {
-        Meeting meeting = meetingsRepository.findById(meetingId)
+        Meeting meeting = meetingsRepository.findDetailByMeetingId(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
         return new MeetingDetailResponse(meeting);
     }
 
+    /**
+     * 여러 모임 상세 일괄 조회
+     *
+     * 모임마다 상세 API를 호출하면 요청마다 모임 조회와 호스트/마트/참여자 지연 로딩이 반복되므로,
+     * 모임 카드 IN 쿼리 한 번과 승인된 참여자 IN 쿼리 한 번으로 요청한 모임을 모두 조회합니다.
+     * 중복 ID는 한 번만 조회하며, 존재하지 않거나 삭제된 모임은 결과에서 제외합니다.
+     *
+     * @param meetingIds 조회할 모임 ID 목록 (1 ~ MAX_BATCH_SIZE개)
+     * @return 요청한 ID 순서대로 정렬된 모임 상세 정보 목록
+     */
+    public List<MeetingDetailResponse> findMeetingsByIds(List<Long> meetingIds) {
+        if (isEmpty(meetingIds) || meetingIds.contains(null)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        List<Long> distinctIds = meetingIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        Map<Long, MeetingDetailResponse> responsesById = toDetailResponses(
+                meetingCardsRepository.findProfileRowsByMeetingIdIn(distinctIds)).stream()
+                .collect(Collectors.toMap(MeetingDetailResponse::getMeetingId, Function.identity()));
+
+        return distinctIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 주어진 사용자의 특정 참여 상태 모임 목록을 페이징 처리하여 조회합니다.
      * 사용자는 Provider ID를 통해 식별되며, 특정 신청 상태의 모임만 조회할 수 있습니다.
@@ -101,24 +416,19 @@ public class FindMeetingService {
             String providerId,
             MeetingParticipant.ApplicationStatus status,
             Pageable pageable) {
-        status.name();
         log.info("참여 상태 모임 목록 조회 서비스 메서드 - 페이징: {}", pageable);
 
-        // 사용자 정보 조회
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 사용자 ID 확인 (액세스 토큰의 사용자 ID 클레임을 사용하므로 사용자 조회 없음)
+        Long userId = currentUserResolver.resolveUserId(providerId);
 
-        // 사용자의 특정 참여 상태 모임을 페이징 정보와 함께 목록을 불러옴
-        Page<Meeting> meetingPage = meetingsRepository.findMeetingsWithMartByUserIdAndStatus(
-                user.getUserId()
-                , status.name()
+        // 사용자의 특정 참여 상태 모임을 페이징 정보와 함께 모임 카드에서 불러옴 (모임/마트/호스트 컬럼)
+        Page<MeetingProfileRow> meetingPage = meetingCardsRepository.findProfileRowsByUserIdAndStatus(
+                userId
+                , status
                 , pageable
         );
 
-        // Meeting 엔티티 리스트를 MeetingDetailResponse 리스트로 변환
-        List<MeetingDetailResponse> items = meetingPage.getContent().stream()
-                .map(MeetingDetailResponse::new)
-                .toList();
+        List<MeetingDetailResponse> items = toDetailResponses(meetingPage.getContent());
 
         return MeetingProfilePageResponse.builder()
                 .content(items)
@@ -128,6 +438,26 @@ public class FindMeetingService {
                 .build();
     }
 
+    /**
+     * 모임 프로젝션 목록에 승인된 참여자를 붙여 상세 응답으로 변환합니다. (입력 순서 유지)
+     * 모임들의 승인된 참여자는 IN 쿼리 한 번으로 조회하여 모임별로 묶습니다.
+     */
+    private List<MeetingDetailResponse> toDetailResponses(List<MeetingProfileRow> rows) {
+        List<Long> meetingIds = rows.stream()
+                .map(MeetingProfileRow::meetingId)
+                .toList();
+        Map<Long, List<ParticipantSummaryRow>> participantsByMeetingId = meetingIds.isEmpty()
+                ? Map.of()
+                : meetingParticipantsRepository.findSummariesByMeetingIdInAndStatus(
+                        meetingIds, MeetingParticipant.ApplicationStatus.APPROVED).stream()
+                .collect(Collectors.groupingBy(ParticipantSummaryRow::meetingId));
+
+        return rows.stream()
+                .map(row -> new MeetingDetailResponse(row,
+                        participantsByMeetingId.getOrDefault(row.meetingId(), List.of())))
+                .toList();
+    }
+
 
     /**
      * 지정된 모임 ID에 해당하는 참가자 목록을 반환하는 메서드입니다.
@@ -143,7 +473,8 @@ public class FindMeetingService {
      *                          데이터베이스에 존재하지 않을 경우 예외를 발생시킵니다.
      */
     public ParticipantListResponse getParticipants(Long meetingId) {
-        Meeting meeting = meetingsRepository.findById(meetingId)
+        // 참여자와 각 참여자의 사용자 정보를 함께 조회 (참여자 수만큼 지연 로딩하지 않음)
+        Meeting meeting = meetingsRepository.findDetailByMeetingId(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
         List<MeetingParticipant> participants = meeting.getParticipants();
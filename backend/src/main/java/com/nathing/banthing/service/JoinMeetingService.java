@@ -9,7 +9,7 @@ import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,7 +42,7 @@ import java.util.stream.Collectors;
 public class JoinMeetingService {
 
     private final MeetingsRepository meetingsRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final MeetingParticipantsRepository meetingParticipantsRepository;
 
     /**
@@ -68,8 +68,7 @@ public class JoinMeetingService {
         }
 
         // 2. 신청하는 사용자 정보 확인 (providerId로 조회)
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user = currentUserResolver.resolve(providerId);
 
         // 3. 중복 신청 방지 (거절된 사용자 재신청 방지)
         MeetingParticipant existingParticipant = meetingParticipantsRepository
@@ -125,8 +124,7 @@ public class JoinMeetingService {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User currentUser = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User currentUser = currentUserResolver.resolve(providerId);
 
         // 2. 요청자가 호스트인지 확인
         boolean isHost = meeting.getHostUser().equals(currentUser);
@@ -1,22 +1,36 @@
 package com.nathing.banthing.service;
 
+import com.nathing.banthing.dto.request.ParticipantDecisionRequest;
+import com.nathing.banthing.dto.response.ParticipantDecisionResponse;
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
 import com.nathing.banthing.entity.User;
+import com.nathing.banthing.event.MeetingChangedEvent;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.capacity.MeetingCapacity;
+import com.nathing.banthing.service.retry.RetryOnConflict;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * ManageMeetingService 클래스는 모임 관리와 관련된 주요 비즈니스 로직을 제공하는 서비스 클래스입니다.
  * 모임에 대한 승인, 마감, 탈퇴, 완료 등의 작업을 담당하며, 데이터베이스와의 상호작용을 위해
- * MeetingsRepository, MeetingParticipantsRepository, UsersRepository를 의존합니다.
+ * MeetingsRepository, MeetingParticipantsRepository, CurrentUserResolver를 의존합니다.
  *
  * @author 고동현
  * @since - 2025-09-15
@@ -30,14 +44,19 @@ public class ManageMeetingService {
 
     private final MeetingsRepository meetingsRepository;
     private final MeetingParticipantsRepository meetingParticipantsRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeetingCapacity meetingCapacity;
 
 
 
 
     /**
      * 참가 신청 수락
+     * 신청 상태 변경과 인원 증가/모집 마감은 MeetingCapacity의 조건부 UPDATE로 처리하여
+     * 동시에 승인해도 정원을 넘기거나 같은 신청이 두 번 집계되지 않습니다.
      */
+    @RetryOnConflict
     public void approveParticipant(Long meetingId, Long participantId, String hostProviderId) {
         log.info("===== approveParticipant 시작: meetingId={}, participantId={} =====", meetingId, participantId);
 
@@ -45,8 +64,7 @@ public class ManageMeetingService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
         log.info("모임 찾기 성공: {}", meeting.getTitle());
 
-        User hostUser = usersRepository.findByProviderId(hostProviderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User hostUser = currentUserResolver.resolve(hostProviderId);
 
         if (!meeting.getHostUser().equals(hostUser)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
@@ -57,102 +75,185 @@ public class ManageMeetingService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND));
         log.info("참가자 찾기 성공: {}, 현재 상태: {}", participant.getUser().getNickname(), participant.getApplicationStatus());
 
-        participant.approve();
-        log.info("참가자 상태 변경 완료: 새로운 상태: {}", participant.getApplicationStatus());
+        meetingCapacity.admit(meeting, participant.getParticipantId());
+        log.info("참가자 승인 및 모임 현재 인원 업데이트: {}/{}, 상태: {}",
+                meeting.getCurrentParticipants(), meeting.getMaxParticipants(), meeting.getStatus());
 
-        int currentCount = meeting.getCurrentParticipants();
-        int newParticipantCount = currentCount + 1;
-        meeting.setCurrentParticipants(newParticipantCount);
-        log.info("모임 현재 인원 업데이트: {} -> {}", currentCount, newParticipantCount);
+        eventPublisher.publishEvent(MeetingChangedEvent.participantsChanged(meetingId));
+        log.info("===== 데이터베이스에 저장 시도... 트랜잭션 커밋 대기 =====");
+    }
 
-        if (newParticipantCount >= meeting.getMaxParticipants()) {
-            meeting.closeRecruitment();
-            log.info("모임이 가득 차서 모집 마감 처리됨");
+    /**
+     * 참가 신청 일괄 승인/거절
+     * 요청에 담긴 신청들을 한 트랜잭션에서 처리하며, 승인/거절을 각각 UPDATE 한 번으로 반영하고
+     * 모임 인원은 승인한 수만큼 한 번에 늘립니다.
+     *
+     * 승인은 요청 순서대로 남은 자리만큼만 처리하고, 나머지는 실패(MEETING_IS_FULL 등)로 응답합니다.
+     * 존재하지 않거나 이미 처리된 신청도 전체를 실패시키지 않고 해당 항목만 실패로 응답합니다.
+     * 참가 신청 행 → 모임 행 순서로 잠가 단건 승인/탈퇴와 동시에 실행되어도 정원을 넘기지 않습니다.
+     */
+    @RetryOnConflict
+    public ParticipantDecisionResponse decideParticipants(Long meetingId, ParticipantDecisionRequest request,
+                                                          String hostProviderId) {
+        Meeting meeting = meetingsRepository.findById(meetingId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        User hostUser = currentUserResolver.resolve(hostProviderId);
+
+        if (!meeting.getHostUser().equals(hostUser)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        meetingParticipantsRepository.save(participant);
-        meetingsRepository.save(meeting);
-        log.info("===== 데이터베이스에 저장 시도... 트랜잭션 커밋 대기 =====");
+        // 같은 신청이 여러 번 오면 처음 것만 처리 (요청 순서 유지)
+        Map<Long, ParticipantDecisionRequest.Decision> decisions = new LinkedHashMap<>();
+        for (ParticipantDecisionRequest.Item item : request.getDecisions()) {
+            decisions.putIfAbsent(item.getParticipantId(), item.getDecision());
+        }
+
+        Map<Long, MeetingParticipant> participants = meetingParticipantsRepository
+                .findForUpdateByMeetingIdAndParticipantIdIn(meetingId, decisions.keySet()).stream()
+                .collect(Collectors.toMap(MeetingParticipant::getParticipantId, Function.identity()));
+        int availableSeats = meetingCapacity.lockAvailableSeats(meeting);
+        ErrorCode noSeatError = meeting.getStatus() == Meeting.MeetingStatus.RECRUITING
+                ? ErrorCode.MEETING_IS_FULL : ErrorCode.MEETING_IS_NOT_RECRUITING;
+
+        List<Long> toApprove = new ArrayList<>();
+        List<Long> toReject = new ArrayList<>();
+        List<ParticipantDecisionResponse.Result> results = new ArrayList<>();
+        for (Map.Entry<Long, ParticipantDecisionRequest.Decision> entry : decisions.entrySet()) {
+            Long participantId = entry.getKey();
+            ParticipantDecisionRequest.Decision decision = entry.getValue();
+            MeetingParticipant participant = participants.get(participantId);
+
+            ErrorCode error = null;
+            if (participant == null) {
+                error = ErrorCode.PARTICIPANT_NOT_FOUND;
+            } else if (participant.getApplicationStatus() != MeetingParticipant.ApplicationStatus.PENDING) {
+                error = ErrorCode.PARTICIPANT_APPLICATION_STATUS_INVALID;
+            } else if (decision == ParticipantDecisionRequest.Decision.REJECT) {
+                toReject.add(participantId);
+            } else if (toApprove.size() < availableSeats) {
+                toApprove.add(participantId);
+            } else {
+                error = noSeatError;
+            }
+
+            results.add(error == null
+                    ? ParticipantDecisionResponse.Result.succeeded(participantId, decision)
+                    : ParticipantDecisionResponse.Result.failed(participantId, decision, error));
+        }
+
+        if (!toReject.isEmpty()) {
+            meetingParticipantsRepository.updateStatusIfPending(toReject, meetingId,
+                    MeetingParticipant.ApplicationStatus.PENDING, MeetingParticipant.ApplicationStatus.REJECTED,
+                    LocalDateTime.now());
+        }
+        meetingCapacity.admitAll(meeting, toApprove);
+
+        if (!toApprove.isEmpty() || !toReject.isEmpty()) {
+            eventPublisher.publishEvent(MeetingChangedEvent.participantsChanged(meetingId));
+        }
+        log.info("참가 신청 일괄 처리: meetingId={}, 승인={}, 거절={}, 실패={}, 현재 인원={}/{}, 상태={}",
+                meetingId, toApprove.size(), toReject.size(), results.size() - toApprove.size() - toReject.size(),
+                meeting.getCurrentParticipants(), meeting.getMaxParticipants(), meeting.getStatus());
+
+        return ParticipantDecisionResponse.builder()
+                .approvedCount(toApprove.size())
+                .rejectedCount(toReject.size())
+                .failedCount(results.size() - toApprove.size() - toReject.size())
+                .currentParticipants(meeting.getCurrentParticipants())
+                .maxParticipants(meeting.getMaxParticipants())
+                .status(meeting.getStatus().name())
+                .results(results)
+                .build();
     }
 
     /**
      * 모임 수동 모집 마감
      */
+    @RetryOnConflict
     public void closeRecruitment(Long meetingId, String hostProviderId) {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User hostUser = usersRepository.findByProviderId(hostProviderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User hostUser = currentUserResolver.resolve(hostProviderId);
 
         if (!meeting.getHostUser().equals(hostUser)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
         meeting.closeRecruitment();
+        eventPublisher.publishEvent(MeetingChangedEvent.statusChanged(meetingId));
     }
 
 
     /**
      * 참가 신청 거절 (상태를 REJECTED로 변경)
+     * 대기 중(PENDING)인 이 모임의 신청만 조건부 UPDATE로 거절합니다.
+     * 승인된 참가자는 인원에 포함되므로 거절할 수 없으며, 인원 변경은 탈퇴(MeetingCapacity.release)로만 일어납니다.
      */
-    @Transactional
+    @RetryOnConflict
     public void rejectParticipant(Long meetingId, Long participantId, String hostProviderId) {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User hostUser = usersRepository.findByProviderId(hostProviderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User hostUser = currentUserResolver.resolve(hostProviderId);
 
         // 호스트 권한 확인
         if (!meeting.getHostUser().equals(hostUser)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        MeetingParticipant participant = meetingParticipantsRepository.findById(participantId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND));
-
         // DB에서 삭제하는 대신, 상태를 'REJECTED'로 변경합니다.
-        participant.reject();
+        int rejected = meetingParticipantsRepository.updateStatusIfPending(List.of(participantId), meetingId,
+                MeetingParticipant.ApplicationStatus.PENDING, MeetingParticipant.ApplicationStatus.REJECTED,
+                LocalDateTime.now());
+        if (rejected == 0) {
+            boolean exists = meetingParticipantsRepository.findById(participantId)
+                    .filter(participant -> participant.getMeeting().getMeetingId().equals(meetingId))
+                    .isPresent();
+            throw new BusinessException(exists
+                    ? ErrorCode.PARTICIPANT_APPLICATION_STATUS_INVALID : ErrorCode.PARTICIPANT_NOT_FOUND);
+        }
 
+        eventPublisher.publishEvent(MeetingChangedEvent.participantsChanged(meetingId));
     }
 
     /**
      * 모임 탈퇴 처리
+     * 승인된 참가자가 탈퇴하면 인원을 줄이고, 정원이 차서 마감된 모임은 다시 모집중으로 바꿉니다.
      */
+    @RetryOnConflict
     public void leaveMeeting(Long meetingId, String providerId) {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user = currentUserResolver.resolve(providerId);
 
         MeetingParticipant participant = meetingParticipantsRepository
                 .findByMeetingAndUser(meeting, user)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND));
 
-        meetingParticipantsRepository.delete(participant);
-
-        if (meeting.getStatus() == Meeting.MeetingStatus.FULL) {
-            meeting.reopenRecruitment();
-        }
+        meetingCapacity.release(meeting, participant);
+        eventPublisher.publishEvent(MeetingChangedEvent.participantsChanged(meetingId));
     }
 
 
     /**
      * 모임 종료 처리
      */
+    @RetryOnConflict
     public void completeMeeting(Long meetingId, String hostProviderId) {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User hostUser = usersRepository.findByProviderId(hostProviderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User hostUser = currentUserResolver.resolve(hostProviderId);
 
         if (!meeting.getHostUser().equals(hostUser)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
         meeting.completeMeeting();
+        eventPublisher.publishEvent(MeetingChangedEvent.statusChanged(meetingId));
     }
 }
\ No newline at end of file
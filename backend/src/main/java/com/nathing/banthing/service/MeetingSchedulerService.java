@@ -2,21 +2,39 @@ package com.nathing.banthing.service;
 
 import com.nathing.banthing.entity.Meeting;
 import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingParticipantsRepository;
 import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.lease.SchedulerLeased;
+import com.nathing.banthing.service.schedule.SchedulerChunkRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
  * 이 클래스는 모임 관련 스케줄러 기능을 제공하며, 정해진 시간에 자동으로
  * 모임의 상태를 업데이트하는 로직을 포함하고 있습니다.
  *
+ * 기본(meeting.scheduler.mode=set)은 취소/시작/완료 대상을 ID로만 조회하고 UPDATE 몇 번으로 한꺼번에 전환하므로,
+ * 밀린 모임이 늘어나도 엔티티와 참여자 컬렉션을 불러오지 않아 실행 비용이 거의 일정합니다.
+ * entity 모드는 기존처럼 모임을 하나씩 엔티티로 불러와 전환합니다. (롤백용)
+ *
+ * 모임별 정확한 전환 시각은 MeetingDeadlineQueue가 applyDueTransition(조건부 UPDATE로 선점)으로 처리하고,
+ * 아래 두 스케줄 작업은 놓친 모임(재시작 중 지난 마감, 큐 반영 실패 등)을 정리하는 저빈도 안전망으로 동작합니다.
+ * 서버가 여러 대여도 스케줄 작업은 리스(@SchedulerLeased)를 얻은 한 서버에서만 실행되며,
+ * 대상은 SchedulerChunkRunner가 고정 크기 청크로 나눠 청크마다 짧은 트랜잭션(펜싱 포함)으로 처리합니다.
+ *
  * @author 고동현
  * @since - 2025-09-15
  * @version 1.1.0
@@ -26,10 +44,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MeetingSchedulerService {
 
+    /** 진행중 모임이 자동 완료되기까지 모임 시간 이후 경과해야 하는 시간 */
+    public static final Duration COMPLETE_AFTER = Duration.ofHours(24);
+
     private final MeetingsRepository meetingsRepository;
+    private final MeetingParticipantsRepository meetingParticipantsRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerChunkRunner schedulerChunkRunner;
+
+    /** 상태 전환 방식 (set: 일괄 UPDATE, entity: 엔티티별 전환) */
+    @Value("${meeting.scheduler.mode:set}")
+    private String mode;
 
     /**
-     * [수정] 매 분마다 실행되어, 모집 중이거나 모집 마감 상태이고 시작 시간이 지난 모임을
+     * [수정] 주기적으로(기본 10분마다) 실행되어, 모집 중이거나 모집 마감 상태이고 시작 시간이 지난 모임을
      * '진행 중(ONGOING)' 상태로 변경합니다.
      *
      * 기존 로직에서는 'FULL' 상태의 모임만 처리하여, 인원이 다 차지 않은 모임이
@@ -40,73 +69,187 @@ public class MeetingSchedulerService {
      *
      * [버그 수정] 모임 시작 조건이 전체 참여자 수가 아닌, '승인된' 참여자 수를 기준으로 하도록 수정했습니다.
      */
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
+    @Scheduled(cron = "${meeting.scheduler.sweep.start-cron:0 */10 * * * *}")
+    @SchedulerLeased(job = "meeting-start", leaseFor = "PT5M")
     public void startScheduledMeetings() {
         log.info("스케줄러: 시작할 모임을 확인합니다...");
         LocalDateTime now = LocalDateTime.now();
+        EnumSet<Meeting.MeetingStatus> startable = EnumSet.of(Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL);
 
-        List<Meeting.MeetingStatus> targetStatuses = Arrays.asList(
-                Meeting.MeetingStatus.RECRUITING,
-                Meeting.MeetingStatus.FULL
-        );
-
-        List<Meeting> meetingsToStart = meetingsRepository
-                .findByStatusInAndMeetingDateBefore(targetStatuses, now);
-
-        if (meetingsToStart.isEmpty()) {
-            log.info("스케줄러: 현재 시작할 모임이 없습니다.");
+        if (!isSetBased()) {
+            // 청크마다 모임 엔티티를 불러와 승인 인원에 따라 하나씩 취소/시작합니다.
+            int changed = schedulerChunkRunner.run("start",
+                    (afterId, page) -> meetingsRepository.findIdsByStatusInAndMeetingDateBefore(startable, now, afterId, page),
+                    ids -> (int) meetingsRepository.findAllById(ids).stream()
+                            .filter(meeting -> transitionIfDue(meeting, now))
+                            .count());
+            log.info("스케줄러: 모임 {}건 취소/시작", changed);
             return;
         }
 
-        for (Meeting meeting : meetingsToStart) {
-            try {
-                // 1. 전체 참여자 목록에서 'APPROVED' 상태인 참여자만 필터링하여 수를 계산합니다.
-                long approvedParticipantsCount = meeting.getParticipants().stream()
-                        .filter(participant -> participant.getApplicationStatus() == MeetingParticipant.ApplicationStatus.APPROVED)
-                        .count();
-
-                // 2. '모집 중' 상태이면서 확정된 참여자가 1명(호스트) 이하인 경우, 모임을 'CANCELED'로 변경합니다.
-                if (approvedParticipantsCount <= 1 && meeting.getStatus() == Meeting.MeetingStatus.RECRUITING) {
-                    meeting.cancelMeeting(); // Meeting 엔티티의 cancelMeeting() 메서드 호출
-                    log.warn("모임 ID {}가 확정된 참여자가 없어 취소되었습니다. (확정 인원: {})", meeting.getMeetingId(), approvedParticipantsCount);
-                } else {
-                    // 3. 그 외의 경우 (확정 참여자가 2명 이상), 정상적으로 모임을 시작합니다.
-                    meeting.startMeeting(); // Meeting 엔티티의 startMeeting() 메서드 호출
-                    log.info("모임 ID {}의 상태가 ONGOING(진행중)으로 업데이트되었습니다. (확정 인원: {})", meeting.getMeetingId(), approvedParticipantsCount);
-                }
-
-            } catch (Exception e) {
-                log.error("모임 ID {} 처리 실패: {}", meeting.getMeetingId(), e.getMessage());
-            }
+        // 승인 인원이 1명(호스트) 이하인 모집중 모임을 취소하고, 모집마감이거나 승인 인원이 2명 이상인 모임을 시작합니다.
+        // 두 대상은 조회와 UPDATE 모두 서로 배타적인 조건이므로, 취소 청크가 실패해도 그 모임은 시작되지 않고 다음 실행에서 다시 취소됩니다.
+        int cancelled = schedulerChunkRunner.run("cancel",
+                (afterId, page) -> meetingsRepository.findIdsToCancel(Meeting.MeetingStatus.RECRUITING,
+                        MeetingParticipant.ApplicationStatus.APPROVED, now, afterId, page),
+                ids -> cancel(ids, now));
+        int started = schedulerChunkRunner.run("start",
+                (afterId, page) -> meetingsRepository.findIdsToStart(startable, Meeting.MeetingStatus.FULL,
+                        MeetingParticipant.ApplicationStatus.APPROVED, now, afterId, page),
+                ids -> start(ids, now));
+
+        if (cancelled == 0 && started == 0) {
+            log.info("스케줄러: 현재 시작할 모임이 없습니다.");
+        } else {
+            log.info("스케줄러: 모임 {}건 취소, {}건 시작", cancelled, started);
         }
     }
 
 
     /**
-     * 매일 자정에 실행되어, 진행 중(ONGOING)인 모임들 중
+     * 주기적으로(기본 매시 정각) 실행되어, 진행 중(ONGOING)인 모임들 중
      * 시작된 지 24시간이 지난 모임들을 자동으로 완료(COMPLETED) 처리합니다.
      */
-    @Scheduled(cron = "0 0 0 * * * ")
-    @Transactional
+    @Scheduled(cron = "${meeting.scheduler.sweep.complete-cron:0 0 * * * *}")
+    @SchedulerLeased(job = "meeting-complete", leaseFor = "PT30M")
     public void autoCompleteMeetings() {
         log.info("스케줄러: 자동 완료할 모임을 확인합니다...");
-        LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-        List<Meeting> meetingsToComplete = meetingsRepository
-                .findByStatusAndMeetingDateBefore(Meeting.MeetingStatus.ONGOING, twentyFourHoursAgo);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime twentyFourHoursAgo = now.minus(COMPLETE_AFTER);
+        EnumSet<Meeting.MeetingStatus> ongoing = EnumSet.of(Meeting.MeetingStatus.ONGOING);
+
+        int completed = schedulerChunkRunner.run("complete",
+                (afterId, page) -> meetingsRepository.findIdsByStatusInAndMeetingDateBefore(ongoing, twentyFourHoursAgo, afterId, page),
+                ids -> isSetBased()
+                        ? transition(ids, ongoing, Meeting.MeetingStatus.COMPLETED, twentyFourHoursAgo, now)
+                        : (int) meetingsRepository.findAllById(ids).stream()
+                                .filter(meeting -> transitionIfDue(meeting, now))
+                                .count());
 
-        if (meetingsToComplete.isEmpty()) {
+        if (completed == 0) {
             log.info("스케줄러: 현재 자동 완료할 모임이 없습니다.");
-            return;
+        } else {
+            log.info("스케줄러: 모임 {}건 자동 완료", completed);
         }
+    }
+
+    /**
+     * 마감 시각이 된 모임 하나를 전환합니다. (MeetingDeadlineQueue에서 호출)
+     * 정리 스윕과 같은 규칙으로, 시작 시간이 지난 모집중/모집마감 모임은 취소 또는 시작하고
+     * 시작된 지 24시간이 지난 진행중 모임은 완료합니다. 아직 마감 전이거나 이미 전환된 모임은 그대로 둡니다.
+     *
+     * 마감 큐는 서버마다 있으므로 여러 서버가 같은 모임을 동시에 꺼낼 수 있습니다.
+     * 엔티티를 읽고 바꾸는 대신 조건을 다시 확인하는 UPDATE로 모임을 선점하므로, 행 잠금 순서대로 한 서버만 1건을 바꾸고
+     * 나머지 서버는 0건으로 끝나며 이벤트도 발행하지 않습니다.
+     *
+     * @return 상태를 바꿨으면 true
+     */
+    @Transactional
+    public boolean applyDueTransition(Long meetingId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = List.of(meetingId);
+        return cancel(ids, now) > 0
+                || start(ids, now) > 0
+                || transition(ids, EnumSet.of(Meeting.MeetingStatus.ONGOING), Meeting.MeetingStatus.COMPLETED,
+                        now.minus(COMPLETE_AFTER), now) > 0;
+    }
+
+    /**
+     * 모임 엔티티 하나를 규칙에 따라 취소/시작/완료하고 상태 변경 이벤트를 발행합니다.
+     *
+     * @return 상태를 바꿨으면 true
+     */
+    private boolean transitionIfDue(Meeting meeting, LocalDateTime now) {
+        Long meetingId = meeting.getMeetingId();
+        Meeting.MeetingStatus status = meeting.getStatus();
 
-        for (Meeting meeting : meetingsToComplete) {
-            try {
-                meeting.completeMeeting();
-                log.info("모임 ID {}가 자동으로 완료되었습니다.", meeting.getMeetingId());
-            } catch (Exception e) {
-                log.error("모임 ID {} 자동 완료 실패: {}", meeting.getMeetingId(), e.getMessage());
+        if ((status == Meeting.MeetingStatus.RECRUITING || status == Meeting.MeetingStatus.FULL)
+                && meeting.getMeetingDate().isBefore(now)) {
+            // '승인된' 참여자 수를 기준으로, 모집중이면서 확정 인원이 1명(호스트) 이하이면 취소하고 그 외에는 시작합니다.
+            long approvedParticipantsCount = meetingParticipantsRepository
+                    .countByMeetingAndApplicationStatus(meeting, MeetingParticipant.ApplicationStatus.APPROVED);
+            if (approvedParticipantsCount <= 1 && status == Meeting.MeetingStatus.RECRUITING) {
+                meeting.cancelMeeting();
+                log.warn("모임 ID {}가 확정된 참여자가 없어 취소되었습니다. (확정 인원: {})", meetingId, approvedParticipantsCount);
+            } else {
+                meeting.startMeeting();
+                log.info("모임 ID {}의 상태가 ONGOING(진행중)으로 업데이트되었습니다. (확정 인원: {})", meetingId, approvedParticipantsCount);
             }
+        } else if (status == Meeting.MeetingStatus.ONGOING
+                && meeting.getMeetingDate().isBefore(now.minus(COMPLETE_AFTER))) {
+            meeting.completeMeeting();
+            log.info("모임 ID {}가 자동으로 완료되었습니다.", meetingId);
+        } else {
+            return false;
+        }
+        eventPublisher.publishEvent(MeetingChangedEvent.statusChanged(meetingId));
+        return true;
+    }
+
+    /**
+     * 조회한 모임 중 아직 취소 조건을 만족하는 모임만 UPDATE 한 번으로 취소합니다.
+     * 조회 이후 참여자가 승인되었거나 상태가 바뀐 모임은 UPDATE 조건에서 다시 걸러집니다.
+     *
+     * @return 변경된 모임 수
+     */
+    private int cancel(List<Long> meetingIds, LocalDateTime now) {
+        if (meetingIds.isEmpty()) {
+            return 0;
         }
+        int updated = meetingsRepository.cancelByMeetingIdIn(meetingIds, Meeting.MeetingStatus.RECRUITING,
+                MeetingParticipant.ApplicationStatus.APPROVED, Meeting.MeetingStatus.CANCELLED, now);
+        return publishChanged(meetingIds, updated, Meeting.MeetingStatus.CANCELLED, now);
+    }
+
+    /**
+     * 조회한 모임 중 아직 시작 조건을 만족하는 모임만 UPDATE 한 번으로 시작합니다.
+     *
+     * @return 변경된 모임 수
+     */
+    private int start(List<Long> meetingIds, LocalDateTime now) {
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+        int updated = meetingsRepository.startByMeetingIdIn(meetingIds,
+                EnumSet.of(Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL), Meeting.MeetingStatus.FULL,
+                MeetingParticipant.ApplicationStatus.APPROVED, Meeting.MeetingStatus.ONGOING, now);
+        return publishChanged(meetingIds, updated, Meeting.MeetingStatus.ONGOING, now);
+    }
+
+    /**
+     * 조회한 모임 중 아직 fromStatuses 상태이고 모임 시간이 dueBefore 이전인 모임만 UPDATE 한 번으로 전환합니다.
+     *
+     * @return 변경된 모임 수
+     */
+    private int transition(List<Long> meetingIds, EnumSet<Meeting.MeetingStatus> fromStatuses,
+                           Meeting.MeetingStatus newStatus, LocalDateTime dueBefore, LocalDateTime now) {
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+        int updated = meetingsRepository.updateStatusByMeetingIdIn(meetingIds, fromStatuses, newStatus, dueBefore, now);
+        return publishChanged(meetingIds, updated, newStatus, now);
+    }
+
+    /**
+     * 실제로 바뀐 모임의 카드 상태를 UPDATE 한 번으로 맞추고, 일괄 상태 변경 이벤트 하나를 발행합니다.
+     * (모임마다 카드를 다시 투영하지 않으며, 조건에서 제외된 모임에는 이벤트를 보내지 않습니다.)
+     */
+    private int publishChanged(List<Long> meetingIds, int updated, Meeting.MeetingStatus newStatus, LocalDateTime now) {
+        if (updated == 0) {
+            return 0;
+        }
+        List<Long> changed = meetingIds;
+        if (updated != meetingIds.size()) {
+            log.warn("스케줄러: {} 전환 대상 {}건 중 {}건만 변경되었습니다. (그 사이 조건이 바뀐 모임 제외)",
+                    newStatus, meetingIds.size(), updated);
+            changed = meetingsRepository.findIdsByMeetingIdInAndStatus(meetingIds, newStatus);
+        }
+        meetingCardsRepository.updateStatusByMeetingIdIn(changed, newStatus, now);
+        eventPublisher.publishEvent(new MeetingsStatusChangedEvent(changed, newStatus));
+        return updated;
+    }
+
+    private boolean isSetBased() {
+        return !"entity".equalsIgnoreCase(mode);
     }
-}
\ No newline at end of file
+}
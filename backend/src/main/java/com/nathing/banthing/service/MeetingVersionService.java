@@ -0,0 +1,117 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.dto.projection.MeetingVersion;
+import com.nathing.banthing.entity.MeetingListVersion;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.event.UserProfileChangedEvent;
+import com.nathing.banthing.repository.MeetingListVersionsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 모임 목록/상세 응답의 ETag와 Last-Modified 값을 계산하는 서비스입니다.
+ *
+ * 엔티티를 조회하거나 JSON을 직렬화하지 않고, 집계 쿼리 한 번으로 얻은 버전과 요청 파라미터를 조합해 약한 ETag(W/"...")를 만듭니다.
+ * - 목록: 모임 목록 변경 번호({@link MeetingListVersion}). 목록에 보이는 데이터를 바꾸는 트랜잭션마다
+ *   커밋 직전에 1 올리므로, 이전 시각을 기록한 쓰기(스케줄러 청크 등)가 나중에 커밋되어도 값이 바뀝니다.
+ * - 상세: 모임/호스트/참여 신청/참여자 사용자의 최대 수정 시각 + 참여 신청 수
+ * 컨트롤러는 이 값으로 WebRequest.checkNotModified를 호출해 변경이 없으면 304를 응답합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingVersionService {
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingListVersionsRepository meetingListVersionsRepository;
+
+    /**
+     * 모임 목록 응답의 검증자
+     *
+     * @param variant 같은 엔드포인트 안에서 응답을 구분하는 요청 파라미터 (검색어, 커서, 페이지 크기 등)
+     */
+    @Transactional(readOnly = true)
+    public Validators getListValidators(Object... variant) {
+        return meetingListVersionsRepository.findById(MeetingListVersion.LIST_ID)
+                .map(version -> toValidators(version.getChangeSeq(), version.getUpdatedAt(), variant))
+                .orElseGet(() -> toValidators(0L, null, variant));
+    }
+
+    /**
+     * 모임 상세 응답의 검증자 (모임이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Validators getDetailValidators(Long meetingId) {
+        MeetingVersion version = meetingsRepository.findDetailVersion(meetingId);
+        return version == null
+                ? null
+                : toValidators(version.lastModified(), version.lastModified(), meetingId, version.rowCount());
+    }
+
+    /**
+     * 모임 생성/수정/삭제/참여 인원/상태가 바뀐 트랜잭션의 커밋 직전에 목록 변경 번호를 올립니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 올립니다. (fallbackExecution)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        increaseListVersion();
+    }
+
+    /**
+     * 스케줄러 일괄 상태 전환 청크의 커밋 직전에 목록 변경 번호를 올립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMeetingsStatusChanged(MeetingsStatusChangedEvent event) {
+        increaseListVersion();
+    }
+
+    /**
+     * 목록 카드에 보이는 호스트 닉네임/프로필/신뢰도가 바뀐 트랜잭션의 커밋 직전에 목록 변경 번호를 올립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        increaseListVersion();
+    }
+
+    private void increaseListVersion() {
+        LocalDateTime now = LocalDateTime.now();
+        if (meetingListVersionsRepository.increment(MeetingListVersion.LIST_ID, now) == 0) {
+            // 행은 마이그레이션(V11)/schema.sql이 만들어 두므로, 새로 만든 DB에서 처음 한 번만 실행됩니다.
+            meetingListVersionsRepository.save(new MeetingListVersion(now));
+        }
+    }
+
+    private Validators toValidators(Object version, LocalDateTime lastModifiedAt, Object... variant) {
+        StringBuilder source = new StringBuilder().append(version);
+        for (Object value : variant) {
+            source.append('|').append(value);
+        }
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        long lastModified = lastModifiedAt == null
+                ? -1
+                : lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Validators(etag, lastModified);
+    }
+
+    /**
+     * 조건부 GET 검증자
+     *
+     * @param etag         약한 ETag
+     * @param lastModified Last-Modified (epoch millis, 알 수 없으면 -1)
+     */
+    public record Validators(String etag, long lastModified) {
+    }
+}
@@ -2,6 +2,7 @@ package com.nathing.banthing.service;
 import com.nathing.banthing.dto.request.MeetingUpdateRequest;
 import com.nathing.banthing.entity.Mart;
 import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
 import com.nathing.banthing.repository.MartsRepository;
@@ -9,9 +10,11 @@ import com.nathing.banthing.repository.MeetingsRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.nathing.banthing.entity.User;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.retry.RetryOnConflict;
 
 /**
  * UpdateMeetingService 클래스는 모임 수정 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -49,14 +52,15 @@ public class UpdateMeetingService {
 
     private final MeetingsRepository meetingsRepository;
     private final MartsRepository martsRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @RetryOnConflict
     public Meeting updateMeeting(Long meetingId, MeetingUpdateRequest request, String providerId) {
         Meeting meeting = meetingsRepository.findById(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
-        User currentUser = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User currentUser = currentUserResolver.resolve(providerId);
 
         if (!meeting.getHostUser().equals(currentUser)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
@@ -67,6 +71,7 @@ public class UpdateMeetingService {
 
         // Meeting 객체에게 직접 업데이트를 위임
         meeting.update(request, newMart);
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(meetingId));
 
         log.info("모임 정보가 수정되었습니다. meetingId: {}, userId: {}", meetingId, currentUser.getUserId());
 
@@ -5,7 +5,8 @@ import com.nathing.banthing.dto.response.UserResponse;
 import com.nathing.banthing.entity.User;
 import com.nathing.banthing.exception.BusinessException;
 import com.nathing.banthing.exception.ErrorCode;
-import com.nathing.banthing.repository.UsersRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,7 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class UserService {
 
-    private final UsersRepository usersRepository;
+    private final CurrentUserResolver currentUserResolver;
 
     /**
      * 주어진 providerId를 이용하여 사용자의 정보를 조회하고 반환합니다.
@@ -32,8 +33,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public UserInfoResponse findMeByProviderId(String providerId) {
         // 사용자 정보 조회
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user = currentUserResolver.resolve(providerId);
 
         return UserInfoResponse.from(user);
     }
@@ -49,9 +49,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Long getUserIdByProviderId(String providerId) {
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return user.getUserId();
+        return currentUserResolver.resolveUserId(providerId);
     }
 
     /**
@@ -69,10 +67,10 @@ public class UserService {
      * @author 강관주
      * @since 2025-09-21
      */
+    @RetryOnConflict
     public UserResponse updateUserAgreement(String providerId) {
         // 사용자 정보 조회
-        User user = usersRepository.findByProviderId(providerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        User user = currentUserResolver.resolve(providerId);
 
         // 동의 상태 업데이트 편의 메서드
         user.updateAgreement();
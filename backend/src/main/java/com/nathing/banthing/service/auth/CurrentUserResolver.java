@@ -0,0 +1,152 @@
+package com.nathing.banthing.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nathing.banthing.config.AuthUser;
+import com.nathing.banthing.entity.User;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.UsersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인증 주체(providerId)로 로그인한 사용자({@link User})를 찾는 컴포넌트입니다.
+ *
+ * 거의 모든 서비스가 usersRepository.findByProviderId(...)로 시작하므로 이 조회를 줄이기 위해
+ * - providerId → userId 매핑은 바뀌지 않으므로 Caffeine 캐시(auth.user-cache.*)에 보관하고,
+ *   엔티티는 findById로 읽어 영속성 컨텍스트/2차 캐시(user 리전)에서 SQL 없이 가져옵니다.
+ *   (providerId 쿼리 캐시는 users 테이블이 바뀔 때마다 무효화되지만 id 조회는 영향을 받지 않습니다.)
+ * - 한 요청 안에서는 찾은 User를 요청 속성에 보관하여 컨트롤러와 여러 서비스가 다시 찾지 않도록 합니다.
+ *   보관한 엔티티가 현재 영속성 컨텍스트에 없으면(트랜잭션 롤백 후 재시도 등) id로 다시 읽습니다.
+ *
+ * - 액세스 토큰에 사용자 ID 클레임이 있으면(인증 주체 {@link AuthUser}) providerId 조회 없이 그 ID를 사용합니다.
+ *   사용자 ID는 재사용되지 않고 토큰은 서버 키로 서명되므로 ID만 필요한 조회(resolveUserId)는 DB를 읽지 않습니다.
+ *   엔티티를 읽을 때는 providerId가 일치하는지 확인하고, 다르면 클레임을 무시하고 providerId로 다시 찾습니다.
+ *
+ * 요청 밖(스케줄러, 테스트)에서는 요청 단위 보관 없이 동작합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class CurrentUserResolver {
+
+    private static final String CACHE_NAME = "userIdByProviderId";
+    private static final String REQUEST_ATTRIBUTE = CurrentUserResolver.class.getName() + ".USERS";
+
+    private final UsersRepository usersRepository;
+    private final EntityManager entityManager;
+    private final Cache<String, Long> userIds;
+
+    public CurrentUserResolver(UsersRepository usersRepository,
+                               EntityManager entityManager,
+                               @Value("${auth.user-cache.max-size:10000}") long maxSize,
+                               @Value("${auth.user-cache.ttl:15m}") Duration ttl,
+                               MeterRegistry meterRegistry) {
+        this.usersRepository = usersRepository;
+        this.entityManager = entityManager;
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIds, CACHE_NAME);
+    }
+
+    /**
+     * providerId에 해당하는 사용자를 반환합니다.
+     *
+     * @throws BusinessException 사용자가 없으면 USER_NOT_FOUND
+     */
+    public User resolve(String providerId) {
+        Map<String, User> resolved = requestUsers();
+        User user = resolved == null ? null : resolved.get(providerId);
+        if (user == null || !entityManager.contains(user)) {
+            user = load(providerId);
+            if (resolved != null) {
+                resolved.put(providerId, user);
+            }
+        }
+        return user;
+    }
+
+    /**
+     * providerId에 해당하는 사용자 ID만 반환합니다.
+     * 토큰 클레임이나 캐시에 ID가 있으면 엔티티를 읽지 않습니다.
+     *
+     * @throws BusinessException 사용자가 없으면 USER_NOT_FOUND
+     */
+    public Long resolveUserId(String providerId) {
+        if (providerId == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        Long userId = claimedUserId(providerId);
+        if (userId == null) {
+            userId = userIds.getIfPresent(providerId);
+        }
+        return userId != null ? userId : load(providerId).getUserId();
+    }
+
+    private User load(String providerId) {
+        if (providerId == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        Long userId = claimedUserId(providerId);
+        if (userId == null) {
+            userId = userIds.getIfPresent(providerId);
+        }
+        if (userId != null) {
+            User user = usersRepository.findById(userId).orElse(null);
+            if (user != null && providerId.equals(user.getProviderId())) {
+                return user;
+            }
+            log.warn("사용자 ID가 providerId와 일치하지 않아 다시 조회합니다: providerId={}, userId={}", providerId, userId);
+            userIds.invalidate(providerId);
+        }
+
+        User user = usersRepository.findByProviderId(providerId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        userIds.put(providerId, user.getUserId());
+        return user;
+    }
+
+    /**
+     * 현재 요청의 인증 주체가 같은 providerId이고 사용자 ID 클레임이 있으면 그 ID를 반환합니다.
+     */
+    private static Long claimedUserId(String providerId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser
+                && authUser.userId() != null && providerId.equals(authUser.providerId())) {
+            return authUser.userId();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, User> requestUsers() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, User> users = (Map<String, User>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (users == null) {
+            users = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+        }
+        return users;
+    }
+}
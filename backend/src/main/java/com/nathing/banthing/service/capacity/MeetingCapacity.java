@@ -0,0 +1,140 @@
+package com.nathing.banthing.service.capacity;
+
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.MeetingParticipantsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모임 정원(현재 인원)을 관리하는 컴포넌트입니다.
+ *
+ * 엔티티를 읽고 값을 바꿔 저장하는 방식(read-modify-write)은 동시에 승인하면 정원을 넘길 수 있으므로,
+ * 인원 증감과 FULL ↔ RECRUITING 전환을 조건부 UPDATE 한 번으로 처리합니다.
+ * (WHERE current_participants < max_participants) 조건을 만족하지 못하면 변경된 행이 0이므로 실패로 처리하고,
+ * DB의 CHECK 제약(ck_meetings_current_participants)이 최종 불변식을 보장합니다.
+ *
+ * 락 순서는 항상 참가 신청 행 → 모임 행이므로 승인/탈퇴가 동시에 실행되어도 교착 상태가 생기지 않습니다.
+ * 호출하는 서비스의 트랜잭션 안에서 실행되며, 실패하면 예외로 함께 롤백됩니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class MeetingCapacity {
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingParticipantsRepository meetingParticipantsRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 대기중인 참가 신청을 승인하고 모임 인원을 1 늘립니다.
+     *
+     * @param meeting       승인할 모임 (처리 후 DB 상태로 새로고침됩니다.)
+     * @param participantId 승인할 참가 신청 ID
+     * @throws BusinessException 대기중인 신청이 아니면 PARTICIPANT_APPLICATION_STATUS_INVALID,
+     *                           정원이 찼으면 MEETING_IS_FULL, 모집중이 아니면 MEETING_IS_NOT_RECRUITING
+     */
+    public void admit(Meeting meeting, Long participantId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int approved = meetingParticipantsRepository.approveIfPending(participantId, meeting.getMeetingId(),
+                MeetingParticipant.ApplicationStatus.PENDING, MeetingParticipant.ApplicationStatus.APPROVED, now);
+        if (approved == 0) {
+            throw new BusinessException(ErrorCode.PARTICIPANT_APPLICATION_STATUS_INVALID);
+        }
+
+        int reserved = meetingsRepository.incrementParticipantsIfAvailable(meeting.getMeetingId(),
+                Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL, now);
+        entityManager.refresh(meeting);
+        if (reserved == 0) {
+            throw new BusinessException(meeting.isFull() ? ErrorCode.MEETING_IS_FULL : ErrorCode.MEETING_IS_NOT_RECRUITING);
+        }
+        log.debug("모임 인원 증가: meetingId={}, current={}/{}, status={}",
+                meeting.getMeetingId(), meeting.getCurrentParticipants(), meeting.getMaxParticipants(), meeting.getStatus());
+    }
+
+    /**
+     * 모임 행을 비관적 락으로 잠그고 남은 자리 수를 반환합니다. (모집중이 아니면 0)
+     * 일괄 승인에서 참가 신청 행을 잠근 뒤 호출하여 락 순서(참가 신청 → 모임)를 지킵니다.
+     * 트랜잭션이 끝날 때까지 다른 승인/탈퇴가 인원을 바꾸지 못하므로 반환값 그대로 admitAll에 사용할 수 있습니다.
+     *
+     * @param meeting 잠글 모임 (DB 상태로 새로고침됩니다.)
+     */
+    public int lockAvailableSeats(Meeting meeting) {
+        entityManager.refresh(meeting, LockModeType.PESSIMISTIC_WRITE);
+        if (meeting.getStatus() != Meeting.MeetingStatus.RECRUITING) {
+            return 0;
+        }
+        return Math.max(0, meeting.getMaxParticipants() - meeting.getCurrentParticipants());
+    }
+
+    /**
+     * 대기중인 참가 신청 여러 건을 UPDATE 한 번으로 승인하고, 모임 인원을 승인한 수만큼 한 번에 늘립니다.
+     * 호출 전에 lockAvailableSeats로 남은 자리를 확인하고 그 이하로만 넘겨야 합니다.
+     *
+     * @param meeting        승인할 모임 (처리 후 DB 상태로 새로고침됩니다.)
+     * @param participantIds 승인할 참가 신청 ID 목록 (모두 잠긴 대기중 신청)
+     * @throws BusinessException 그 사이 상태가 바뀐 신청이 있으면 PARTICIPANT_APPLICATION_STATUS_INVALID,
+     *                           남은 자리가 부족하면 MEETING_IS_FULL, 모집중이 아니면 MEETING_IS_NOT_RECRUITING
+     */
+    public void admitAll(Meeting meeting, List<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        int approved = meetingParticipantsRepository.updateStatusIfPending(participantIds, meeting.getMeetingId(),
+                MeetingParticipant.ApplicationStatus.PENDING, MeetingParticipant.ApplicationStatus.APPROVED, now);
+        if (approved != participantIds.size()) {
+            throw new BusinessException(ErrorCode.PARTICIPANT_APPLICATION_STATUS_INVALID);
+        }
+
+        int reserved = meetingsRepository.addParticipantsIfAvailable(meeting.getMeetingId(), approved,
+                Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL, now);
+        entityManager.refresh(meeting);
+        if (reserved == 0) {
+            throw new BusinessException(meeting.isFull() ? ErrorCode.MEETING_IS_FULL : ErrorCode.MEETING_IS_NOT_RECRUITING);
+        }
+        log.debug("모임 인원 일괄 증가: meetingId={}, +{}, current={}/{}, status={}",
+                meeting.getMeetingId(), approved, meeting.getCurrentParticipants(), meeting.getMaxParticipants(), meeting.getStatus());
+    }
+
+    /**
+     * 참가자를 모임에서 제거하고, 승인된 참가자였다면 모임 인원을 1 줄입니다.
+     *
+     * @param meeting     탈퇴할 모임 (처리 후 DB 상태로 새로고침됩니다.)
+     * @param participant 제거할 참가자
+     * @throws BusinessException 그 사이 다른 요청이 참가자를 제거/변경했으면 PARTICIPANT_NOT_FOUND
+     */
+    public void release(Meeting meeting, MeetingParticipant participant) {
+        MeetingParticipant.ApplicationStatus status = participant.getApplicationStatus();
+
+        int deleted = meetingParticipantsRepository.deleteByParticipantIdAndStatus(participant.getParticipantId(), status);
+        if (deleted == 0) {
+            throw new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND);
+        }
+        entityManager.detach(participant);
+
+        if (status == MeetingParticipant.ApplicationStatus.APPROVED) {
+            meetingsRepository.decrementParticipants(meeting.getMeetingId(),
+                    Meeting.MeetingStatus.FULL, Meeting.MeetingStatus.RECRUITING, LocalDateTime.now());
+        }
+        entityManager.refresh(meeting);
+        log.debug("모임 인원 감소: meetingId={}, current={}/{}, status={}",
+                meeting.getMeetingId(), meeting.getCurrentParticipants(), meeting.getMaxParticipants(), meeting.getStatus());
+    }
+}
@@ -0,0 +1,81 @@
+package com.nathing.banthing.service.card;
+
+import com.nathing.banthing.entity.MeetingCard;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.UserProfileChangedEvent;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 카드 읽기 모델({@link MeetingCard})을 원본 모임과 동기화하는 프로젝터입니다.
+ *
+ * - 모임 쓰기 서비스(Create/Update/Delete/Manage/Scheduler)가 발행하는 {@link MeetingChangedEvent}를
+ *   커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션 안에서 받아 카드를 생성/갱신/삭제합니다.
+ *   따라서 모임 변경과 카드 변경은 함께 커밋되거나 함께 롤백됩니다.
+ * - 스케줄러의 일괄 상태 전환은 모임을 바꾼 같은 트랜잭션에서 카드 상태 컬럼만 UPDATE 한 번으로 바꾸므로 여기서 다시 투영하지 않습니다.
+ * - 호스트 프로필/신뢰도 변경({@link UserProfileChangedEvent})은 해당 호스트의 카드만 일괄 갱신합니다.
+ * - 트랜잭션 밖에서 발행된 이벤트는 즉시 새 트랜잭션으로 처리합니다. (fallbackExecution)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingCardProjector {
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+    private final UsersRepository usersRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        project(event.getMeetingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        usersRepository.findById(event.getUserId()).ifPresent(host ->
+                meetingCardsRepository.updateHost(host.getUserId(), host.getNickname(), host.getProfileImageUrl(),
+                        host.getTrustScore(), host.getTrustGrade()));
+    }
+
+    /**
+     * 모임 하나의 카드를 원본 상태로 맞춥니다. 모임이 없거나 삭제되었으면 카드를 삭제합니다.
+     */
+    @Transactional
+    public void project(Long meetingId) {
+        meetingsRepository.findWithMartByMeetingId(meetingId).ifPresentOrElse(
+                meeting -> {
+                    MeetingCard card = meetingCardsRepository.findById(meetingId)
+                            .map(existing -> {
+                                existing.apply(meeting);
+                                return existing;
+                            })
+                            .orElseGet(() -> new MeetingCard(meeting));
+                    meetingCardsRepository.save(card);
+                },
+                () -> meetingCardsRepository.findById(meetingId).ifPresent(meetingCardsRepository::delete));
+    }
+
+    /**
+     * 삭제되지 않은 모든 모임으로 카드를 다시 만듭니다. (INSERT ... SELECT 한 번)
+     * 데이터를 직접 적재했거나 카드가 어긋났을 때 복구용으로 사용합니다.
+     *
+     * @return 생성된 카드 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        meetingCardsRepository.deleteAllInBatch();
+        int count = meetingCardsRepository.insertAllFromMeetings();
+        log.info("모임 카드 재구성 완료: {}건", count);
+        return count;
+    }
+}
@@ -0,0 +1,137 @@
+package com.nathing.banthing.service.geo;
+
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.repository.MartsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마트 위치를 위도/경도 격자(grid bucket)로 나눠 보관하는 공간 인덱스입니다.
+ *
+ * - 지구 표면을 {@link #CELL_DEGREES}도 크기의 셀로 나누고, 각 마트를 자신이 속한 셀에 넣어둡니다.
+ * - 반경 검색 시 검색 원을 덮는 셀들만 확인하므로, 전체 마트가 아닌 주변 셀의 마트에 대해서만 거리(haversine)를 계산합니다.
+ * - 마트는 관리자가 등록하는 기준 데이터라 변경이 드물어 기동 시 한 번 적재하며, 변경 시 {@link #rebuild()}로 다시 구성합니다.
+ *
+ * 셀 맵은 통째로 교체(copy-on-write)하므로 조회는 락 없이 안전합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MartSpatialIndex {
+
+    /** 셀 한 변의 크기(도). 위도 기준 약 5.5km */
+    private static final double CELL_DEGREES = 0.05;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final MartsRepository martsRepository;
+
+    private volatile Map<Long, List<MartPoint>> cells = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<MartPoint>> newCells = new HashMap<>();
+        List<Mart> marts = martsRepository.findAll();
+        for (Mart mart : marts) {
+            MartPoint point = new MartPoint(mart.getMartId(),
+                    mart.getLatitude().doubleValue(), mart.getLongitude().doubleValue());
+            newCells.computeIfAbsent(cellKey(cellOf(point.latitude()), cellOf(point.longitude())),
+                    key -> new ArrayList<>()).add(point);
+        }
+        cells = newCells;
+        log.info("마트 공간 인덱스 구성 완료: 마트 {}곳, 셀 {}개", marts.size(), newCells.size());
+    }
+
+    /**
+     * 중심 좌표로부터 반경 안에 있는 마트를 가까운 순으로 반환합니다.
+     *
+     * @param latitude  중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm  검색 반경(km)
+     * @return 마트 ID와 거리(km) 목록 (거리 오름차순)
+     */
+    public List<MartDistance> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        Map<Long, List<MartPoint>> snapshot = cells;
+
+        // 검색 원을 덮는 위도/경도 범위 (haversineKm과 같은 구 반지름 기준, 경도 1도의 길이는 위도가 높을수록 짧아짐)
+        // 범위가 원보다 조금이라도 좁으면 셀 경계 바로 너머의 반경 안 마트를 놓치므로 원에 외접하는 범위를 사용합니다.
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latDelta = Math.toDegrees(angularRadius);
+        double lngDelta = longitudeDelta(latitude, angularRadius);
+
+        long minLatCell = cellOf(latitude - latDelta);
+        long maxLatCell = cellOf(latitude + latDelta);
+        long minLngCell = cellOf(longitude - lngDelta);
+        long maxLngCell = cellOf(longitude + lngDelta);
+
+        List<MartDistance> result = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                List<MartPoint> points = snapshot.get(cellKey(latCell, lngCell));
+                if (points == null) {
+                    continue;
+                }
+                for (MartPoint point : points) {
+                    double distance = haversineKm(latitude, longitude, point.latitude(), point.longitude());
+                    if (distance <= radiusKm) {
+                        result.add(new MartDistance(point.martId(), distance));
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(MartDistance::distanceKm));
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리(km)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심 위도에서 각반지름(rad)의 원이 걸치는 최대 경도 차(도). 원이 극을 포함하면 모든 경도를 덮습니다.
+     */
+    private static double longitudeDelta(double latitude, double angularRadius) {
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double sinRadius = Math.sin(angularRadius);
+        if (sinRadius >= cosLat) {
+            return 180.0;
+        }
+        return Math.toDegrees(Math.asin(sinRadius / cosLat));
+    }
+
+    private static long cellOf(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xffffffffL);
+    }
+
+    private record MartPoint(Long martId, double latitude, double longitude) {
+    }
+
+    /**
+     * 반경 검색 결과 (마트 ID, 중심으로부터의 거리)
+     */
+    public record MartDistance(Long martId, double distanceKm) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.nathing.banthing.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * {@link Idempotent} 컨트롤러 메서드에 Idempotency-Key 헤더 처리를 적용하는 애스펙트입니다.
+ *
+ * - 서비스를 실행하기 전에 키를 DB에 처리 중으로 선점합니다. (서버가 여러 대여도 같은 키는 한 번만 실행)
+ * - 저장된 응답이 있으면 서비스를 실행하지 않고 같은 상태 코드/본문으로 응답합니다. (Idempotent-Replayed: true)
+ * - 같은 키를 다른 요청(메서드/URI/본문)에 다시 쓰면 IDEMPOTENCY_KEY_REUSED(422),
+ *   처음 요청이 아직 처리 중이면 IDEMPOTENCY_REQUEST_IN_PROGRESS(409)로 응답합니다.
+ * - 처음 요청이 성공(2xx)하면 응답 본문을 JSON으로 저장하고, 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있게 합니다.
+ *
+ * 요청 본문은 @RequestBody / @RequestPart 인자(파일은 내용)를 SHA-256으로 해시하여 요청 식별값(fingerprint)에 넣습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(com.nathing.banthing.service.idempotency.Idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        String key = request == null ? null : request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String providerId = currentProviderId();
+        if (!StringUtils.hasText(key) || providerId == null) {
+            return joinPoint.proceed();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        String fingerprint = fingerprint(request, joinPoint);
+        IdempotencyStore.Claim claim = idempotencyStore.begin(providerId, key, fingerprint);
+        if (!claim.acquired()) {
+            if (!claim.fingerprint().equals(fingerprint)) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (claim.stored() == null) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            return replay(claim.stored());
+        }
+
+        boolean completed = false;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+                String body = response.getBody() == null ? null : objectMapper.writeValueAsString(response.getBody());
+                idempotencyStore.complete(providerId, key,
+                        new IdempotencyStore.StoredResponse(fingerprint, response.getStatusCode().value(), body));
+                completed = true;
+            }
+            return result;
+        } finally {
+            if (!completed) {
+                idempotencyStore.abort(providerId, key, fingerprint);
+            }
+        }
+    }
+
+    private ResponseEntity<?> replay(IdempotencyStore.StoredResponse stored) throws Exception {
+        log.debug("멱등성 키 응답 재전송: {}", stored.fingerprint());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status())
+                .header(REPLAYED_HEADER, "true");
+        if (stored.body() == null) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(objectMapper.readTree(stored.body()));
+    }
+
+    /**
+     * 요청 식별값: "메서드 URI[?쿼리]" 뒤에 본문이 있으면 " sha256=본문 해시"
+     */
+    private String fingerprint(HttpServletRequest request, ProceedingJoinPoint joinPoint) throws IOException {
+        String query = request.getQueryString();
+        String target = request.getMethod() + ' ' + request.getRequestURI() + (query == null ? "" : '?' + query);
+        String bodyHash = bodyHash(joinPoint);
+        return bodyHash == null ? target : target + " sha256=" + bodyHash;
+    }
+
+    /**
+     * @RequestBody / @RequestPart 인자를 순서대로 해시합니다. (파일은 내용, 나머지는 JSON 직렬화 결과)
+     *
+     * @return 본문 인자가 없으면 null
+     */
+    private String bodyHash(ProceedingJoinPoint joinPoint) throws IOException {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Parameter[] parameters = method.getParameters();
+        Object[] args = joinPoint.getArgs();
+        MessageDigest digest = sha256();
+        boolean hasBody = false;
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isAnnotationPresent(RequestBody.class)
+                    && !parameters[i].isAnnotationPresent(RequestPart.class)) {
+                continue;
+            }
+            hasBody = true;
+            // 인자 경계를 구분하여 (a, bc)와 (ab, c)가 같은 해시가 되지 않도록 합니다.
+            digest.update((byte) i);
+            Object arg = args[i];
+            if (arg instanceof MultipartFile file) {
+                try (InputStream in = file.getInputStream()) {
+                    byte[] buffer = new byte[8192];
+                    for (int read; (read = in.read(buffer)) != -1; ) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            } else if (arg != null) {
+                digest.update(objectMapper.writeValueAsBytes(arg));
+            }
+        }
+        return hasBody ? HexFormat.of().formatHex(digest.digest()) : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+
+    private static String currentProviderId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,198 @@
+package com.nathing.banthing.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nathing.banthing.entity.IdempotencyKey;
+import com.nathing.banthing.repository.IdempotencyKeysRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키로 처리한 요청의 응답을 보관하는 저장소입니다.
+ *
+ * - 최근 응답은 크기 제한이 있는 Caffeine 캐시(LRU에 가까운 축출, idempotency.cache.max-size)에 두어
+ *   재시도 요청을 DB 조회 없이 처리합니다.
+ * - 처리 시작: idempotency_keys에 PENDING 행을 INSERT 하여 키를 선점합니다. 유니크 제약
+ *   (provider_id, idempotency_key)이 충돌하면 기존 행에 따라 처리 중(IN_PROGRESS) 또는 저장된 응답 재전송으로 끝나므로,
+ *   서버가 여러 대여도 같은 키의 요청은 한 번만 실행됩니다.
+ * - 처리 중 행은 idempotency.pending-timeout이 지나면(처리하던 서버가 죽은 경우) 다른 요청이 다시 선점할 수 있습니다.
+ * - 완료된 기록은 idempotency.ttl 동안 유지되며, 만료된 행은 매시 30분에 삭제합니다.
+ *
+ * 선점/완료/해제는 서비스 트랜잭션과 별개의 짧은 트랜잭션(REQUIRES_NEW)으로 실행하여 다른 서버가 바로 볼 수 있게 합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String CACHE_NAME = "idempotency";
+
+    private final IdempotencyKeysRepository idempotencyKeysRepository;
+    private final TransactionTemplate requiresNew;
+    private final Cache<String, StoredResponse> cache;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+
+    public IdempotencyStore(IdempotencyKeysRepository idempotencyKeysRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${idempotency.cache.max-size:10000}") long maxSize,
+                            @Value("${idempotency.ttl:24h}") Duration ttl,
+                            @Value("${idempotency.pending-timeout:5m}") Duration pendingTimeout,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyKeysRepository = idempotencyKeysRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 키를 처리 중(PENDING)으로 선점합니다.
+     *
+     * @return 선점 결과 (선점하지 못했으면 키를 먼저 사용한 요청과, 처리가 끝났으면 저장된 응답)
+     */
+    public Claim begin(String providerId, String key, String fingerprint) {
+        StoredResponse cached = cache.getIfPresent(cacheKey(providerId, key));
+        if (cached != null) {
+            return Claim.completed(cached);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime pendingUntil = now.plus(pendingTimeout);
+        try {
+            return requiresNew.execute(status -> claim(providerId, key, fingerprint, now, pendingUntil));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 행을 다른 요청이 먼저 만들었습니다. (그 사이 실패로 삭제되었으면 처리 중으로 보고 재시도를 요청)
+            return requiresNew.execute(status -> existing(providerId, key, now))
+                    .orElseGet(() -> Claim.inProgress(fingerprint));
+        }
+    }
+
+    private Claim claim(String providerId, String key, String fingerprint,
+                        LocalDateTime now, LocalDateTime pendingUntil) {
+        if (idempotencyKeysRepository.takeOverIfExpired(providerId, key, fingerprint, now, pendingUntil) == 1) {
+            return Claim.started();
+        }
+        Optional<Claim> existing = existing(providerId, key, now);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        idempotencyKeysRepository.insertPending(providerId, key, fingerprint, now, pendingUntil);
+        return Claim.started();
+    }
+
+    private Optional<Claim> existing(String providerId, String key, LocalDateTime now) {
+        return idempotencyKeysRepository.findByProviderIdAndIdempotencyKeyAndExpiresAtAfter(providerId, key, now)
+                .map(record -> {
+                    if (record.getState() == IdempotencyKey.State.PENDING) {
+                        return Claim.inProgress(record.getRequestFingerprint());
+                    }
+                    StoredResponse stored = toStoredResponse(record);
+                    cache.put(cacheKey(providerId, key), stored);
+                    return Claim.completed(stored);
+                });
+    }
+
+    /**
+     * 처리한 응답을 DB와 캐시에 저장합니다. (처리 중 기록을 완료로 변경)
+     * 요청은 이미 성공했으므로 DB 저장에 실패해도 예외를 던지지 않고 이 서버의 캐시로만 재시도를 처리합니다.
+     */
+    public void complete(String providerId, String key, StoredResponse response) {
+        try {
+            LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+            Integer updated = requiresNew.execute(status -> idempotencyKeysRepository.complete(providerId, key,
+                    response.fingerprint(), response.status(), response.body(), expiresAt));
+            if (updated == null || updated == 0) {
+                log.warn("멱등성 키 처리 중 기록이 없어 응답을 저장하지 못했습니다: providerId={}, key={}", providerId, key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 저장 실패: providerId={}, key={}, cause={}", providerId, key, e.getMessage());
+        } finally {
+            cache.put(cacheKey(providerId, key), response);
+        }
+    }
+
+    /**
+     * 처리에 실패한 키의 처리 중 기록을 삭제합니다. (같은 키로 다시 시도할 수 있습니다.)
+     * 삭제에 실패해도 처리 중 기록은 idempotency.pending-timeout이 지나면 다시 선점할 수 있으므로 로그만 남깁니다.
+     */
+    public void abort(String providerId, String key, String fingerprint) {
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    idempotencyKeysRepository.deletePending(providerId, key, fingerprint));
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 처리 중 기록 삭제 실패: providerId={}, key={}, cause={}", providerId, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 기록을 매시 30분에 삭제합니다.
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeExpired() {
+        int deleted = idempotencyKeysRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 {}건 삭제", deleted);
+        }
+    }
+
+    private static StoredResponse toStoredResponse(IdempotencyKey record) {
+        return new StoredResponse(record.getRequestFingerprint(), record.getStatusCode(), record.getResponseBody());
+    }
+
+    private static String cacheKey(String providerId, String key) {
+        return providerId + ':' + key;
+    }
+
+    /**
+     * 저장된 응답
+     *
+     * @param fingerprint 키를 처음 사용한 요청 (메서드 + URI + 본문 해시)
+     * @param status      HTTP 상태 코드
+     * @param body        응답 본문 (JSON, 없으면 null)
+     */
+    public record StoredResponse(String fingerprint, int status, String body) {
+    }
+
+    /**
+     * 키 선점 결과
+     *
+     * @param acquired    이 요청이 키를 선점했으면 true
+     * @param fingerprint 선점하지 못했을 때 키를 먼저 사용한 요청
+     * @param stored      먼저 사용한 요청의 저장된 응답 (아직 처리 중이면 null)
+     */
+    public record Claim(boolean acquired, String fingerprint, StoredResponse stored) {
+
+        static Claim started() {
+            return new Claim(true, null, null);
+        }
+
+        static Claim inProgress(String fingerprint) {
+            return new Claim(false, fingerprint, null);
+        }
+
+        static Claim completed(StoredResponse stored) {
+            return new Claim(false, stored.fingerprint(), stored);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.nathing.banthing.service.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청에 Idempotency-Key 헤더가 있으면 같은 키로 다시 들어온 요청에 처음 응답을 재전송합니다.
+ *
+ * ResponseEntity를 반환하는 컨트롤러의 쓰기 메서드에 붙입니다.
+ * 키는 로그인한 사용자별로 구분되며, 처음 요청이 성공(2xx)한 경우에만 응답을 저장합니다.
+ * 실패한 요청은 저장하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * 헤더가 없으면 기존과 동일하게 동작합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
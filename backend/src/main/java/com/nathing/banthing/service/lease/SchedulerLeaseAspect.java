@@ -0,0 +1,59 @@
+package com.nathing.banthing.service.lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link SchedulerLeased} 작업을 리스를 얻은 서버에서만 실행하는 애스펙트입니다.
+ *
+ * 재시도(RetryOnConflictAspect)와 트랜잭션 인터셉터보다 바깥에서 동작하여,
+ * 리스는 한 번만 얻고 재시도마다 새 작업 트랜잭션 안에서 펜싱할 수 있게 합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class SchedulerLeaseAspect {
+
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Value("${scheduler.lease.enabled:true}")
+    private boolean enabled;
+
+    @Around("@annotation(schedulerLeased)")
+    public Object runExclusively(ProceedingJoinPoint joinPoint, SchedulerLeased schedulerLeased) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        Optional<SchedulerLeaseManager.Lease> lease =
+                schedulerLeaseManager.tryAcquire(schedulerLeased.job(), Duration.parse(schedulerLeased.leaseFor()));
+        if (lease.isEmpty()) {
+            log.debug("스케줄러: 다른 서버가 실행 중이므로 건너뜁니다. job={}", schedulerLeased.job());
+            return null;
+        }
+
+        schedulerLeaseManager.bind(lease.get());
+        try {
+            log.debug("스케줄러 리스 획득: job={}, token={}", schedulerLeased.job(), lease.get().fencingToken());
+            return joinPoint.proceed();
+        } finally {
+            schedulerLeaseManager.unbind();
+            schedulerLeaseManager.release(lease.get(), Duration.parse(schedulerLeased.minHold()));
+        }
+    }
+}
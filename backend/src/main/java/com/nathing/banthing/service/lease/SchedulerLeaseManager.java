@@ -0,0 +1,156 @@
+package com.nathing.banthing.service.lease;
+
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.SchedulerLeasesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DB 테이블(scheduler_leases)로 스케줄러 작업 리스를 관리하는 컴포넌트입니다.
+ *
+ * - 획득: 만료된 행을 조건부 UPDATE로 가져오거나(펜싱 토큰 +1), 행이 없으면 INSERT 합니다.
+ *   리스를 가진 서버가 있으면 UPDATE 0건으로 바로 끝나므로 나머지 서버는 조회 한두 번으로 작업을 건너뜁니다.
+ * - 펜싱: 작업 트랜잭션 안에서 토큰이 일치하는 리스 행을 공유 락으로 다시 읽습니다.
+ *   토큰이 바뀌었으면(리스 만료 후 다른 서버가 획득) SCHEDULER_LEASE_LOST로 롤백하고,
+ *   일치하면 커밋할 때까지 다른 서버가 리스를 가져가지 못합니다.
+ * - 반납: 작업이 끝나면 리스를 만료시킵니다. 단, 획득 후 최소 유지 시간까지는 유지하여
+ *   같은 주기에 늦게 깨어난 다른 서버가 작업을 다시 실행하지 않게 합니다.
+ *
+ * 획득/반납은 작업 트랜잭션과 별개의 짧은 트랜잭션(REQUIRES_NEW)으로 실행하여 다른 서버가 바로 볼 수 있게 합니다.
+ * 만료 판단에는 각 서버의 시계를 쓰므로 리스 유지 시간은 서버 간 시계 오차보다 충분히 길게 잡습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private final SchedulerLeasesRepository schedulerLeasesRepository;
+    private final TransactionTemplate requiresNew;
+    private final String owner;
+
+    public SchedulerLeaseManager(SchedulerLeasesRepository schedulerLeasesRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${scheduler.lease.owner:}") String owner) {
+        this.schedulerLeasesRepository = schedulerLeasesRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 같은 호스트에서 여러 인스턴스를 띄워도 구분되도록 pid@host 뒤에 임의 값을 붙입니다.
+        this.owner = StringUtils.hasText(owner)
+                ? owner
+                : ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 작업 리스를 얻습니다.
+     *
+     * @return 얻었으면 리스, 다른 서버가 가지고 있으면 빈 값
+     */
+    public Optional<Lease> tryAcquire(String jobName, Duration leaseFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseFor);
+        try {
+            return requiresNew.execute(status -> acquire(jobName, now, expiresAt));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 작업의 첫 리스를 다른 서버가 먼저 만들었습니다.
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Lease> acquire(String jobName, LocalDateTime now, LocalDateTime expiresAt) {
+        if (schedulerLeasesRepository.takeOverIfExpired(jobName, owner, now, expiresAt) == 1) {
+            return schedulerLeasesRepository.findFencingToken(jobName, owner)
+                    .map(token -> new Lease(jobName, owner, token, now, expiresAt));
+        }
+        if (schedulerLeasesRepository.existsById(jobName)) {
+            return Optional.empty();
+        }
+        schedulerLeasesRepository.insertLease(jobName, owner, now, expiresAt);
+        return Optional.of(new Lease(jobName, owner, 1L, now, expiresAt));
+    }
+
+    /**
+     * 리스를 반납합니다. 획득 후 minHold가 지나지 않았으면 그때까지, 지났으면 지금 만료되도록 합니다.
+     * 실패해도 리스는 유지 시간이 지나면 만료되므로 로그만 남깁니다.
+     */
+    public void release(Lease lease, Duration minHold) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime holdUntil = lease.acquiredAt().plus(minHold);
+        LocalDateTime releaseAt = holdUntil.isAfter(now) ? min(holdUntil, lease.expiresAt()) : now;
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    schedulerLeasesRepository.release(lease.jobName(), lease.fencingToken(), now, releaseAt));
+        } catch (Exception e) {
+            log.warn("스케줄러 리스 반납 실패: job={}, token={}, {}", lease.jobName(), lease.fencingToken(), e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 리스가 아직 유효한지 확인하고, 커밋할 때까지 다른 서버가 가져가지 못하도록 잠급니다.
+     *
+     * @throws BusinessException 리스가 만료되었거나 다른 서버로 넘어갔으면 SCHEDULER_LEASE_LOST
+     */
+    public void fence(Lease lease) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("펜싱은 작업 트랜잭션 안에서 호출해야 합니다.");
+        }
+        boolean held = schedulerLeasesRepository
+                .findHeldForShare(lease.jobName(), lease.fencingToken(), LocalDateTime.now())
+                .isPresent();
+        if (!held) {
+            log.warn("스케줄러 리스를 잃어 작업을 중단합니다: job={}, token={}", lease.jobName(), lease.fencingToken());
+            throw new BusinessException(ErrorCode.SCHEDULER_LEASE_LOST);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 {@link SchedulerLeased} 작업의 리스를 반환합니다.
+     * 작업을 다른 스레드로 나눠 실행할 때 넘겨서 {@link #fence(Lease)}에 사용합니다.
+     */
+    public Optional<Lease> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    void bind(Lease lease) {
+        CURRENT.set(lease);
+    }
+
+    void unbind() {
+        CURRENT.remove();
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 얻은 리스입니다.
+     *
+     * @param fencingToken 획득할 때마다 증가하는 토큰 (값이 클수록 나중 소유자)
+     * @param acquiredAt   획득 시각 (반납 시 최소 유지 시간의 기준)
+     */
+    public record Lease(String jobName, String owner, long fencingToken, LocalDateTime acquiredAt,
+                        LocalDateTime expiresAt) {
+    }
+}
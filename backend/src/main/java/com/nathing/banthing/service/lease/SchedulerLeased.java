@@ -0,0 +1,42 @@
+package com.nathing.banthing.service.lease;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 리스를 얻은 한 곳에서만 스케줄 작업을 실행합니다.
+ *
+ * 리스는 실행 전에 별도 트랜잭션으로 얻고 실행이 끝나면 반납하며, 얻지 못한 서버는 작업을 건너뜁니다.
+ * 반납해도 획득 후 최소 유지 시간(minHold)까지는 리스를 놓지 않으므로,
+ * 같은 주기에 조금 늦게 깨어난 다른 서버가 작업을 한 번 더 실행하지 않습니다.
+ * 작업 트랜잭션 안에서 {@link SchedulerLeaseManager#current()}로 얻은 리스를 {@link SchedulerLeaseManager#fence}에 넘기면
+ * 리스를 잃은 뒤 늦게 실행된 작업이 커밋되지 않도록 막을 수 있습니다. (SchedulerChunkRunner 참고)
+ * 반환값이 없는(@Scheduled) 메서드에 붙입니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLeased {
+
+    /**
+     * 작업 이름 (서버 간에 같은 작업을 구분하는 키)
+     */
+    String job();
+
+    /**
+     * 리스 유지 시간 (ISO-8601, 예: PT5M). 작업이 비정상 종료되어 반납하지 못해도 이 시간이 지나면 다른 서버가 가져갑니다.
+     */
+    String leaseFor() default "PT5M";
+
+    /**
+     * 최소 유지 시간 (ISO-8601, 예: PT1M). 작업이 일찍 끝나도 획득 후 이 시간까지는 리스를 유지합니다.
+     * 서버 간 시계 오차와 실행 지연보다 길고, 실행 주기와 leaseFor보다는 짧게 잡습니다.
+     */
+    String minHold() default "PT1M";
+}
@@ -0,0 +1,39 @@
+package com.nathing.banthing.service.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException)이 나면 메서드를 새 트랜잭션으로 다시 실행합니다.
+ *
+ * 재시도는 트랜잭션 바깥에서 이루어져야 하므로 @Transactional 서비스 메서드(진입점)에 붙입니다.
+ * 이미 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 트랜잭션의 진입점에 맡깁니다.
+ * 재시도마다 대기 시간은 backoffMillis부터 두 배씩 늘어나며 maxBackoffMillis를 넘지 않습니다. (지터 포함)
+ * 모든 시도가 실패하면 CONCURRENT_UPDATE(409) 예외를 던집니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * 최초 실행을 포함한 최대 시도 횟수
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 첫 재시도 전 대기 시간 (ms)
+     */
+    long backoffMillis() default 50;
+
+    /**
+     * 재시도 대기 시간 상한 (ms)
+     */
+    long maxBackoffMillis() default 500;
+}
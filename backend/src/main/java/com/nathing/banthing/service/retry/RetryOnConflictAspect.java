@@ -0,0 +1,77 @@
+package com.nathing.banthing.service.retry;
+
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnConflict} 메서드를 낙관적 락 충돌 시 다시 실행하는 애스펙트입니다.
+ *
+ * 트랜잭션 인터셉터(기본 순서 LOWEST_PRECEDENCE)보다 바깥에서 동작하도록 순서를 한 단계 앞에 두어,
+ * 커밋 시점의 충돌까지 잡고 시도마다 새 트랜잭션으로 실행합니다.
+ * 비관적 락(SELECT ... FOR UPDATE)과 달리 대기 중에 커넥션을 점유하지 않습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RetryOnConflictAspect {
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        // 바깥 트랜잭션이 있으면 이 안에서 다시 실행해도 같은 (실패한) 영속성 컨텍스트를 쓰게 되므로 그대로 실행
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("낙관적 락 충돌 재시도 실패: {} ({}회 시도)", joinPoint.getSignature().toShortString(), attempt);
+                    throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+                }
+                long delay = backoff(retryOnConflict, attempt);
+                log.debug("낙관적 락 충돌, {}ms 후 재시도: {} ({}/{})",
+                        delay, joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간: min(max, base * 2^(attempt-1))의 절반 ~ 전체 사이 임의 값
+     */
+    private static long backoff(RetryOnConflict retryOnConflict, int attempt) {
+        long exponential = retryOnConflict.backoffMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(retryOnConflict.maxBackoffMillis(), exponential);
+        if (capped <= 0) {
+            return 0;
+        }
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.nathing.banthing.service.schedule;
+
+import com.nathing.banthing.dto.projection.MeetingDeadlineRow;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.MeetingSchedulerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임별 다음 상태 전환 시각(마감)을 메모리 지연 큐(DelayQueue)에 들고 있다가, 그 시각이 되면 바로 전환하는 컴포넌트입니다.
+ *
+ * - 모집중/모집마감 모임: 모임 시간에 시작(또는 승인 인원이 부족하면 취소)
+ * - 진행중 모임: 모임 시간 + 24시간에 완료
+ *
+ * 애플리케이션 시작 시 진행 전 모임 전체를 적재하고, 모임 변경 이벤트(커밋 이후)마다 해당 모임의 마감을 다시 계산합니다.
+ * 분 단위 폴링과 달리 할 일이 없으면 DB를 조회하지 않으며, 전환 지연은 마감 시각 직후 한 번의 트랜잭션뿐입니다.
+ *
+ * 모임당 최신 마감 하나만 유효하며(pending), 마감이 바뀌거나 제거되면 이전 항목을 큐에서 뺍니다.
+ * 빼기 직전에 이미 꺼내진 항목은 pending과 다르므로 건너뜁니다.
+ * 큐는 노드 메모리에만 있으므로 재시작이나 반영 실패로 놓친 모임은 MeetingSchedulerService의 정리 스윕이 처리합니다.
+ * 모든 서버가 같은 마감을 꺼내지만 applyDueTransition이 조건부 UPDATE로 모임을 선점하므로 전환과 이벤트는 한 서버에서만 일어납니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "meeting.scheduler.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class MeetingDeadlineQueue {
+
+    private static final EnumSet<Meeting.MeetingStatus> ACTIVE_STATUSES = EnumSet.of(
+            Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL, Meeting.MeetingStatus.ONGOING);
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingSchedulerService meetingSchedulerService;
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Long, Deadline> pending = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public MeetingDeadlineQueue(MeetingsRepository meetingsRepository,
+                                MeetingSchedulerService meetingSchedulerService,
+                                MeterRegistry meterRegistry) {
+        this.meetingsRepository = meetingsRepository;
+        this.meetingSchedulerService = meetingSchedulerService;
+        Gauge.builder("meeting.deadline.pending", pending, Map::size)
+                .description("전환을 기다리는 모임 마감 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행 전 모임의 마감을 모두 적재하고 전환 스레드를 시작합니다.
+     * 재시작 중 이미 지난 마감은 바로 꺼내져 전환됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<MeetingDeadlineRow> rows = meetingsRepository.findDeadlineRowsByStatusIn(ACTIVE_STATUSES);
+        rows.forEach(this::schedule);
+
+        Thread thread = new Thread(this::runLoop, "meeting-deadline");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+        log.info("모임 마감 큐 시작: 마감 {}건", pending.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 모임 변경이 커밋된 뒤 해당 모임의 마감을 다시 계산합니다.
+     * 삭제되었거나 완료/취소된 모임은 마감을 제거합니다.
+     * 참여자 변경(모집중 ↔ 모집마감 포함)은 모임 시간과 전환 시각을 바꾸지 않으므로 조회하지 않고 건너뜁니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (event.getChangeType() == MeetingChangedEvent.ChangeType.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        try {
+            Optional<MeetingDeadlineRow> row = meetingsRepository.findDeadlineRowByMeetingId(event.getMeetingId())
+                    .filter(r -> ACTIVE_STATUSES.contains(r.status()));
+            if (row.isPresent()) {
+                schedule(row.get());
+            } else {
+                unschedule(event.getMeetingId());
+            }
+        } catch (Exception e) {
+            log.warn("모임 마감 갱신 실패: meetingId={}, {}", event.getMeetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 상태 전환이 커밋되면 진행중이 된 모임은 완료 마감을 한 번의 조회로 등록하고, 끝난 모임은 마감을 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingsStatusChanged(MeetingsStatusChangedEvent event) {
+        try {
+            if (ACTIVE_STATUSES.contains(event.getStatus())) {
+                meetingsRepository.findDeadlineRowsByMeetingIdIn(event.getMeetingIds()).stream()
+                        .filter(row -> ACTIVE_STATUSES.contains(row.status()))
+                        .forEach(this::schedule);
+            } else {
+                event.getMeetingIds().forEach(this::unschedule);
+            }
+        } catch (Exception e) {
+            log.warn("모임 마감 일괄 갱신 실패: {}건, {}", event.getMeetingIds().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 모임의 현재 상태로 다음 전환 시각을 계산해 큐에 넣습니다. 같은 시각의 마감이 이미 있으면 그대로 둡니다.
+     * 시각이 바뀌었으면 이전 항목을 큐에서 빼므로, 마감이 자주 바뀌는 모임도 큐에는 항목 하나만 남습니다.
+     */
+    void schedule(MeetingDeadlineRow row) {
+        LocalDateTime dueAt = row.status() == Meeting.MeetingStatus.ONGOING
+                ? row.meetingDate().plus(MeetingSchedulerService.COMPLETE_AFTER)
+                : row.meetingDate();
+        // 전환 조건이 '모임 시간 < 현재'이므로 마감 시각 바로 다음 밀리초에 꺼냅니다.
+        long dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1;
+
+        pending.compute(row.meetingId(), (meetingId, previous) -> {
+            if (previous != null && previous.dueAtMillis == dueAtMillis) {
+                return previous;
+            }
+            if (previous != null) {
+                queue.remove(previous);
+            }
+            Deadline deadline = new Deadline(meetingId, dueAtMillis);
+            queue.add(deadline);
+            return deadline;
+        });
+    }
+
+    /**
+     * 모임의 마감을 제거합니다. (끝났거나 삭제된 모임)
+     */
+    private void unschedule(Long meetingId) {
+        Deadline previous = pending.remove(meetingId);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+    }
+
+    private void runLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Deadline deadline;
+            try {
+                deadline = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // 그 사이 마감이 바뀌었거나 제거되었으면 오래된 항목이므로 건너뜁니다.
+            if (!pending.remove(deadline.meetingId, deadline)) {
+                continue;
+            }
+            try {
+                // 전환되면 상태 변경 이벤트로 다음 마감(진행중 → 완료)이 다시 등록됩니다.
+                meetingSchedulerService.applyDueTransition(deadline.meetingId);
+            } catch (Exception e) {
+                log.warn("모임 마감 전환 실패 (정리 스윕에서 다시 처리): meetingId={}, {}", deadline.meetingId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 큐 항목입니다. 같은 모임이라도 항목마다 다른 객체로 구분하여(동일성 비교) 최신 마감인지 확인합니다.
+     */
+    private static final class Deadline implements Delayed {
+
+        private final Long meetingId;
+        private final long dueAtMillis;
+
+        private Deadline(Long meetingId, long dueAtMillis) {
+            this.meetingId = meetingId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Deadline) other).dueAtMillis);
+        }
+    }
+}
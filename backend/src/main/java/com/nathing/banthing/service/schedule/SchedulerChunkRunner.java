@@ -0,0 +1,160 @@
+package com.nathing.banthing.service.schedule;
+
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.service.lease.SchedulerLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 스케줄러 작업 대상을 고정 크기 청크로 나눠, 청크마다 짧은 트랜잭션 하나로 처리하는 컴포넌트입니다.
+ *
+ * - 대상 ID는 키셋 페이지네이션(ID > 마지막 ID, ID 순, 청크 크기만큼)으로 조회하므로,
+ *   밀린 모임이 많아도 메모리에는 동시에 처리 중인 청크만 올라갑니다.
+ * - 청크마다 트랜잭션(과 영속성 컨텍스트)을 새로 열고 닫으므로 커넥션 점유 시간이 청크 하나로 제한되고,
+ *   실패한 청크만 롤백됩니다. (남은 모임은 다음 실행에서 다시 처리)
+ * - 병렬도(meeting.scheduler.chunk.parallelism)가 2 이상이면 청크를 전용 스레드에서 동시에 처리하며,
+ *   처리 중인 청크 수가 병렬도를 넘지 않도록 조회를 멈춥니다. 커넥션 풀이 작으므로 기본값은 1(호출 스레드에서 순차 처리)입니다.
+ * - 리스(@SchedulerLeased) 작업이면 청크 트랜잭션마다 펜싱하고, 리스를 잃으면 남은 청크를 처리하지 않습니다.
+ *
+ * 지표: meeting.scheduler.chunk{step, outcome} (청크 처리 시간), meeting.scheduler.transitions{step} (상태를 바꾼 모임 수)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class SchedulerChunkRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public SchedulerChunkRunner(PlatformTransactionManager transactionManager,
+                                SchedulerLeaseManager schedulerLeaseManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${meeting.scheduler.chunk.size:500}") int chunkSize,
+                                @Value("${meeting.scheduler.chunk.parallelism:1}") int parallelism) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = this.parallelism > 1 ? Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "meeting-scheduler-chunk");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 대상이 없을 때까지 청크를 조회해 처리합니다.
+     *
+     * @param step     로그/지표에 쓰는 단계 이름 (예: "cancel", "start", "complete")
+     * @param nextPage (마지막으로 조회한 ID, 청크 크기) → 그 다음 대상 ID 목록 (ID 오름차순)
+     * @param chunk    청크 하나를 처리하고 상태를 바꾼 모임 수를 반환 (청크 트랜잭션 안에서 실행)
+     * @return 상태를 바꾼 모임 수 합계
+     */
+    public int run(String step, BiFunction<Long, Pageable, List<Long>> nextPage, ToIntFunction<List<Long>> chunk) {
+        SchedulerLeaseManager.Lease lease = schedulerLeaseManager.current().orElse(null);
+        Pageable page = PageRequest.of(0, chunkSize);
+        AtomicInteger changed = new AtomicInteger();
+        AtomicBoolean leaseLost = new AtomicBoolean();
+        Semaphore slots = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+
+        long afterId = 0L;
+        while (!leaseLost.get()) {
+            List<Long> ids = nextPage.apply(afterId, page);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            if (executor == null) {
+                runChunk(step, ids, lease, chunk, changed, leaseLost);
+            } else {
+                slots.acquireUninterruptibly();
+                running.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        runChunk(step, ids, lease, chunk, changed, leaseLost);
+                    } finally {
+                        slots.release();
+                    }
+                }, executor));
+            }
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        running.forEach(CompletableFuture::join);
+        return changed.get();
+    }
+
+    private void runChunk(String step, List<Long> ids, SchedulerLeaseManager.Lease lease,
+                          ToIntFunction<List<Long>> chunk, AtomicInteger changed, AtomicBoolean leaseLost) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                if (lease != null) {
+                    schedulerLeaseManager.fence(lease);
+                }
+                return chunk.applyAsInt(ids);
+            });
+            int chunkChanged = count == null ? 0 : count;
+            changed.addAndGet(chunkChanged);
+            Counter.builder("meeting.scheduler.transitions")
+                    .tag("step", step)
+                    .description("스케줄러가 상태를 바꾼 모임 수")
+                    .register(meterRegistry)
+                    .increment(chunkChanged);
+            log.info("스케줄러: {} 청크 {}건 중 {}건 변경 {}", step, ids.size(), chunkChanged, ids);
+        } catch (BusinessException e) {
+            outcome = "failure";
+            if (e.getErrorCode() == ErrorCode.SCHEDULER_LEASE_LOST) {
+                leaseLost.set(true);
+            }
+            log.error("스케줄러: {} 청크 처리 실패 (다음 실행에서 다시 처리) {}: {}", step, ids, e.getMessage());
+        } catch (Exception e) {
+            outcome = "failure";
+            log.error("스케줄러: {} 청크 처리 실패 (다음 실행에서 다시 처리) {}: {}", step, ids, e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("meeting.scheduler.chunk")
+                    .tag("step", step)
+                    .tag("outcome", outcome)
+                    .description("스케줄러 청크 하나의 처리 시간")
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 LOWER(...) LIKE '%keyword%' 쿼리를 그대로 사용하는 기본 검색 엔진입니다.
+ * 인덱스를 사용할 수 없으므로 데이터가 적은 로컬/개발 환경에 적합합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeMeetingSearchEngine implements MeetingSearchEngine {
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+
+    @Override
+    public List<Meeting> search(String keyword) {
+        return meetingsRepository.findByKeywordAndRecruiting(keyword).stream()
+                .filter(meeting -> meeting.getStatus() != Meeting.MeetingStatus.CANCELLED)
+                .toList();
+    }
+
+    @Override
+    public List<MeetingSimpleResponse> searchSimple(String keyword) {
+        return meetingCardsRepository.findSimpleResponsesByKeyword(keyword, Meeting.MeetingStatus.CANCELLED);
+    }
+}
@@ -0,0 +1,98 @@
+package com.nathing.banthing.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 모임 목록/키워드 검색 결과를 보관하는 Caffeine 캐시입니다.
+ *
+ * - 키는 정규화한 검색어(앞뒤 공백 제거, 소문자)이며 검색어가 없는 전체 목록은 빈 문자열로 보관합니다.
+ * - 최대 개수(meeting.search.cache.max-size)와 TTL(meeting.search.cache.ttl)로 축출되며,
+ *   모임이 생성/수정/삭제되거나 상태·인원이 바뀌면 커밋 이후 전체를 무효화합니다.
+ * - hit/miss/eviction 통계는 Micrometer(cache.gets, cache.evictions 등, cache=meetingSearch)로 노출합니다.
+ *
+ * 조회 도중 무효화가 일어나면 변경 전 데이터로 만든 결과가 다시 캐시에 남지 않도록 세대(generation) 값을 비교합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class MeetingSearchCache {
+
+    private static final String CACHE_NAME = "meetingSearch";
+
+    private final Cache<String, List<MeetingSimpleResponse>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MeetingSearchCache(@Value("${meeting.search.cache.max-size:500}") long maxSize,
+                              @Value("${meeting.search.cache.ttl:60s}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 loader로 조회해 캐시에 저장합니다.
+     * loader에는 정규화된 검색어가 전달됩니다.
+     *
+     * @param keyword 검색어 (null 또는 공백이면 전체 목록)
+     * @param loader  정규화된 검색어로 결과를 조회하는 함수
+     */
+    public List<MeetingSimpleResponse> get(String keyword, Function<String, List<MeetingSimpleResponse>> loader) {
+        long startGeneration = generation.get();
+        String key = normalize(keyword);
+        List<MeetingSimpleResponse> result = cache.get(key, k -> List.copyOf(loader.apply(k)));
+        if (startGeneration != generation.get()) {
+            cache.invalidate(key);
+        }
+        return result;
+    }
+
+    /**
+     * 모임 변경이 커밋되면 검색 결과 캐시 전체를 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingsStatusChanged(MeetingsStatusChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,43 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+
+import java.util.List;
+
+/**
+ * 모임 키워드 검색 백엔드를 추상화한 인터페이스입니다.
+ *
+ * FindMeetingService는 구현체를 직접 알지 않고 이 인터페이스를 통해 검색하며,
+ * 실제 구현은 설정값 {@code meeting.search.engine}으로 선택합니다.
+ * - like    : 기존 LOWER(...) LIKE 쿼리 (기본값, 모든 DB에서 동작)
+ * - trigram : PostgreSQL pg_trgm GIN 인덱스 기반 검색 (관련도 순 정렬)
+ * - memory  : 모집중인 모임의 메모리 n-gram 인덱스 기반 검색 (관련도 순 정렬)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public interface MeetingSearchEngine {
+
+    /**
+     * 제목, 설명, 마트명에 키워드가 포함된 모임을 검색합니다.
+     * 취소(CANCELLED)되었거나 삭제된 모임은 결과에 포함되지 않습니다.
+     *
+     * @param keyword 공백이 아닌 검색어
+     * @return 검색된 모임 목록 (Mart 정보 포함)
+     */
+    List<Meeting> search(String keyword);
+
+    /**
+     * {@link #search(String)}와 같은 조건으로 검색하되, 목록 응답 DTO로 반환합니다.
+     * 구현체는 엔티티 대신 필요한 컬럼만 조회하는 프로젝션 쿼리로 재정의할 수 있습니다.
+     *
+     * @param keyword 공백이 아닌 검색어
+     * @return 검색된 모임의 목록 응답
+     */
+    default List<MeetingSimpleResponse> searchSimple(String keyword) {
+        return search(keyword).stream()
+                .map(MeetingSimpleResponse::new)
+                .toList();
+    }
+}
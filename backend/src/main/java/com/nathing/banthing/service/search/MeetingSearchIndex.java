@@ -0,0 +1,255 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MeetingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * 모집중(RECRUITING)인 모임을 메모리에 올려두는 n-gram 역색인입니다.
+ *
+ * - 제목/설명/마트명/마트 주소를 정규화(소문자, 한글·영문·숫자 외 문자는 공백)한 뒤 바이그램 포스팅을 구성합니다.
+ * - 검색 시 키워드 바이그램 중 포스팅이 가장 작은 것부터 교집합을 구하고, 후보만 부분 문자열로 최종 확인합니다.
+ *   따라서 조회 비용은 전체 모임 수가 아니라 후보 수에 비례합니다. (1글자 키워드만 전체 문서를 확인)
+ * - 점수는 기존 챗봇 추천과 같은 가중치(제목 3 / 설명 2 / 마트명 2 / 주소 1)이며, 동점이면 최신 모임이 먼저입니다.
+ * - 기동 시 전체를 한 번 적재하고, 이후에는 {@link MeetingChangedEvent}를 커밋 이후에 받아 해당 모임만 다시 색인합니다.
+ * - 최신순 후보({@link #recent(int)})는 (생성 시각, 모임 ID) 순으로 정렬된 집합을 문서와 함께 유지하므로 호출마다 정렬하지 않습니다.
+ *
+ * 읽기는 락 없이 동시 컬렉션을 조회하고, 쓰기(문서 추가/삭제)만 동기화합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern NON_WORD = Pattern.compile("[^가-힣a-z0-9]+");
+    private static final Comparator<IndexedMeeting> NEWEST_FIRST = Comparator
+            .comparing(IndexedMeeting::createdAt, Comparator.reverseOrder())
+            .thenComparing(IndexedMeeting::meetingId, Comparator.reverseOrder());
+
+    private final MeetingsRepository meetingsRepository;
+
+    private final Map<Long, IndexedMeeting> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final NavigableSet<IndexedMeeting> newestFirst = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+    /**
+     * 모집중인 모임 전체로 인덱스를 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        documents.clear();
+        postings.clear();
+        newestFirst.clear();
+        meetingsRepository.findAllWithMartByStatus(Meeting.MeetingStatus.RECRUITING)
+                .forEach(this::put);
+        log.info("모임 검색 인덱스 구성 완료: 모임 {}건, 포스팅 {}개", documents.size(), postings.size());
+    }
+
+    /**
+     * 모임 변경이 커밋된 뒤 해당 모임만 다시 읽어 인덱스에 반영합니다.
+     * 모집중이 아니거나 삭제된 모임은 인덱스에서 제거됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            refresh(event.getMeetingId());
+        } catch (Exception e) {
+            // 인덱스 갱신 실패가 요청 처리에 영향을 주지 않도록 로그만 남깁니다. (다음 변경 또는 재기동 시 복구)
+            log.warn("모임 검색 인덱스 갱신 실패: meetingId={}, {}", event.getMeetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 상태 전환이 커밋되면 모집중이 아니게 된 모임을 DB를 다시 읽지 않고 인덱스에서 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingsStatusChanged(MeetingsStatusChangedEvent event) {
+        try {
+            if (event.getStatus() == Meeting.MeetingStatus.RECRUITING) {
+                event.getMeetingIds().forEach(this::refresh);
+            } else {
+                event.getMeetingIds().forEach(this::remove);
+            }
+        } catch (Exception e) {
+            log.warn("모임 검색 인덱스 일괄 갱신 실패: {}건, {}", event.getMeetingIds().size(), e.getMessage());
+        }
+    }
+
+    public void refresh(Long meetingId) {
+        meetingsRepository.findWithMartByMeetingId(meetingId)
+                .filter(meeting -> meeting.getStatus() == Meeting.MeetingStatus.RECRUITING)
+                .ifPresentOrElse(this::put, () -> remove(meetingId));
+    }
+
+    /**
+     * 키워드 중 하나라도 포함하는 모임 ID를 관련도 순으로 반환합니다.
+     *
+     * @param keywords 검색 키워드 목록
+     * @param limit    최대 결과 수
+     */
+    public List<Long> search(Collection<String> keywords, int limit) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            String normalized = normalize(keyword);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            for (Long meetingId : candidates(normalized)) {
+                IndexedMeeting document = documents.get(meetingId);
+                if (document == null) {
+                    continue;
+                }
+                int score = document.score(normalized);
+                if (score > 0) {
+                    scores.merge(meetingId, score, Integer::sum);
+                }
+            }
+        }
+
+        Comparator<Map.Entry<Long, Integer>> byScore = Map.Entry.comparingByValue(Comparator.reverseOrder());
+        return scores.entrySet().stream()
+                .sorted(byScore.thenComparing(entry -> createdAtOf(entry.getKey()), Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 최근 등록된 모임 ID를 최신순으로 반환합니다. (키워드가 없거나 관련 모임이 없을 때의 기본 후보)
+     * 정렬된 집합의 앞에서 limit건만 읽습니다.
+     */
+    public List<Long> recent(int limit) {
+        return newestFirst.stream()
+                .limit(limit)
+                .map(IndexedMeeting::meetingId)
+                .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private synchronized void put(Meeting meeting) {
+        removeDocument(meeting.getMeetingId());
+        IndexedMeeting document = new IndexedMeeting(
+                meeting.getMeetingId(),
+                normalize(meeting.getTitle()),
+                normalize(meeting.getDescription()),
+                normalize(meeting.getMart().getMartName()),
+                normalize(meeting.getMart().getAddress()),
+                meeting.getCreatedAt() != null ? meeting.getCreatedAt() : LocalDateTime.MIN);
+        documents.put(document.meetingId(), document);
+        newestFirst.add(document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.meetingId());
+        }
+    }
+
+    private synchronized void remove(Long meetingId) {
+        removeDocument(meetingId);
+    }
+
+    private void removeDocument(Long meetingId) {
+        IndexedMeeting previous = documents.remove(meetingId);
+        if (previous == null) {
+            return;
+        }
+        newestFirst.remove(previous);
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(meetingId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 키워드의 모든 바이그램을 포함하는 후보 모임 ID (포스팅이 작은 순으로 교집합)
+     */
+    private Collection<Long> candidates(String keyword) {
+        if (keyword.length() < GRAM_SIZE) {
+            return documents.keySet();
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(keyword)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private LocalDateTime createdAtOf(Long meetingId) {
+        IndexedMeeting document = documents.get(meetingId);
+        return document != null ? document.createdAt() : LocalDateTime.MIN;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NON_WORD.matcher(text.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 정규화된 필드를 보관하는 인덱스 문서
+     */
+    private record IndexedMeeting(Long meetingId, String title, String description,
+                                  String martName, String address, LocalDateTime createdAt) {
+
+        int score(String keyword) {
+            int score = 0;
+            if (title.contains(keyword)) score += 3; // 제목 매칭이 가장 중요
+            if (description.contains(keyword)) score += 2; // 설명 매칭
+            if (martName.contains(keyword)) score += 2; // 마트명 매칭
+            if (address.contains(keyword)) score += 1; // 주소 매칭
+            return score;
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            grams.addAll(MeetingSearchIndex.grams(title));
+            grams.addAll(MeetingSearchIndex.grams(description));
+            grams.addAll(MeetingSearchIndex.grams(martName));
+            grams.addAll(MeetingSearchIndex.grams(address));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSuggestResponse;
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MartsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.util.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성을 위한 메모리 접두어 트라이(prefix trie)입니다.
+ *
+ * - 대상 단어: 모집중인 모임 제목, 마트명, 자주 검색된 키워드
+ * - 단어를 자모 단위로 풀어 쓴 트라이와 초성만 남긴 트라이를 함께 유지하므로
+ *   "코ㅅ"(입력 중인 글자), "ㅋㅅㅌ"(초성) 같은 접두어도 "코스트코"로 매칭됩니다.
+ *   겹모음/겹받침은 단어와 입력 모두 두 자모로 나누므로 "고"는 "과일"로, "갋"은 "갈비"로 이어집니다.
+ * - 각 노드는 하위 단어 중 가중치 상위 {@link #TOP_K}개를 미리 들고 있어, 조회는 접두어 길이만큼 내려가는 비용뿐입니다.
+ * - 가중치는 해당 단어를 제목/마트로 가진 모집중 모임 수 + 검색 횟수이며,
+ *   모임 변경 이벤트(커밋 이후)마다 바뀐 단어의 경로만 다시 계산합니다.
+ *
+ * 조회는 읽기 락, 갱신은 쓰기 락으로 보호합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSuggestIndex {
+
+    public static final int TOP_K = 10;
+
+    /** 이 횟수 이상 검색되고 결과가 있었던 키워드를 자동완성 단어로 등록 */
+    private static final int POPULAR_KEYWORD_THRESHOLD = 3;
+    /** 검색 횟수를 추적할 키워드 최대 개수 (무분별한 입력으로 메모리가 늘지 않도록 제한) */
+    private static final int MAX_TRACKED_KEYWORDS = 10_000;
+    private static final int MAX_KEYWORD_LENGTH = 30;
+
+    private final MeetingsRepository meetingsRepository;
+    private final MartsRepository martsRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TrieNode jamoRoot = new TrieNode();
+    private final TrieNode chosungRoot = new TrieNode();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final Map<Long, MeetingContribution> contributions = new HashMap<>();
+    private final Map<String, AtomicInteger> searchCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 마트와 모집중인 모임 전체로 트라이를 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Mart> marts = martsRepository.findAll();
+        List<Meeting> meetings = meetingsRepository.findAllWithMartByStatus(Meeting.MeetingStatus.RECRUITING);
+
+        lock.writeLock().lock();
+        try {
+            jamoRoot.clear();
+            chosungRoot.clear();
+            terms.clear();
+            contributions.clear();
+
+            for (Mart mart : marts) {
+                // 마트명은 모임이 없어도 기본 가중치 1로 항상 제안
+                adjust(mart.getMartName(), Term.Type.MART, 1);
+            }
+            for (Meeting meeting : meetings) {
+                addContribution(meeting);
+            }
+            searchCounts.forEach((keyword, count) -> {
+                if (count.get() >= POPULAR_KEYWORD_THRESHOLD) {
+                    adjust(keyword, Term.Type.KEYWORD, count.get());
+                }
+            });
+            log.info("자동완성 트라이 구성 완료: 단어 {}개", terms.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임 변경이 커밋된 뒤 해당 모임의 제목/마트 가중치만 갱신합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        refresh(event.getMeetingId());
+    }
+
+    /**
+     * 일괄 상태 전환으로 모집중이 아니게 된 모임의 가중치를 한 번의 쓰기 락 안에서 뺍니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingsStatusChanged(MeetingsStatusChangedEvent event) {
+        if (event.getStatus() == Meeting.MeetingStatus.RECRUITING) {
+            event.getMeetingIds().forEach(this::refresh);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.getMeetingIds().forEach(this::removeContribution);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refresh(Long meetingId) {
+        try {
+            Optional<Meeting> meeting = meetingsRepository.findWithMartByMeetingId(meetingId)
+                    .filter(m -> m.getStatus() == Meeting.MeetingStatus.RECRUITING);
+
+            lock.writeLock().lock();
+            try {
+                removeContribution(meetingId);
+                meeting.ifPresent(this::addContribution);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 갱신 실패: meetingId={}, {}", meetingId, e.getMessage());
+        }
+    }
+
+    /**
+     * 결과가 있었던 검색 키워드의 검색 횟수를 기록합니다.
+     * 임계값에 도달하면 자동완성 단어로 등록하고, 이후에는 10회마다 가중치를 반영합니다.
+     */
+    public void recordSearch(String keyword) {
+        String key = normalize(keyword);
+        if (key.length() < 2 || key.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+        AtomicInteger counter = searchCounts.get(key);
+        if (counter == null) {
+            if (searchCounts.size() >= MAX_TRACKED_KEYWORDS) {
+                return;
+            }
+            counter = searchCounts.computeIfAbsent(key, k -> new AtomicInteger());
+        }
+        int count = counter.incrementAndGet();
+        if (count == POPULAR_KEYWORD_THRESHOLD || (count > POPULAR_KEYWORD_THRESHOLD && count % 10 == 0)) {
+            lock.writeLock().lock();
+            try {
+                int delta = (count == POPULAR_KEYWORD_THRESHOLD) ? count : 10;
+                adjust(keyword.trim(), Term.Type.KEYWORD, delta);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 단어를 가중치 순으로 반환합니다.
+     *
+     * @param prefix 사용자가 입력 중인 접두어 (완성된 글자, 입력 중인 자모, 초성 모두 가능)
+     * @param limit  최대 개수 (1 ~ TOP_K)
+     */
+    public List<MeetingSuggestResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Term> candidates = new ArrayList<>(find(jamoRoot, HangulJamo.decompose(key)));
+            if (HangulJamo.isChosungQuery(key)) {
+                for (Term term : find(chosungRoot, HangulJamo.chosung(key))) {
+                    if (!candidates.contains(term)) {
+                        candidates.add(term);
+                    }
+                }
+            }
+            return candidates.stream()
+                    .sorted(Term.BY_WEIGHT)
+                    .limit(limit)
+                    .map(term -> new MeetingSuggestResponse(term.text, term.type.name()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 쓰기 락 안에서만 호출 =====
+
+    private void addContribution(Meeting meeting) {
+        MeetingContribution contribution = new MeetingContribution(meeting.getTitle(), meeting.getMart().getMartName());
+        contributions.put(meeting.getMeetingId(), contribution);
+        adjust(contribution.title(), Term.Type.TITLE, 1);
+        adjust(contribution.martName(), Term.Type.MART, 1);
+    }
+
+    private void removeContribution(Long meetingId) {
+        MeetingContribution previous = contributions.remove(meetingId);
+        if (previous != null) {
+            adjust(previous.title(), Term.Type.TITLE, -1);
+            adjust(previous.martName(), Term.Type.MART, -1);
+        }
+    }
+
+    /**
+     * 단어의 가중치를 delta만큼 바꾸고 트라이 경로의 상위 K 목록을 다시 계산합니다.
+     * 가중치가 0 이하가 되면 트라이에서 제거합니다.
+     */
+    private void adjust(String text, Term.Type type, int delta) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Term term = terms.get(key);
+        if (term == null) {
+            if (delta <= 0) {
+                return;
+            }
+            term = new Term(text.trim(), type);
+            terms.put(key, term);
+        }
+        term.weight += delta;
+        if (type.ordinal() < term.type.ordinal()) {
+            term.type = type;
+            term.text = text.trim();
+        }
+
+        String jamoPath = HangulJamo.decompose(key);
+        String chosungPath = HangulJamo.chosung(key);
+        if (term.weight <= 0) {
+            terms.remove(key);
+            delete(jamoRoot, jamoPath, term);
+            delete(chosungRoot, chosungPath, term);
+        } else {
+            upsert(jamoRoot, jamoPath, term);
+            upsert(chosungRoot, chosungPath, term);
+        }
+    }
+
+    private void upsert(TrieNode root, String path, Term term) {
+        Deque<TrieNode> nodes = new ArrayDeque<>(path.length() + 1);
+        TrieNode node = root;
+        nodes.push(node);
+        for (char c : path.toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new TrieNode());
+            nodes.push(node);
+        }
+        node.terms.add(term);
+        while (!nodes.isEmpty()) {
+            nodes.pop().recomputeTop();
+        }
+    }
+
+    private void delete(TrieNode root, String path, Term term) {
+        Deque<TrieNode> nodes = new ArrayDeque<>(path.length() + 1);
+        TrieNode node = root;
+        nodes.push(node);
+        for (char c : path.toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return;
+            }
+            nodes.push(node);
+        }
+        node.terms.remove(term);
+
+        // 말단부터 올라가며 비어 있는 노드는 떼어내고 나머지는 상위 K를 다시 계산
+        int depth = path.length();
+        TrieNode child = null;
+        while (!nodes.isEmpty()) {
+            TrieNode current = nodes.pop();
+            if (child != null && child.isEmpty()) {
+                current.children.remove(path.charAt(depth));
+            }
+            current.recomputeTop();
+            child = current;
+            depth--;
+        }
+    }
+
+    private static List<Term> find(TrieNode root, String path) {
+        TrieNode node = root;
+        for (char c : path.toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return List.of();
+            }
+        }
+        return node.top;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private record MeetingContribution(String title, String martName) {
+    }
+
+    /**
+     * 자동완성 단어. 가중치와 종류는 쓰기 락 안에서만 바뀝니다.
+     */
+    private static final class Term {
+
+        // 같은 단어가 여러 종류로 등록되면 앞선 종류로 표시합니다.
+        enum Type { MART, TITLE, KEYWORD }
+
+        static final Comparator<Term> BY_WEIGHT = Comparator.<Term>comparingInt(term -> term.weight).reversed()
+                .thenComparing(term -> term.text);
+
+        String text;
+        Type type;
+        int weight;
+
+        Term(String text, Type type) {
+            this.text = text;
+            this.type = type;
+        }
+    }
+
+    private static final class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>();
+        final Set<Term> terms = new HashSet<>(1);
+        List<Term> top = List.of();
+
+        void recomputeTop() {
+            List<Term> candidates = new ArrayList<>(terms);
+            for (TrieNode child : children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(Term.BY_WEIGHT);
+            top = List.copyOf(candidates.subList(0, Math.min(TOP_K, candidates.size())));
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && terms.isEmpty();
+        }
+
+        void clear() {
+            children.clear();
+            terms.clear();
+            top = List.of();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 n-gram 인덱스({@link MeetingSearchIndex})로 후보 ID를 찾고,
+ * 해당 모임만 ID 목록으로 한 번에 조회하는 검색 엔진입니다.
+ *
+ * 인덱스에는 모집중인 모임만 들어 있으므로 검색 결과도 모집중인 모임으로 한정되며,
+ * 제목/설명/마트명 외에 마트 주소도 검색 대상에 포함됩니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.search.engine", havingValue = "memory")
+public class MemoryMeetingSearchEngine implements MeetingSearchEngine {
+
+    private final MeetingSearchIndex meetingSearchIndex;
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+
+    @Value("${meeting.search.max-results:100}")
+    private int maxResults;
+
+    @Override
+    public List<Meeting> search(String keyword) {
+        List<Long> meetingIds = meetingSearchIndex.search(List.of(keyword), maxResults);
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 인덱스의 관련도 순서로 다시 정렬
+        Map<Long, Meeting> meetingsById = meetingsRepository.findAllWithMartByMeetingIdIn(meetingIds).stream()
+                .collect(Collectors.toMap(Meeting::getMeetingId, Function.identity()));
+        return meetingIds.stream()
+                .map(meetingsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<MeetingSimpleResponse> searchSimple(String keyword) {
+        List<Long> meetingIds = meetingSearchIndex.search(List.of(keyword), maxResults);
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MeetingSimpleResponse> responsesById = meetingCardsRepository.findSimpleResponsesByMeetingIdIn(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingSimpleResponse::getMeetingId, Function.identity()));
+        return meetingIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL pg_trgm 확장과 GIN 인덱스를 사용하는 모임 검색 엔진입니다.
+ *
+ * - 트라이그램 인덱스는 단어 경계와 무관하게 부분 문자열을 찾으므로 형태소 분석 없이도 한글 검색이 가능합니다.
+ *   (DB가 UTF-8 로케일로 초기화되어 있어야 한글이 트라이그램으로 추출됩니다.)
+ * - 결과는 word_similarity 기반 관련도 점수 순으로 정렬되며 최대 {@code meeting.search.max-results}건을 반환합니다.
+ * - 목록 응답({@link #searchSimple(String)})은 모임 카드 테이블에서 DTO로 바로 조회하므로 엔티티나 마트를 로딩하지 않습니다.
+ * - 확장과 인덱스는 Flyway 마이그레이션(V10__pg_trgm_search_indexes.sql, V12__meeting_cards_trgm_indexes.sql)으로 만듭니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.search.engine", havingValue = "trigram")
+public class TrigramMeetingSearchEngine implements MeetingSearchEngine {
+
+    private final MeetingsRepository meetingsRepository;
+    private final MeetingCardsRepository meetingCardsRepository;
+
+    @Value("${meeting.search.max-results:100}")
+    private int maxResults;
+
+    @Override
+    public List<Meeting> search(String keyword) {
+        String trimmed = keyword.trim();
+        return meetingsRepository.searchByTrigram(trimmed, toLikePattern(trimmed), maxResults);
+    }
+
+    @Override
+    public List<MeetingSimpleResponse> searchSimple(String keyword) {
+        String trimmed = keyword.trim();
+        return meetingCardsRepository.searchSimpleByTrigram(trimmed, toLikePattern(trimmed),
+                Meeting.MeetingStatus.CANCELLED, PageRequest.of(0, maxResults));
+    }
+
+    /**
+     * LIKE 특수문자(%, _, \)를 이스케이프하고 양쪽에 와일드카드를 붙입니다.
+     */
+    private String toLikePattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
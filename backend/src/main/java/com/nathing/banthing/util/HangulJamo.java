@@ -0,0 +1,108 @@
+package com.nathing.banthing.util;
+
+/**
+ * 한글 음절을 자모 단위로 분해하는 유틸리티입니다. (자동완성 접두어 매칭용)
+ *
+ * - {@link #decompose(String)}: 음절을 초성/중성/종성 호환 자모로 풀어 씁니다. 예) "코스" → "ㅋㅗㅅㅡ"
+ *   입력 중인 글자("코ㅅ")도 같은 방식으로 풀면 "ㅋㅗㅅ"이 되어 "코스"의 접두어로 매칭됩니다.
+ *   겹모음/겹받침은 키보드로 누르는 순서대로 두 자모로 나눕니다. 예) "과" → "ㄱㅗㅏ", "갋" → "ㄱㅏㄹㅂ"
+ *   그래서 "고"(ㅘ를 치는 중)는 "과일"의, "갋"(다음 글자 초성 ㅂ을 받침으로 친 상태)은 "갈비"의 접두어가 됩니다.
+ * - {@link #chosung(String)}: 음절을 초성만 남깁니다. 예) "코스트코" → "ㅋㅅㅌㅋ"
+ *
+ * 한글 음절이 아닌 문자는 그대로 두되, 따로 입력한 겹자모(ㄳ, ㅘ 등)는 음절 안에서와 같이 나눕니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    // 0번은 받침 없음
+    private static final char[] JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    // 호환 자모(U+3131 ~ U+3163)별 풀어 쓴 형태 (겹모음/겹받침만 두 글자, 나머지는 그대로)
+    private static final char COMPAT_BEGIN = 'ㄱ';
+    private static final char COMPAT_END = 'ㅣ';
+    private static final String[] SPLIT = new String[COMPAT_END - COMPAT_BEGIN + 1];
+
+    static {
+        for (char c = COMPAT_BEGIN; c <= COMPAT_END; c++) {
+            SPLIT[c - COMPAT_BEGIN] = String.valueOf(c);
+        }
+        String[] compounds = {
+                "ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ", "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ", "ㅀㄹㅎ", "ㅄㅂㅅ",
+                "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ"
+        };
+        for (String compound : compounds) {
+            SPLIT[compound.charAt(0) - COMPAT_BEGIN] = compound.substring(1);
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                result.append(CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+                appendSplit(result, JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                int jong = index % JONG_COUNT;
+                if (jong != 0) {
+                    appendSplit(result, JONG[jong]);
+                }
+            } else {
+                appendSplit(result, c);
+            }
+        }
+        return result.toString();
+    }
+
+    public static String chosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                result.append(CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                appendSplit(result, c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 한글 음절 없이 자음(초성)만으로 이루어진 입력인지 확인합니다. 예) "ㅋㅅㅌ"
+     * 영문/숫자/공백이 섞여 있어도 되지만 자음이 하나 이상 있어야 합니다.
+     */
+    public static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                return false;
+            }
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                hasConsonant = true;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static void appendSplit(StringBuilder result, char jamo) {
+        if (jamo >= COMPAT_BEGIN && jamo <= COMPAT_END) {
+            result.append(SPLIT[jamo - COMPAT_BEGIN]);
+        } else {
+            result.append(jamo);
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -1,5 +1,7 @@
 package com.nathing.banthing.util;
 
+import com.nathing.banthing.config.AuthUser;
+import com.nathing.banthing.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -18,6 +21,10 @@ import java.util.Map;
  * - 시크릿과 만료시간은 {@link JwtProperties}에서 주입됩니다.
  * - 시크릿 키는 Base64 문자열을 디코딩해 HMAC-SHA Key로 생성합니다.
  * - 만료시간 단위는 밀리초(ms)입니다.
+ * - Access Token에는 서비스가 providerId → 사용자 조회 없이 일할 수 있도록 버전이 붙은 클레임 세트를 넣습니다.
+ *   (cv: 클레임 버전, uid: 내부 사용자 ID)
+ *   토큰이 유효한 동안 바뀌지 않는 값만 넣습니다. 신뢰 등급처럼 바뀔 수 있는 값은 발급 후 낡으므로 넣지 않습니다.
+ *   클레임 구성이 바뀌면 CLAIMS_VERSION을 올리며, 버전이 다른 토큰은 subject(providerId)만 사용합니다.
  *
  * @author 강관주
  * @since 2025.09.13
@@ -26,6 +33,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    public static final String CLAIM_VERSION = "cv";
+    public static final String CLAIM_USER_ID = "uid";
+    // 현재 Access Token 클레임 세트 버전
+    public static final int CLAIMS_VERSION = 1;
+
     private final JwtProperties jwtProperties;
 
     // 비밀키를 생성
@@ -84,6 +96,17 @@ public class JwtTokenProvider {
         return createToken(subject, claims, jwtProperties.getAccessExpiration());
     }
 
+    /**
+     * 사용자 정보를 클레임에 담은 Access Token 생성.
+     * - subject는 기존과 같이 providerId이며, 바뀌지 않는 내부 사용자 ID를 함께 담습니다.
+     */
+    public String createAccessToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_VERSION, CLAIMS_VERSION);
+        claims.put(CLAIM_USER_ID, user.getUserId());
+        return createAccessToken(user.getProviderId(), claims);
+    }
+
     /**
      * Refresh Token 생성.
      * - 커스텀 클레임을 넣지 않는 이유:
@@ -114,5 +137,22 @@ public class JwtTokenProvider {
     public Claims getClaims(String token) {
         return parseClaims(token);
     }
-}
 
+    /**
+     * Access Token 클레임을 인증 주체로 변환합니다.
+     * 클레임 버전이 현재와 다르거나 값이 올바르지 않으면(이전에 발급된 토큰 등) providerId만 담습니다.
+     */
+    public AuthUser toAuthUser(Claims claims) {
+        String providerId = claims.getSubject();
+        Integer version = claims.get(CLAIM_VERSION, Integer.class);
+        if (version == null || version != CLAIMS_VERSION) {
+            return AuthUser.ofProviderId(providerId);
+        }
+        try {
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            return new AuthUser(providerId, userId == null ? null : userId.longValue());
+        } catch (RuntimeException e) {
+            return AuthUser.ofProviderId(providerId);
+        }
+    }
+}
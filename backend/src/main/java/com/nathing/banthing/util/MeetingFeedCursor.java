@@ -0,0 +1,62 @@
+package com.nathing.banthing.util;
+
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 모임 피드의 키셋(커서) 페이지네이션에 사용하는 커서 값 객체입니다.
+ *
+ * - 마지막으로 내려준 모임의 (createdAt, meetingId) 쌍을 담습니다.
+ * - 클라이언트에게는 내부 구조를 드러내지 않도록 URL-safe Base64 문자열(불투명 커서)로 전달합니다.
+ * - 다음 페이지는 "이 커서보다 이전에 생성된 모임"을 인덱스 순서대로 읽기만 하므로
+ *   OFFSET 방식과 달리 전체 모임 수와 관계없이 페이지당 비용이 일정합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeetingFeedCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long meetingId;
+
+    /**
+     * 마지막 모임의 생성 시각과 ID로 불투명 커서 문자열을 만듭니다.
+     */
+    public static String encode(LocalDateTime createdAt, Long meetingId) {
+        String raw = createdAt.toString() + DELIMITER + meetingId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다.
+     *
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우 INVALID_CURSOR
+     */
+    public static MeetingFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long meetingId = Long.parseLong(raw.substring(idx + 1));
+            return new MeetingFeedCursor(createdAt, meetingId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
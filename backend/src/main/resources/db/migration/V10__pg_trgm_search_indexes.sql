@@ -0,0 +1,20 @@
+-- ============================================
+-- 모임 키워드 검색용 pg_trgm 확장 및 GIN 인덱스 (PostgreSQL)
+-- 조회: MeetingsRepository.searchByTrigram (meeting.search.engine=trigram)
+--       title/description/mart_name ILIKE '%keyword%' + word_similarity 정렬
+-- 검증: SchemaIndexPlanTest
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 삭제되지 않은 모임만 검색하므로 부분 인덱스로 생성
+CREATE INDEX IF NOT EXISTS idx_meetings_title_trgm
+    ON meetings USING gin (title gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_meetings_description_trgm
+    ON meetings USING gin (description gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_marts_mart_name_trgm
+    ON marts USING gin (mart_name gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- ============================================
+-- 모임 목록 변경 번호 (조건부 GET)
+-- 목록에 보이는 데이터를 바꾸는 트랜잭션이 커밋 직전에 올립니다.
+--   UPDATE meeting_list_versions SET change_seq = change_seq + 1, updated_at = ? WHERE list_id = 1
+-- 행 잠금 때문에 커밋 순서대로 증가하므로, 커밋 전에 정한 시각으로 계산하던 MAX(updated_at)을 대신합니다.
+-- 조회: SELECT ... WHERE list_id = 1 (기본 키)
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS meeting_list_versions
+(
+    list_id    BIGINT PRIMARY KEY,
+    change_seq BIGINT       NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO meeting_list_versions (list_id, change_seq, updated_at)
+VALUES (1, 1, NOW())
+ON CONFLICT (list_id) DO NOTHING;
+
+-- 목록 버전을 더 이상 MAX(updated_at)으로 구하지 않으므로 V9의 인덱스를 제거합니다.
+DROP INDEX IF EXISTS idx_meetings_updated_at;
@@ -0,0 +1,25 @@
+-- ============================================
+-- 모임 카드 키워드 검색/피드용 인덱스 (PostgreSQL)
+-- 조회: MeetingCardsRepository.searchSimpleByTrigram (meeting.search.engine=trigram)
+--       title/description/mart_name ILIKE '%keyword%' + word_similarity 정렬
+--       MeetingCardsRepository.findFeedFirstPage / findFeedAfterCursor
+--       ORDER BY created_at DESC, meeting_id DESC (커서 키셋)
+-- 검증: SchemaIndexPlanTest
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_title_trgm
+    ON meeting_cards USING gin (title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_description_trgm
+    ON meeting_cards USING gin (description gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_mart_name_trgm
+    ON meeting_cards USING gin (mart_name gin_trgm_ops);
+
+-- 생성일만 있던 인덱스를 (created_at, meeting_id) 키셋 인덱스로 교체 (생성일 단독 정렬도 이 인덱스로 처리)
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_created_at_meeting_id
+    ON meeting_cards (created_at DESC, meeting_id DESC);
+
+DROP INDEX IF EXISTS idx_meeting_cards_created_at;
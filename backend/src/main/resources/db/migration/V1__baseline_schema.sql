@@ -0,0 +1,109 @@
+-- ============================================
+-- 기준(baseline) 스키마 (PostgreSQL)
+-- 기존에 ddl-auto: update로 만들어진 운영 DB는 baseline-on-migrate로 이 버전을 건너뛰고,
+-- 빈 DB에서는 이 스크립트로 엔티티와 같은 테이블을 생성합니다.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS users
+(
+    user_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nickname          VARCHAR(50)  NOT NULL,
+    profile_image_url VARCHAR(255),
+    self_introduction VARCHAR(255),
+    provider          VARCHAR(50)  NOT NULL,
+    provider_id       VARCHAR(255) NOT NULL,
+    trust_score       INTEGER      NOT NULL,
+    trust_grade       VARCHAR(255) NOT NULL,
+    no_show_count     INTEGER,
+    agree             BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    deleted_at        TIMESTAMP(6),
+    CONSTRAINT uk_provider_id UNIQUE (provider, provider_id)
+);
+
+CREATE TABLE IF NOT EXISTS marts
+(
+    mart_id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    mart_name  VARCHAR(100)   NOT NULL,
+    mart_brand VARCHAR(255)   NOT NULL,
+    address    VARCHAR(200)   NOT NULL,
+    latitude   NUMERIC(10, 8) NOT NULL,
+    longitude  NUMERIC(11, 8) NOT NULL,
+    created_at TIMESTAMP(6)   NOT NULL,
+    updated_at TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_mart_name UNIQUE (mart_name)
+);
+
+CREATE TABLE IF NOT EXISTS meetings
+(
+    meeting_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    host_user_id         BIGINT       NOT NULL REFERENCES users (user_id),
+    mart_id              BIGINT       NOT NULL REFERENCES marts (mart_id),
+    title                VARCHAR(100) NOT NULL,
+    description          TEXT,
+    meeting_date         TIMESTAMP(6) NOT NULL,
+    max_participants     INTEGER      NOT NULL,
+    current_participants INTEGER,
+    status               VARCHAR(255),
+    thumbnail_image_url  VARCHAR(500),
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    deleted_at           TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS meeting_participants
+(
+    participant_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    meeting_id         BIGINT       NOT NULL REFERENCES meetings (meeting_id),
+    user_id            BIGINT       NOT NULL REFERENCES users (user_id),
+    participant_type   VARCHAR(255) NOT NULL,
+    application_status VARCHAR(255),
+    joined_at          TIMESTAMP(6),
+    updated_at         TIMESTAMP(6),
+    CONSTRAINT uk_meeting_participants_meeting_user UNIQUE (meeting_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS comments
+(
+    comment_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES users (user_id),
+    meeting_id BIGINT       NOT NULL REFERENCES meetings (meeting_id),
+    content    VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    is_deleted BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS feedbacks
+(
+    feedback_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    giver_user_id    BIGINT       NOT NULL REFERENCES users (user_id),
+    receiver_user_id BIGINT       NOT NULL REFERENCES users (user_id),
+    meeting_id       BIGINT       NOT NULL REFERENCES meetings (meeting_id),
+    feedback_type    VARCHAR(255) NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT uk_feedbacks_giver_receiver_meeting UNIQUE (giver_user_id, receiver_user_id, meeting_id)
+);
+
+CREATE TABLE IF NOT EXISTS chatbot_conversations
+(
+    conversation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         BIGINT NOT NULL REFERENCES users (user_id),
+    user_message    TEXT   NOT NULL,
+    bot_response    TEXT   NOT NULL,
+    intent_type     VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS chatbot_meeting_suggestions
+(
+    suggestion_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    conversation_id   BIGINT NOT NULL REFERENCES chatbot_conversations (conversation_id),
+    meeting_id        BIGINT NOT NULL REFERENCES meetings (meeting_id),
+    suggestion_reason VARCHAR(200),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
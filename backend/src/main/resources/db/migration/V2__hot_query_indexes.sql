@@ -0,0 +1,68 @@
+-- ============================================
+-- 자주 실행되는 조회 쿼리용 복합/부분 인덱스 (PostgreSQL)
+-- 검증: SchemaIndexPlanTest (EXPLAIN 결과에 Seq Scan이 없어야 함)
+-- ============================================
+
+-- 엔티티 @Index로 만들어졌던 전체 인덱스는 삭제되지 않은 모임만 담는 부분 인덱스로 대체합니다.
+DROP INDEX IF EXISTS idx_meetings_created_at_id;
+DROP INDEX IF EXISTS idx_meetings_status_meeting_date;
+
+-- ===== meetings =====
+
+-- 전체 목록/피드 키셋 페이지네이션: ORDER BY created_at DESC, meeting_id DESC (MeetingsRepository.findFeed*)
+CREATE INDEX IF NOT EXISTS idx_meetings_active_created_at_id
+    ON meetings (created_at DESC, meeting_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 상태 + 모임 일시 범위: 스케줄러(findByStatus[In]AndMeetingDateBefore), 패싯 검색
+CREATE INDEX IF NOT EXISTS idx_meetings_active_status_meeting_date
+    ON meetings (status, meeting_date)
+    WHERE deleted_at IS NULL;
+
+-- 진행 전 모임(모집중/마감)만: 시작 처리 스케줄러, 모집중 모임 조회(검색/자동완성 인덱스 구성)
+CREATE INDEX IF NOT EXISTS idx_meetings_open_meeting_date
+    ON meetings (meeting_date)
+    WHERE deleted_at IS NULL AND status IN ('RECRUITING', 'FULL');
+
+-- 마트별 모임 조회 (패싯 검색의 마트 조건)
+-- 마트 FK 확인에도 쓰이도록 부분 인덱스로 만들지 않으며, 선두 컬럼이 같은 기존 mart_id 인덱스를 대체합니다.
+CREATE INDEX IF NOT EXISTS idx_meetings_mart_id_status
+    ON meetings (mart_id, status);
+DROP INDEX IF EXISTS idx_meetings_mart_id;
+
+-- 호스트 FK (사용자 탈퇴/호스트 모임 조회)
+CREATE INDEX IF NOT EXISTS idx_meetings_host_user_id
+    ON meetings (host_user_id);
+
+-- ===== meeting_participants =====
+-- (meeting_id, user_id) 유니크 제약이 모임별 조회를 담당하므로 사용자 기준 인덱스만 추가합니다.
+
+-- 참여한 모임 목록: WHERE user_id = ? AND application_status = ?
+CREATE INDEX IF NOT EXISTS idx_meeting_participants_user_status
+    ON meeting_participants (user_id, application_status);
+
+-- ===== comments =====
+
+-- 모임 댓글 목록: WHERE meeting_id = ? AND is_deleted = false ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_comments_meeting_created_at
+    ON comments (meeting_id, created_at DESC)
+    WHERE is_deleted = false;
+
+-- ===== feedbacks =====
+-- (giver_user_id, receiver_user_id, meeting_id) 유니크 제약이 보낸 피드백 조회를 담당합니다.
+
+-- 받은 피드백 목록: WHERE receiver_user_id = ?
+CREATE INDEX IF NOT EXISTS idx_feedbacks_receiver_user_id
+    ON feedbacks (receiver_user_id);
+
+-- ===== users =====
+
+-- 인증된 모든 요청의 사용자 조회: WHERE provider_id = ? (uk_provider_id는 provider가 선두 컬럼)
+CREATE INDEX IF NOT EXISTS idx_users_provider_id
+    ON users (provider_id);
+
+ANALYZE meetings;
+ANALYZE meeting_participants;
+ANALYZE comments;
+ANALYZE feedbacks;
+ANALYZE users;
@@ -0,0 +1,59 @@
+-- ============================================
+-- 모임 카드 읽기 모델 (MeetingCard)
+-- 목록/검색/주변 모임/참여 모임 조회가 조인 없이 읽는 비정규화 테이블입니다.
+-- 갱신은 MeetingCardProjector가 모임 쓰기 트랜잭션 안에서 수행합니다.
+-- 읽기 모델이 원본 쓰기를 막지 않도록 외래 키는 두지 않습니다.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS meeting_cards
+(
+    meeting_id             BIGINT PRIMARY KEY,
+    title                  VARCHAR(100)   NOT NULL,
+    description            TEXT,
+    meeting_date           TIMESTAMP(6)   NOT NULL,
+    status                 VARCHAR(255),
+    approved_count         INTEGER,
+    max_participants       INTEGER        NOT NULL,
+    thumbnail_image_url    VARCHAR(500),
+    mart_id                BIGINT         NOT NULL,
+    mart_name              VARCHAR(100)   NOT NULL,
+    mart_brand             VARCHAR(255)   NOT NULL,
+    latitude               NUMERIC(10, 8) NOT NULL,
+    longitude              NUMERIC(11, 8) NOT NULL,
+    host_user_id           BIGINT         NOT NULL,
+    host_nickname          VARCHAR(50)    NOT NULL,
+    host_profile_image_url VARCHAR(255),
+    host_trust_score       INTEGER        NOT NULL,
+    host_trust_grade       VARCHAR(255)   NOT NULL,
+    created_at             TIMESTAMP(6)   NOT NULL,
+    updated_at             TIMESTAMP(6)   NOT NULL
+);
+
+-- 전체 목록/키워드 검색 (최신순)
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_created_at
+    ON meeting_cards (created_at DESC);
+
+-- 주변 모임: WHERE mart_id IN (...) AND status = 'RECRUITING'
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_mart_id_status
+    ON meeting_cards (mart_id, status);
+
+-- 호스트 프로필 변경 시 일괄 갱신: WHERE host_user_id = ?
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_host_user_id
+    ON meeting_cards (host_user_id);
+
+-- 기존 모임으로 카드 채우기 (삭제된 모임 제외)
+INSERT INTO meeting_cards (meeting_id, title, description, meeting_date, status, approved_count, max_participants,
+                           thumbnail_image_url, mart_id, mart_name, mart_brand, latitude, longitude,
+                           host_user_id, host_nickname, host_profile_image_url, host_trust_score, host_trust_grade,
+                           created_at, updated_at)
+SELECT m.meeting_id, m.title, m.description, m.meeting_date, m.status, m.current_participants, m.max_participants,
+       m.thumbnail_image_url, ma.mart_id, ma.mart_name, ma.mart_brand, ma.latitude, ma.longitude,
+       u.user_id, u.nickname, u.profile_image_url, u.trust_score, u.trust_grade,
+       m.created_at, m.updated_at
+FROM meetings m
+         JOIN marts ma ON ma.mart_id = m.mart_id
+         JOIN users u ON u.user_id = m.host_user_id
+WHERE m.deleted_at IS NULL
+ON CONFLICT (meeting_id) DO NOTHING;
+
+ANALYZE meeting_cards;
@@ -0,0 +1,45 @@
+-- ============================================
+-- 모임 정원 불변식 (0 <= current_participants <= max_participants)
+-- 승인/탈퇴는 조건부 UPDATE로 인원을 증감하며, 이 제약이 최종 안전장치입니다.
+-- ============================================
+
+-- 기존에는 탈퇴 시 인원을 줄이지 않았으므로 승인된 참가자(호스트 포함) 수로 다시 계산합니다.
+UPDATE meetings m
+SET current_participants = approved.cnt,
+    updated_at           = NOW()
+FROM (SELECT m2.meeting_id, COUNT(mp.participant_id) AS cnt
+      FROM meetings m2
+               LEFT JOIN meeting_participants mp
+                         ON mp.meeting_id = m2.meeting_id AND mp.application_status = 'APPROVED'
+      GROUP BY m2.meeting_id) approved
+WHERE approved.meeting_id = m.meeting_id
+  AND m.current_participants IS DISTINCT FROM approved.cnt;
+
+-- 동시 승인으로 이미 정원을 넘긴 모임은 실제 승인 인원을 정원으로 인정합니다.
+UPDATE meetings
+SET max_participants = current_participants,
+    updated_at       = NOW()
+WHERE current_participants > max_participants;
+
+-- 정원이 찬 모집중 모임은 마감, 자리가 남은 마감 모임은 그대로 둡니다. (수동 마감일 수 있음)
+UPDATE meetings
+SET status     = 'FULL',
+    updated_at = NOW()
+WHERE status = 'RECRUITING'
+  AND current_participants >= max_participants;
+
+ALTER TABLE meetings
+    ADD CONSTRAINT ck_meetings_current_participants
+        CHECK (current_participants >= 0 AND current_participants <= max_participants);
+
+-- 모임 카드 읽기 모델도 같은 값으로 맞춥니다.
+UPDATE meeting_cards c
+SET approved_count   = m.current_participants,
+    max_participants = m.max_participants,
+    status           = m.status,
+    updated_at       = m.updated_at
+FROM meetings m
+WHERE m.meeting_id = c.meeting_id
+  AND (c.approved_count IS DISTINCT FROM m.current_participants
+    OR c.max_participants <> m.max_participants
+    OR c.status IS DISTINCT FROM m.status);
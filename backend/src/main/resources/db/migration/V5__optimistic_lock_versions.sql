@@ -0,0 +1,13 @@
+-- ============================================
+-- 낙관적 락 버전 컬럼 (Meeting, MeetingParticipant, User의 @Version)
+-- 기존 행은 0부터 시작합니다.
+-- ============================================
+
+ALTER TABLE meetings
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE meeting_participants
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,22 @@
+-- ============================================
+-- 멱등성 키 (Idempotency-Key) 응답 기록
+-- 같은 사용자가 같은 키로 다시 보낸 쓰기 요청에 처음 응답을 재전송합니다.
+-- 조회: WHERE provider_id = ? AND idempotency_key = ? (유니크 인덱스)
+-- 정리: DELETE ... WHERE expires_at <= ?
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    idempotency_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    provider_id         VARCHAR(255) NOT NULL,
+    idempotency_key     VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(500) NOT NULL,
+    status_code         INTEGER      NOT NULL,
+    response_body       TEXT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    expires_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_idempotency_keys_provider_key UNIQUE (provider_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
@@ -0,0 +1,15 @@
+-- ============================================
+-- 스케줄러 작업 리스 (여러 서버 중 한 곳만 작업 실행)
+-- 획득: UPDATE ... SET fencing_token = fencing_token + 1 WHERE job_name = ? AND expires_at <= ?
+--       (행이 없으면 INSERT, 기본 키 충돌 시 다른 서버가 획득한 것으로 봅니다.)
+-- 펜싱: 작업 트랜잭션 안에서 SELECT ... FOR SHARE WHERE job_name = ? AND fencing_token = ?
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS scheduler_leases
+(
+    job_name      VARCHAR(100) PRIMARY KEY,
+    owner         VARCHAR(255) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    acquired_at   TIMESTAMP(6) NOT NULL,
+    expires_at    TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,16 @@
+-- ============================================
+-- 멱등성 키 처리 중(PENDING) 선점
+-- 요청을 처리하기 전에 PENDING 행을 INSERT 하여 유니크 키 (provider_id, idempotency_key)로
+-- 서버에 관계없이 같은 키의 동시 요청을 하나만 통과시킵니다.
+-- 처리에 성공하면 COMPLETED로 바꾸고 응답을 채우며, 실패하면 행을 삭제합니다.
+-- 처리 중인 행에는 아직 응답이 없으므로 status_code를 NULL 허용으로 바꿉니다.
+-- ============================================
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN IF NOT EXISTS state VARCHAR(20) NOT NULL DEFAULT 'COMPLETED';
+
+ALTER TABLE idempotency_keys
+    ALTER COLUMN state DROP DEFAULT;
+
+ALTER TABLE idempotency_keys
+    ALTER COLUMN status_code DROP NOT NULL;
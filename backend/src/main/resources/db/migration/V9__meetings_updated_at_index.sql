@@ -0,0 +1,9 @@
+-- ============================================
+-- 모임 목록 버전(조건부 GET) 조회용 인덱스
+-- 조회: SELECT MAX(updated_at) FROM meetings (MeetingsRepository.findListVersion)
+-- 삭제도 updated_at을 갱신하므로(@SQLDelete) 삭제된 행까지 포함한 전체 인덱스로 두고,
+-- MAX는 인덱스 끝값 하나만 읽습니다.
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_meetings_updated_at
+    ON meetings (updated_at);
@@ -1,3 +1,115 @@
+-- ============================================
+-- 로컬(MariaDB) 스키마 보강
+-- 로컬은 Flyway를 사용하지 않으므로 db/migration(PostgreSQL)에서 추가한 컬럼/테이블을 여기서도 만듭니다.
+-- 매 기동마다 실행되므로 모두 IF NOT EXISTS로 작성합니다.
+-- ============================================
+
+-- 낙관적 락 버전 컬럼 (V5, Meeting/MeetingParticipant/User의 @Version)
+ALTER TABLE meetings
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE meeting_participants
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 모임 목록 변경 번호 (V11)
+CREATE TABLE IF NOT EXISTS meeting_list_versions
+(
+    list_id    BIGINT PRIMARY KEY,
+    change_seq BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+INSERT IGNORE INTO meeting_list_versions (list_id, change_seq, updated_at)
+VALUES (1, 1, NOW());
+
+-- 모임 카드 읽기 모델 (V3)
+CREATE TABLE IF NOT EXISTS meeting_cards
+(
+    meeting_id             BIGINT PRIMARY KEY,
+    title                  VARCHAR(100)   NOT NULL,
+    description            TEXT,
+    meeting_date           DATETIME(6)    NOT NULL,
+    status                 VARCHAR(255),
+    approved_count         INT,
+    max_participants       INT            NOT NULL,
+    thumbnail_image_url    VARCHAR(500),
+    mart_id                BIGINT         NOT NULL,
+    mart_name              VARCHAR(100)   NOT NULL,
+    mart_brand             VARCHAR(255)   NOT NULL,
+    latitude               DECIMAL(10, 8) NOT NULL,
+    longitude              DECIMAL(11, 8) NOT NULL,
+    host_user_id           BIGINT         NOT NULL,
+    host_nickname          VARCHAR(50)    NOT NULL,
+    host_profile_image_url VARCHAR(255),
+    host_trust_score       INT            NOT NULL,
+    host_trust_grade       VARCHAR(255)   NOT NULL,
+    created_at             DATETIME(6)    NOT NULL,
+    updated_at             DATETIME(6)    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_created_at_meeting_id
+    ON meeting_cards (created_at DESC, meeting_id DESC);
+
+DROP INDEX IF EXISTS idx_meeting_cards_created_at ON meeting_cards;
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_mart_id_status
+    ON meeting_cards (mart_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_cards_host_user_id
+    ON meeting_cards (host_user_id);
+
+-- 카드가 없는 기존 모임의 카드 채우기 (삭제된 모임 제외, 이미 있는 카드는 건너뜁니다.)
+INSERT IGNORE INTO meeting_cards (meeting_id, title, description, meeting_date, status, approved_count, max_participants,
+                                  thumbnail_image_url, mart_id, mart_name, mart_brand, latitude, longitude,
+                                  host_user_id, host_nickname, host_profile_image_url, host_trust_score, host_trust_grade,
+                                  created_at, updated_at)
+SELECT m.meeting_id, m.title, m.description, m.meeting_date, m.status, m.current_participants, m.max_participants,
+       m.thumbnail_image_url, ma.mart_id, ma.mart_name, ma.mart_brand, ma.latitude, ma.longitude,
+       u.user_id, u.nickname, u.profile_image_url, u.trust_score, u.trust_grade,
+       m.created_at, m.updated_at
+FROM meetings m
+         JOIN marts ma ON ma.mart_id = m.mart_id
+         JOIN users u ON u.user_id = m.host_user_id
+WHERE m.deleted_at IS NULL;
+
+-- 멱등성 키 응답 기록과 처리 중(PENDING) 선점 (V6, V8)
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    idempotency_id      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    provider_id         VARCHAR(255) NOT NULL,
+    idempotency_key     VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(500) NOT NULL,
+    state               VARCHAR(20)  NOT NULL,
+    status_code         INT,
+    response_body       TEXT,
+    created_at          DATETIME(6)  NOT NULL,
+    expires_at          DATETIME(6)  NOT NULL,
+    CONSTRAINT uk_idempotency_keys_provider_key UNIQUE (provider_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
+
+-- V6로 만든 로컬 테이블에 처리 중 상태 추가 (V8)
+ALTER TABLE idempotency_keys
+    ADD COLUMN IF NOT EXISTS state VARCHAR(20) NOT NULL DEFAULT 'COMPLETED';
+
+ALTER TABLE idempotency_keys
+    MODIFY status_code INT NULL;
+
+-- 스케줄러 작업 리스 (V7)
+CREATE TABLE IF NOT EXISTS scheduler_leases
+(
+    job_name      VARCHAR(100) PRIMARY KEY,
+    owner         VARCHAR(255) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    acquired_at   DATETIME(6)  NOT NULL,
+    expires_at    DATETIME(6)  NOT NULL
+);
+
 -- 영구적으로 유지될 마트 초기 데이터 (서울 지역 전체)
 INSERT IGNORE INTO marts (mart_name, mart_brand, address, latitude, longitude, created_at, updated_at) VALUES
 -- 코스트코 (COSTCO) - 4곳
@@ -0,0 +1,211 @@
+package com.nathing.banthing.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.dto.response.MeetingDetailResponse;
+import com.nathing.banthing.exception.GlobalExceptionHandler;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.*;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.card.MeetingCardProjector;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.LikeMeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모임 상세 일괄 조회 API(/api/meetings/batch)를 검증합니다.
+ *
+ * - 결과는 요청한 ID 순서를 따르고, 중복 ID는 한 번만 담습니다.
+ * - 존재하지 않거나 삭제된 모임은 결과에서 제외합니다.
+ * - 중복을 제외한 ID가 50개를 넘으면 INVALID_INPUT으로 응답합니다.
+ * - 모임 수와 참여자 수에 관계없이 SQL 두 번(카드 IN, 승인된 참여자 IN)으로 조회합니다.
+ *
+ * 카드는 JDBC로 넣은 모임에서 {@link MeetingCardProjector#rebuildAll()}로 만듭니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({FindMeetingService.class, LikeMeetingSearchEngine.class, MartSpatialIndex.class,
+        MeetingSearchCache.class, MeetingSuggestIndex.class, MeetingCardProjector.class, CurrentUserResolver.class,
+        SimpleMeterRegistry.class})
+class MeetingBatchTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FindMeetingService findMeetingService;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    @Autowired
+    private MeetingCardProjector meetingCardProjector;
+
+    private MockMvc mockMvc;
+    private TestFixtures fixtures;
+    private Long hostUserId;
+    private Long martId;
+
+    @BeforeEach
+    void setUp() {
+        MeetingController controller = new MeetingController(mock(CreateMeetingService.class), findMeetingService,
+                meetingsRepository, mock(UpdateMeetingService.class), mock(DeleteMeetingService.class),
+                mock(JoinMeetingService.class), mock(ManageMeetingService.class), mock(MeetingVersionService.class),
+                new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        fixtures = new TestFixtures(jdbcTemplate);
+        hostUserId = fixtures.insertUser("batch-host-" + UUID.randomUUID());
+        martId = fixtures.insertMart();
+    }
+
+    @Test
+    @DisplayName("요청한 ID 순서대로 반환하고 중복 ID는 한 번만 담는다")
+    void keepsRequestOrderAndRemovesDuplicates() throws Exception {
+        Long first = createMeetingWithParticipants("first", 0);
+        Long second = createMeetingWithParticipants("second", 2);
+        Long third = createMeetingWithParticipants("third", 1);
+        meetingCardProjector.rebuildAll();
+
+        mockMvc.perform(get("/api/meetings/batch").param("ids", join(third, first, third, second, first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].meetingId").value(third))
+                .andExpect(jsonPath("$.data[1].meetingId").value(first))
+                .andExpect(jsonPath("$.data[2].meetingId").value(second))
+                .andExpect(jsonPath("$.data[2].participants.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 삭제된 모임은 결과에서 제외한다")
+    void skipsMissingAndDeletedMeetings() throws Exception {
+        Long kept = createMeetingWithParticipants("kept", 1);
+        Long deletedBeforeRebuild = createMeetingWithParticipants("deleted", 0);
+        Long deletedAfterRebuild = createMeetingWithParticipants("deleted-later", 0);
+        softDelete(deletedBeforeRebuild);
+        meetingCardProjector.rebuildAll();
+        // 카드가 만들어진 뒤 삭제된 모임은 프로젝터가 카드를 지웁니다.
+        softDelete(deletedAfterRebuild);
+        meetingCardProjector.project(deletedAfterRebuild);
+        Long missing = kept + 1_000;
+
+        mockMvc.perform(get("/api/meetings/batch")
+                        .param("ids", join(missing, deletedBeforeRebuild, kept, deletedAfterRebuild)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].meetingId").value(kept));
+    }
+
+    @Test
+    @DisplayName("중복을 제외한 ID가 50개를 넘으면 INVALID_INPUT으로 응답한다")
+    void rejectsMoreThanFiftyDistinctIds() throws Exception {
+        // 중복을 포함해 50개를 넘더라도 중복을 제외하면 50개이므로 허용합니다.
+        List<Long> fiftyWithDuplicates = new ArrayList<>(LongStream.rangeClosed(1, 50).boxed().toList());
+        fiftyWithDuplicates.addAll(List.of(1L, 2L, 3L));
+        mockMvc.perform(get("/api/meetings/batch").param("ids", join(fiftyWithDuplicates.toArray(Long[]::new))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+
+        mockMvc.perform(get("/api/meetings/batch")
+                        .param("ids", join(LongStream.rangeClosed(1, 51).boxed().toArray(Long[]::new))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_INPUT"));
+    }
+
+    @Test
+    @DisplayName("모임 수와 참여자 수에 관계없이 SQL 두 번으로 조회한다")
+    void statementCountIsFixed() {
+        List<Long> small = List.of(createMeetingWithParticipants("small", 1));
+        List<Long> large = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            large.add(createMeetingWithParticipants("large-" + i, 5));
+        }
+        meetingCardProjector.rebuildAll();
+
+        long smallCount = countStatements(() -> findMeetingService.findMeetingsByIds(small));
+        long largeCount = countStatements(() -> {
+            List<MeetingDetailResponse> meetings = findMeetingService.findMeetingsByIds(large);
+            assertThat(meetings).hasSize(10)
+                    .allSatisfy(meeting -> assertThat(meeting.getParticipants()).hasSize(6));
+            return meetings;
+        });
+
+        assertThat(smallCount).isEqualTo(2);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤 작업 한 번에 준비된 SQL 수를 반환합니다.
+     */
+    private long countStatements(Supplier<?> action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.get();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 호스트와 승인된 참여자 participantCount명이 있는 모임을 생성합니다.
+     */
+    private Long createMeetingWithParticipants(String prefix, int participantCount) {
+        Long meetingId = fixtures.insertMeeting(hostUserId, martId, "RECRUITING", "1 day",
+                participantCount + 1, participantCount + 1);
+        for (int i = 1; i <= participantCount; i++) {
+            Long userId = fixtures.insertUser(prefix + "-" + UUID.randomUUID());
+            fixtures.insertParticipant(meetingId, userId, "APPROVED");
+        }
+        return meetingId;
+    }
+
+    private void softDelete(Long meetingId) {
+        jdbcTemplate.update("UPDATE meetings SET deleted_at = NOW() WHERE meeting_id = ?", meetingId);
+    }
+
+    private String join(Long... meetingIds) {
+        return List.of(meetingIds).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,250 @@
+package com.nathing.banthing.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.*;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모임 목록/상세 조회가 변경이 없으면 ETag로 304를 응답하고,
+ * 모임 추가/수정/삭제와 참여 신청 뒤에는 새 ETag로 200을 응답하는지 검증합니다.
+ *
+ * 검증자는 실제 DB(목록 변경 번호, 상세 수정 시각)로 계산하고, 목록/상세 조회 서비스는 Mock으로 두어 304일 때 호출되지 않는지 확인합니다.
+ * 목록 변경 번호는 쓰기 트랜잭션이 커밋될 때 올라가므로, 쓰기는 서비스처럼 이벤트를 발행하고 각자 커밋합니다.
+ * 그래서 테스트 트랜잭션을 사용하지 않고 넣은 데이터를 직접 지우며, 상세 수정 시각이 겹치지 않도록 준비한 데이터의 수정 시각을 한 시간 앞당겨 둡니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MeetingVersionService.class)
+class MeetingConditionalGetTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    @Autowired
+    private MeetingVersionService meetingVersionService;
+
+    private final FindMeetingService findMeetingService = mock(FindMeetingService.class);
+
+    private MockMvc mockMvc;
+    private TestFixtures fixtures;
+    private Long martId;
+    private Long hostId;
+    private Long meetingId;
+    private Long otherMeetingId;
+
+    @BeforeEach
+    void setUp() {
+        MeetingController controller = new MeetingController(mock(CreateMeetingService.class), findMeetingService,
+                meetingsRepository, mock(UpdateMeetingService.class), mock(DeleteMeetingService.class),
+                mock(JoinMeetingService.class), mock(ManageMeetingService.class), meetingVersionService,
+                new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(findMeetingService.searchMeetings(any())).thenReturn(List.of());
+
+        fixtures = new TestFixtures(jdbcTemplate);
+        martId = fixtures.insertMart();
+        hostId = fixtures.insertUser("host-" + UUID.randomUUID());
+        meetingId = fixtures.insertMeeting(hostId, martId, "RECRUITING", "1 day", 5, 1);
+        otherMeetingId = fixtures.insertMeeting(hostId, martId, "RECRUITING", "2 days", 5, 1);
+        jdbcTemplate.update("UPDATE meetings SET updated_at = updated_at - INTERVAL '1 hour'");
+        jdbcTemplate.update("UPDATE meeting_participants SET updated_at = updated_at - INTERVAL '1 hour'");
+        jdbcTemplate.update("UPDATE users SET updated_at = updated_at - INTERVAL '1 hour'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meeting_participants");
+        jdbcTemplate.update("DELETE FROM meetings");
+        jdbcTemplate.update("DELETE FROM marts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM meeting_list_versions");
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 ETag로 304를 응답하고 목록을 조회하지 않는다")
+    void listReturnsNotModifiedWhenUnchanged() throws Exception {
+        String etag = listEtag(null);
+
+        mockMvc.perform(get("/api/meetings/search").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(findMeetingService, times(1)).searchMeetings(any());
+    }
+
+    @Test
+    @DisplayName("검색어가 다르면 ETag도 다르다")
+    void listEtagVariesByKeyword() throws Exception {
+        assertThat(etag("/api/meetings/search", "코스트코", null)).isNotEqualTo(listEtag(null));
+    }
+
+    @Test
+    @DisplayName("모임을 추가/수정하면 목록 ETag가 바뀌어 200을 응답한다")
+    void listEtagChangesOnInsertAndUpdate() throws Exception {
+        String initial = listEtag(null);
+
+        commit(() -> {
+            Long created = fixtures.insertMeeting(hostId, martId, "RECRUITING", "3 days", 5, 1);
+            eventPublisher.publishEvent(MeetingChangedEvent.created(created));
+        });
+        String afterInsert = listEtag(initial);
+        assertThat(afterInsert).isNotEqualTo(initial);
+
+        commit(() -> {
+            Meeting meeting = meetingsRepository.findById(meetingId).orElseThrow();
+            meeting.setTitle("제목 수정");
+            eventPublisher.publishEvent(MeetingChangedEvent.updated(meetingId));
+        });
+        assertThat(listEtag(afterInsert)).isNotEqualTo(afterInsert);
+    }
+
+    @Test
+    @DisplayName("모임을 삭제(soft delete)하면 목록 ETag가 바뀌어 200을 응답한다")
+    void listEtagChangesOnSoftDelete() throws Exception {
+        String initial = listEtag(null);
+
+        commit(() -> {
+            meetingsRepository.delete(meetingsRepository.findById(meetingId).orElseThrow());
+            eventPublisher.publishEvent(MeetingChangedEvent.deleted(meetingId));
+        });
+
+        assertThat(listEtag(initial)).isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("이전 시각을 기록한 쓰기(스케줄러 청크)가 더 나중 시각의 쓰기보다 늦게 커밋되어도 목록 ETag가 바뀐다")
+    void listEtagChangesWhenOlderStampedWriteCommitsLast() throws Exception {
+        LocalDateTime sweepStartedAt = LocalDateTime.now().minusMinutes(5);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 스케줄러 청크: 스윕 시작 시각으로 상태를 바꾸고 커밋 전에 멈춥니다.
+            Future<?> chunk = executor.submit(() -> commit(() -> {
+                jdbcTemplate.update("UPDATE meetings SET status = 'CANCELLED', updated_at = ? WHERE meeting_id = ?",
+                        sweepStartedAt, meetingId);
+                eventPublisher.publishEvent(new MeetingsStatusChangedEvent(List.of(meetingId), Meeting.MeetingStatus.CANCELLED));
+                written.countDown();
+                await(resume);
+            }));
+            assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 그 사이 사용자 수정이 지금 시각으로 먼저 커밋됩니다.
+            commit(() -> {
+                jdbcTemplate.update("UPDATE meetings SET title = '제목 수정', updated_at = NOW() WHERE meeting_id = ?",
+                        otherMeetingId);
+                eventPublisher.publishEvent(MeetingChangedEvent.updated(otherMeetingId));
+            });
+            String afterUserEdit = listEtag(null);
+
+            resume.countDown();
+            chunk.get(10, TimeUnit.SECONDS);
+
+            assertThat(listEtag(afterUserEdit)).isNotEqualTo(afterUserEdit);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("참여 신청이 생기면 상세 ETag가 바뀌고, 변경이 없으면 304를 응답한다")
+    void detailEtagChangesOnParticipantChange() throws Exception {
+        String initial = detailEtag(null);
+        mockMvc.perform(get("/api/meetings/search/{meetingId}", meetingId).header(HttpHeaders.IF_NONE_MATCH, initial))
+                .andExpect(status().isNotModified());
+
+        Long applicantId = fixtures.insertUser("applicant-" + UUID.randomUUID());
+        fixtures.insertParticipant(meetingId, applicantId, "PENDING");
+
+        assertThat(detailEtag(initial)).isNotEqualTo(initial);
+        verify(findMeetingService, times(2)).findMeetingById(meetingId);
+    }
+
+    /**
+     * 조회하여 200 응답의 ETag를 반환합니다. (previous가 있으면 If-None-Match로 보냅니다.)
+     */
+    private String listEtag(String previous) throws Exception {
+        return etag("/api/meetings/search", null, previous);
+    }
+
+    private String detailEtag(String previous) throws Exception {
+        return etag("/api/meetings/search/" + meetingId, null, previous);
+    }
+
+    /**
+     * 서비스처럼 쓰기와 이벤트 발행을 한 트랜잭션으로 실행하고 커밋합니다.
+     */
+    private void commit(Runnable write) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> write.run());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String etag(String uri, String keyword, String previous) throws Exception {
+        var request = get(uri);
+        if (keyword != null) {
+            request.param("keyword", keyword);
+        }
+        if (previous != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, previous);
+        }
+        String etag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+}
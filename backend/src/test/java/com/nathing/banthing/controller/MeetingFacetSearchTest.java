@@ -0,0 +1,136 @@
+package com.nathing.banthing.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.exception.GlobalExceptionHandler;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.*;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.card.MeetingCardProjector;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.LikeMeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모임 패싯 검색 API가 결과 목록과 같은 조건으로 패싯 건수를 세는지 검증합니다.
+ *
+ * - 상태를 지정하지 않으면 결과와 패싯 모두 취소된 모임을 제외합니다.
+ * - 각 패싯은 자기 자신을 제외한 나머지 필터를 적용한 건수입니다.
+ *
+ * 준비 데이터 (마트 4곳):
+ * 양평(COSTCO) 모집중 1, 취소 1 / 양재(COSTCO) 마감 1 / 월계(TRADERS) 모집중 1 / 금천(LOTTE_MART) 취소 1
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Import({FindMeetingService.class, LikeMeetingSearchEngine.class, MartSpatialIndex.class,
+        MeetingSearchCache.class, MeetingSuggestIndex.class, MeetingCardProjector.class, CurrentUserResolver.class,
+        SimpleMeterRegistry.class})
+class MeetingFacetSearchTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FindMeetingService findMeetingService;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MeetingController controller = new MeetingController(mock(CreateMeetingService.class), findMeetingService,
+                meetingsRepository, mock(UpdateMeetingService.class), mock(DeleteMeetingService.class),
+                mock(JoinMeetingService.class), mock(ManageMeetingService.class), mock(MeetingVersionService.class),
+                new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        Long hostUserId = fixtures.insertUser("facet-host-" + UUID.randomUUID());
+        List<Long> martIds = fixtures.insertMarts();
+        fixtures.insertMeeting(hostUserId, martIds.get(0), "RECRUITING", "1 day", 5, 1);
+        fixtures.insertMeeting(hostUserId, martIds.get(0), "CANCELLED", "1 day", 5, 1);
+        fixtures.insertMeeting(hostUserId, martIds.get(1), "FULL", "2 days", 1, 1);
+        fixtures.insertMeeting(hostUserId, martIds.get(2), "RECRUITING", "3 days", 5, 1);
+        fixtures.insertMeeting(hostUserId, martIds.get(3), "CANCELLED", "4 days", 5, 1);
+    }
+
+    @Test
+    @DisplayName("상태를 지정하지 않으면 결과와 패싯 건수 모두 취소된 모임을 제외한다")
+    void excludesCancelledMeetingsByDefault() throws Exception {
+        mockMvc.perform(get("/api/meetings/search/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(3))
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(jsonPath("$.data.statusCounts.RECRUITING").value(2))
+                .andExpect(jsonPath("$.data.statusCounts.FULL").value(1))
+                .andExpect(jsonPath("$.data.statusCounts.CANCELLED").doesNotExist())
+                .andExpect(jsonPath("$.data.brandCounts.COSTCO").value(2))
+                .andExpect(jsonPath("$.data.brandCounts.TRADERS").value(1))
+                .andExpect(jsonPath("$.data.brandCounts.LOTTE_MART").doesNotExist())
+                .andExpect(jsonPath("$.data.martCounts.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("상태를 지정하면 상태 패싯은 다른 상태의 건수도 보여주고, 나머지 패싯은 지정한 상태로 센다")
+    void statusFacetExcludesItsOwnFilter() throws Exception {
+        mockMvc.perform(get("/api/meetings/search/facets").param("statuses", "CANCELLED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.statusCounts.RECRUITING").value(2))
+                .andExpect(jsonPath("$.data.statusCounts.FULL").value(1))
+                .andExpect(jsonPath("$.data.statusCounts.CANCELLED").value(2))
+                .andExpect(jsonPath("$.data.brandCounts.COSTCO").value(1))
+                .andExpect(jsonPath("$.data.brandCounts.LOTTE_MART").value(1))
+                .andExpect(jsonPath("$.data.brandCounts.TRADERS").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("브랜드를 지정하면 브랜드 패싯은 다른 브랜드 건수도 보여주고, 결과와 상태 패싯은 그 브랜드만 센다")
+    void brandFacetExcludesItsOwnFilter() throws Exception {
+        mockMvc.perform(get("/api/meetings/search/facets").param("brands", "COSTCO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.brandCounts.COSTCO").value(2))
+                .andExpect(jsonPath("$.data.brandCounts.TRADERS").value(1))
+                .andExpect(jsonPath("$.data.statusCounts.RECRUITING").value(1))
+                .andExpect(jsonPath("$.data.statusCounts.FULL").value(1))
+                .andExpect(jsonPath("$.data.statusCounts.CANCELLED").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("모임 일시 범위가 뒤집혀 있으면 INVALID_INPUT으로 응답한다")
+    void rejectsInvertedDateRange() throws Exception {
+        mockMvc.perform(get("/api/meetings/search/facets")
+                        .param("from", "2026-10-20T00:00:00")
+                        .param("to", "2026-10-10T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_INPUT"));
+    }
+}
@@ -0,0 +1,168 @@
+package com.nathing.banthing.repository;
+
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션(db/migration)으로 만든 스키마에서 자주 실행되는 조회 쿼리의 실행 계획을 검증합니다.
+ *
+ * - 스키마는 Hibernate가 아니라 마이그레이션으로 생성하고, ddl-auto=validate로 엔티티와 일치하는지 함께 확인합니다.
+ * - 테스트 데이터가 적으면 플래너가 인덱스가 있어도 순차 스캔을 고르므로 enable_seqscan을 끄고 EXPLAIN 합니다.
+ *   이 상태에서도 Seq Scan이 나온다면 쿼리에 사용할 수 있는 인덱스가 없다는 뜻입니다.
+ * - 쿼리는 각 리포지토리 메서드가 생성하는 SQL과 같은 조건/정렬로 작성합니다. (@Where 조건 포함)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaIndexPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션 안에서만 적용됩니다.
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("모임 피드 첫 페이지/다음 페이지는 모임 카드의 (생성일, 모임 ID) 인덱스를 사용한다")
+    void meetingFeedUsesIndex() {
+        // MeetingCardsRepository.findFeedFirstPage(CANCELLED, 21)
+        assertNoSeqScan("meeting_cards", """
+            SELECT * FROM meeting_cards WHERE status <> 'CANCELLED'
+            ORDER BY created_at DESC, meeting_id DESC LIMIT 21
+        """);
+        // findFeedAfterCursor(CANCELLED, createdAt, meetingId, 21)
+        assertNoSeqScan("meeting_cards", """
+            SELECT * FROM meeting_cards WHERE status <> 'CANCELLED'
+              AND (created_at < TIMESTAMP '2025-10-17 12:00:00'
+                   OR (created_at = TIMESTAMP '2025-10-17 12:00:00' AND meeting_id < 100))
+            ORDER BY created_at DESC, meeting_id DESC LIMIT 21
+        """);
+    }
+
+    @Test
+    @DisplayName("스케줄러의 상태 + 모임 일시 조건은 인덱스를 사용한다")
+    void schedulerQueriesUseIndex() {
+        // findIdsToCancel / findIdsToStart([RECRUITING, FULL], now, afterId, chunk)의 바깥 조건
+        assertNoSeqScan("meetings", """
+            SELECT * FROM meetings
+            WHERE status IN ('RECRUITING', 'FULL') AND meeting_date < TIMESTAMP '2025-10-17 12:00:00'
+              AND deleted_at IS NULL
+        """);
+        // findIdsByStatusInAndMeetingDateBefore([ONGOING], now - 24h, afterId, chunk)
+        assertNoSeqScan("meetings", """
+            SELECT * FROM meetings
+            WHERE status = 'ONGOING' AND meeting_date < TIMESTAMP '2025-10-16 12:00:00'
+              AND deleted_at IS NULL
+        """);
+    }
+
+    @Test
+    @DisplayName("모집중 모임 조회는 인덱스를 사용한다")
+    void recruitingMeetingQueriesUseIndex() {
+        // findAllWithMartByStatus(RECRUITING), findByStatusAndDeletedAtIsNull(RECRUITING)
+        assertNoSeqScan("meetings", """
+            SELECT m.* FROM meetings m JOIN marts ma ON ma.mart_id = m.mart_id
+            WHERE m.status = 'RECRUITING' AND m.deleted_at IS NULL
+        """);
+    }
+
+    @Test
+    @DisplayName("참가자 조회(사용자별/모임별)는 인덱스를 사용한다")
+    void participantQueriesUseIndex() {
+        // MeetingCardsRepository.findProfileRowsByUserIdAndStatus(userId, APPROVED)
+        String profileRows = """
+            SELECT c.meeting_id FROM meeting_participants mp JOIN meeting_cards c ON c.meeting_id = mp.meeting_id
+            WHERE mp.user_id = 1 AND mp.application_status = 'APPROVED'
+            ORDER BY c.created_at DESC LIMIT 10
+        """;
+        assertNoSeqScan("meeting_participants", profileRows);
+        assertNoSeqScan("meeting_cards", profileRows);
+        // findSummariesByMeetingIdInAndStatus(meetingIds, APPROVED)
+        assertNoSeqScan("meeting_participants", """
+            SELECT mp.meeting_id, u.nickname FROM meeting_participants mp JOIN users u ON u.user_id = mp.user_id
+            WHERE mp.meeting_id IN (1, 2, 3) AND mp.application_status = 'APPROVED'
+            ORDER BY mp.participant_id
+        """);
+        // existsByMeetingAndUserAndApplicationStatus
+        assertNoSeqScan("meeting_participants", """
+            SELECT 1 FROM meeting_participants
+            WHERE meeting_id = 1 AND user_id = 1 AND application_status = 'APPROVED' LIMIT 1
+        """);
+    }
+
+    @Test
+    @DisplayName("모임 카드 목록/주변 모임/호스트 갱신은 카드 테이블의 인덱스를 사용한다")
+    void meetingCardQueriesUseIndex() {
+        // MeetingCardsRepository.findAllSimpleResponses(CANCELLED)
+        assertNoSeqScan("meeting_cards", """
+            SELECT * FROM meeting_cards WHERE status <> 'CANCELLED' ORDER BY created_at DESC LIMIT 100
+        """);
+        // findByMartIdInAndStatus(martIds, RECRUITING)
+        assertNoSeqScan("meeting_cards", """
+            SELECT * FROM meeting_cards WHERE mart_id IN (1, 2, 3) AND status = 'RECRUITING'
+        """);
+        // updateHost(hostUserId, ...)
+        assertNoSeqScan("meeting_cards", "SELECT * FROM meeting_cards WHERE host_user_id = 1");
+    }
+
+    @Test
+    @DisplayName("pg_trgm 키워드 검색은 모임/카드의 제목/설명/마트명 GIN 인덱스를 사용한다")
+    void trigramSearchUsesGinIndexes() {
+        // MeetingsRepository.searchByTrigram의 각 ILIKE 조건
+        assertNoSeqScan("meetings", "SELECT * FROM meetings WHERE deleted_at IS NULL AND title ILIKE '%견과류 소분%'");
+        assertNoSeqScan("meetings", "SELECT * FROM meetings WHERE deleted_at IS NULL AND description ILIKE '%견과류 소분%'");
+        assertNoSeqScan("marts", "SELECT * FROM marts WHERE mart_name ILIKE '%코스트코%'");
+        // MeetingCardsRepository.searchSimpleByTrigram의 각 ILIKE 조건
+        assertNoSeqScan("meeting_cards", "SELECT * FROM meeting_cards WHERE title ILIKE '%견과류 소분%'");
+        assertNoSeqScan("meeting_cards", "SELECT * FROM meeting_cards WHERE description ILIKE '%견과류 소분%'");
+        assertNoSeqScan("meeting_cards", "SELECT * FROM meeting_cards WHERE mart_name ILIKE '%코스트코%'");
+    }
+
+    @Test
+    @DisplayName("모임 댓글 목록은 (모임, 작성일) 부분 인덱스를 사용한다")
+    void commentQueryUsesIndex() {
+        // findByMeetingMeetingIdOrderByCreatedAtDesc
+        assertNoSeqScan("comments", """
+            SELECT * FROM comments
+            WHERE meeting_id = 1 AND is_deleted = false
+            ORDER BY created_at DESC
+        """);
+    }
+
+    @Test
+    @DisplayName("받은/보낸 피드백 목록은 인덱스를 사용한다")
+    void feedbackQueriesUseIndex() {
+        assertNoSeqScan("feedbacks", "SELECT * FROM feedbacks WHERE receiver_user_id = 1");
+        assertNoSeqScan("feedbacks", "SELECT * FROM feedbacks WHERE giver_user_id = 1");
+    }
+
+    @Test
+    @DisplayName("providerId로 사용자를 찾는 조회는 인덱스를 사용한다")
+    void userByProviderIdUsesIndex() {
+        assertNoSeqScan("users", "SELECT * FROM users WHERE provider_id = 'kakao-1'");
+    }
+
+    private void assertNoSeqScan(String table, String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        assertThat(plan)
+                .as("실행 계획:%n%s", String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> line.contains("Seq Scan on " + table));
+    }
+}
@@ -0,0 +1,305 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.dto.request.ParticipantDecisionRequest;
+import com.nathing.banthing.dto.response.ParticipantDecisionResponse;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.capacity.MeetingCapacity;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 스레드에서 참가 승인/탈퇴를 동시에 실행해도 모임 정원 불변식이 지켜지는지 검증합니다.
+ *
+ * - 현재 인원 = 승인된 참가자 수 (호스트 포함)
+ * - 0 <= 현재 인원 <= 정원
+ * - 정원이 찼으면 FULL, 아니면 RECRUITING
+ *
+ * 각 스레드가 자신의 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 사용하지 않고, 데이터는 테스트마다 정리합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ManageMeetingService.class, MeetingCapacity.class, CurrentUserResolver.class, SimpleMeterRegistry.class})
+class MeetingCapacityConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ManageMeetingService manageMeetingService;
+
+    private TestFixtures fixtures;
+    private String hostProviderId;
+    private Long hostUserId;
+    private Long martId;
+
+    @BeforeEach
+    void setUp() {
+        // JDBC로 넣은 사용자는 Hibernate 쿼리 캐시가 알지 못하므로 테스트마다 다른 providerId를 사용합니다.
+        fixtures = new TestFixtures(jdbcTemplate);
+        hostProviderId = "capacity-host-" + UUID.randomUUID();
+        hostUserId = fixtures.insertUser(hostProviderId);
+        martId = fixtures.insertMart();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meeting_participants");
+        jdbcTemplate.update("DELETE FROM meetings");
+        jdbcTemplate.update("DELETE FROM marts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("남은 자리보다 많은 신청을 동시에 승인해도 정원을 넘지 않는다")
+    void concurrentApprovalsNeverOverbook() throws InterruptedException {
+        Long meetingId = insertMeeting(5);
+        List<Long> applicants = insertParticipants(meetingId, "approve", 30, "PENDING");
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(applicants.stream()
+                .<Runnable>map(participantId -> () -> {
+                    manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId);
+                    succeeded.incrementAndGet();
+                })
+                .toList());
+
+        assertThat(succeeded.get()).isEqualTo(4);
+        assertInvariants(meetingId);
+        assertThat(currentParticipants(meetingId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 신청을 동시에 여러 번 승인해도 인원은 한 번만 늘어난다")
+    void duplicateApprovalsCountOnce() throws InterruptedException {
+        Long meetingId = insertMeeting(5);
+        Long participantId = insertParticipants(meetingId, "double", 1, "PENDING").get(0);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId));
+        }
+        runConcurrently(tasks);
+
+        assertInvariants(meetingId);
+        assertThat(currentParticipants(meetingId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("승인과 탈퇴가 섞여 동시에 실행되어도 인원/상태 불변식이 유지된다")
+    void mixedApproveAndLeaveKeepInvariants() throws InterruptedException {
+        for (int round = 0; round < 5; round++) {
+            Long meetingId = insertMeeting(5);
+            // 호스트 + 승인된 멤버 4명으로 정원이 찬 상태에서 시작
+            insertParticipants(meetingId, "member" + round, 4, "APPROVED");
+            jdbcTemplate.update("UPDATE meetings SET current_participants = 5, status = 'FULL' WHERE meeting_id = ?", meetingId);
+            List<Long> applicants = insertParticipants(meetingId, "applicant" + round, 12, "PENDING");
+
+            List<Runnable> tasks = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                String providerId = "member" + round + "-" + i;
+                tasks.add(() -> manageMeetingService.leaveMeeting(meetingId, providerId));
+            }
+            for (int i = 1; i <= 3; i++) {
+                String providerId = "applicant" + round + "-" + i;
+                tasks.add(() -> manageMeetingService.leaveMeeting(meetingId, providerId));
+            }
+            for (Long participantId : applicants) {
+                tasks.add(() -> manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId));
+            }
+            runConcurrently(tasks);
+
+            assertInvariants(meetingId);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 승인은 남은 자리만큼만 승인하고 나머지는 신청별 실패로 응답한다")
+    void bulkDecisionsRespectCapacity() {
+        Long meetingId = insertMeeting(4);
+        List<Long> applicants = insertParticipants(meetingId, "bulk", 5, "PENDING");
+
+        List<ParticipantDecisionRequest.Item> items = new ArrayList<>();
+        items.add(new ParticipantDecisionRequest.Item(applicants.get(0), ParticipantDecisionRequest.Decision.REJECT));
+        for (Long participantId : applicants.subList(1, 5)) {
+            items.add(new ParticipantDecisionRequest.Item(participantId, ParticipantDecisionRequest.Decision.APPROVE));
+        }
+        items.add(new ParticipantDecisionRequest.Item(-1L, ParticipantDecisionRequest.Decision.APPROVE));
+
+        ParticipantDecisionResponse response = manageMeetingService.decideParticipants(
+                meetingId, new ParticipantDecisionRequest(items), hostProviderId);
+
+        assertThat(response.getApprovedCount()).isEqualTo(3);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+        assertThat(response.getStatus()).isEqualTo("FULL");
+        assertThat(response.getResults())
+                .extracting(ParticipantDecisionResponse.Result::getError)
+                .containsExactly(null, null, null, null,
+                        ErrorCode.MEETING_IS_FULL.getCode(), ErrorCode.PARTICIPANT_NOT_FOUND.getCode());
+        assertInvariants(meetingId);
+    }
+
+    @Test
+    @DisplayName("일괄 승인과 단건 승인/탈퇴가 동시에 실행되어도 정원을 넘지 않는다")
+    void concurrentBulkAndSingleApprovalsNeverOverbook() throws InterruptedException {
+        Long meetingId = insertMeeting(6);
+        List<Long> applicants = insertParticipants(meetingId, "mixed-bulk", 24, "PENDING");
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int batch = 0; batch < 3; batch++) {
+            List<ParticipantDecisionRequest.Item> items = applicants.subList(batch * 6, batch * 6 + 6).stream()
+                    .map(id -> new ParticipantDecisionRequest.Item(id, ParticipantDecisionRequest.Decision.APPROVE))
+                    .toList();
+            tasks.add(() -> manageMeetingService.decideParticipants(
+                    meetingId, new ParticipantDecisionRequest(items), hostProviderId));
+        }
+        for (Long participantId : applicants.subList(18, 24)) {
+            tasks.add(() -> manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId));
+        }
+        tasks.add(() -> manageMeetingService.leaveMeeting(meetingId, "mixed-bulk-1"));
+        runConcurrently(tasks);
+
+        assertInvariants(meetingId);
+    }
+
+    @Test
+    @DisplayName("거절은 대기 중인 이 모임의 신청에만 적용되고, 승인된 참가자를 거절해 인원을 어긋나게 하지 않는다")
+    void rejectOnlyAppliesToPendingApplications() {
+        Long meetingId = insertMeeting(5);
+        Long pendingId = insertParticipants(meetingId, "reject-pending", 1, "PENDING").get(0);
+        Long approvedId = insertParticipants(meetingId, "reject-approved", 1, "APPROVED").get(0);
+        jdbcTemplate.update("UPDATE meetings SET current_participants = 2 WHERE meeting_id = ?", meetingId);
+        Long otherMeetingId = insertMeeting(5);
+        Long otherPendingId = insertParticipants(otherMeetingId, "reject-other", 1, "PENDING").get(0);
+
+        manageMeetingService.rejectParticipant(meetingId, pendingId, hostProviderId);
+
+        assertThatThrownBy(() -> manageMeetingService.rejectParticipant(meetingId, approvedId, hostProviderId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PARTICIPANT_APPLICATION_STATUS_INVALID);
+        assertThatThrownBy(() -> manageMeetingService.rejectParticipant(meetingId, otherPendingId, hostProviderId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PARTICIPANT_NOT_FOUND);
+
+        assertThat(applicationStatus(pendingId)).isEqualTo("REJECTED");
+        assertThat(applicationStatus(approvedId)).isEqualTo("APPROVED");
+        assertThat(applicationStatus(otherPendingId)).isEqualTo("PENDING");
+        assertInvariants(meetingId);
+    }
+
+    @Test
+    @DisplayName("같은 신청을 동시에 승인/거절해도 한쪽만 적용되어 인원 불변식이 유지된다")
+    void concurrentApproveAndRejectKeepInvariants() throws InterruptedException {
+        Long meetingId = insertMeeting(10);
+        List<Long> applicants = insertParticipants(meetingId, "approve-reject", 8, "PENDING");
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (Long participantId : applicants) {
+            tasks.add(() -> manageMeetingService.approveParticipant(meetingId, participantId, hostProviderId));
+            tasks.add(() -> manageMeetingService.rejectParticipant(meetingId, participantId, hostProviderId));
+        }
+        runConcurrently(tasks);
+
+        assertInvariants(meetingId);
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ? AND application_status = 'PENDING'",
+                Integer.class, meetingId);
+        assertThat(pending).isZero();
+    }
+
+    private String applicationStatus(Long participantId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT application_status FROM meeting_participants WHERE participant_id = ?", String.class, participantId);
+    }
+
+    private void assertInvariants(Long meetingId) {
+        Map<String, Object> meeting = jdbcTemplate.queryForMap(
+                "SELECT current_participants, max_participants, status FROM meetings WHERE meeting_id = ?", meetingId);
+        int current = ((Number) meeting.get("current_participants")).intValue();
+        int max = ((Number) meeting.get("max_participants")).intValue();
+        Integer approved = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ? AND application_status = 'APPROVED'",
+                Integer.class, meetingId);
+
+        assertThat(current).isEqualTo(approved);
+        assertThat(current).isBetween(0, max);
+        assertThat(meeting.get("status")).isEqualTo(current == max ? "FULL" : "RECRUITING");
+    }
+
+    private int currentParticipants(Long meetingId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_participants FROM meetings WHERE meeting_id = ?", Integer.class, meetingId);
+    }
+
+    /**
+     * 모든 작업을 동시에 시작시키고 끝날 때까지 기다립니다. (비즈니스 예외는 정상적인 실패로 간주)
+     */
+    private void runConcurrently(List<Runnable> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+        for (Runnable task : tasks) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Exception ignored) {
+                    // 정원 초과/이미 처리된 신청 등은 예상된 실패
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    private Long insertMeeting(int maxParticipants) {
+        return fixtures.insertMeeting(hostUserId, martId, "RECRUITING", "1 day", maxParticipants, 1);
+    }
+
+    /**
+     * prefix-1 ~ prefix-count 사용자를 만들어 지정한 상태로 참가시키고 참가 신청 ID 목록을 반환합니다.
+     */
+    private List<Long> insertParticipants(Long meetingId, String prefix, int count, String status) {
+        List<Long> participantIds = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Long userId = fixtures.insertUser(prefix + "-" + i);
+            participantIds.add(fixtures.insertParticipant(meetingId, userId, status));
+        }
+        return participantIds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.dto.response.MeetingDetailResponse;
+import com.nathing.banthing.dto.response.ParticipantListResponse;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.card.MeetingCardProjector;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.LikeMeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 상세/참여자 목록 조회에서 실행되는 SQL 수가 참여자 수와 무관하게 고정되는지 검증합니다.
+ * Hibernate 통계(prepareStatementCount)로 서비스 호출 한 번에 준비된 SQL 수를 셉니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({FindMeetingService.class, LikeMeetingSearchEngine.class, MartSpatialIndex.class,
+        MeetingSearchCache.class, MeetingSuggestIndex.class, MeetingCardProjector.class, CurrentUserResolver.class,
+        SimpleMeterRegistry.class})
+class MeetingDetailQueryCountTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FindMeetingService findMeetingService;
+
+    private TestFixtures fixtures;
+    private Long hostUserId;
+    private Long martId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        hostUserId = fixtures.insertUser("detail-host-" + UUID.randomUUID());
+        martId = fixtures.insertMart();
+    }
+
+    @Test
+    @DisplayName("모임 상세 조회는 참여자 수와 관계없이 SQL 한 번으로 조회된다")
+    void meetingDetailStatementCountIsFixed() {
+        Long smallMeetingId = createMeetingWithParticipants("small", 1);
+        Long largeMeetingId = createMeetingWithParticipants("large", 20);
+
+        long small = countStatements(() -> findMeetingService.findMeetingById(smallMeetingId));
+        long large = countStatements(() -> {
+            MeetingDetailResponse detail = findMeetingService.findMeetingById(largeMeetingId);
+            assertThat(detail.getParticipants()).hasSize(21);
+        });
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("참여자 목록 조회는 참여자 수와 관계없이 SQL 한 번으로 조회된다")
+    void participantListStatementCountIsFixed() {
+        Long smallMeetingId = createMeetingWithParticipants("small", 1);
+        Long largeMeetingId = createMeetingWithParticipants("large", 20);
+
+        long small = countStatements(() -> findMeetingService.getParticipants(smallMeetingId));
+        long large = countStatements(() -> {
+            ParticipantListResponse participants = findMeetingService.getParticipants(largeMeetingId);
+            assertThat(participants.getApproved()).hasSize(21);
+        });
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤 작업 한 번에 준비된 SQL 수를 반환합니다.
+     */
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 호스트와 승인된 참여자 participantCount명이 있는 모임을 생성합니다.
+     */
+    private Long createMeetingWithParticipants(String prefix, int participantCount) {
+        Long meetingId = fixtures.insertMeeting(hostUserId, martId, "RECRUITING", "1 day",
+                participantCount + 1, participantCount + 1);
+        for (int i = 1; i <= participantCount; i++) {
+            Long userId = fixtures.insertUser(prefix + "-" + UUID.randomUUID());
+            fixtures.insertParticipant(meetingId, userId, "APPROVED");
+        }
+        return meetingId;
+    }
+}
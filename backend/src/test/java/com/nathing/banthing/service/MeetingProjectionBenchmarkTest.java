@@ -0,0 +1,199 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.dto.response.MeetingDetailResponse;
+import com.nathing.banthing.dto.response.MeetingProfilePageResponse;
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.card.MeetingCardProjector;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.LikeMeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 목록 조회의 엔티티 하이드레이션 방식과 DTO 프로젝션 방식을 1,000건 응답 기준으로 비교하는 벤치마크입니다.
+ * 회차당 평균 응답 시간과 현재 스레드의 힙 할당량(ThreadMXBean)을 함께 측정합니다.
+ *
+ * 기본 test 태스크에서는 제외되며 다음 명령으로 실행합니다.
+ * ./gradlew benchmark --tests "*MeetingProjectionBenchmarkTest"
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Tag("benchmark")
+@EmbeddedPostgresTest
+@Import({FindMeetingService.class, LikeMeetingSearchEngine.class, MartSpatialIndex.class,
+        MeetingSearchCache.class, MeetingSuggestIndex.class, MeetingCardProjector.class, CurrentUserResolver.class,
+        SimpleMeterRegistry.class})
+class MeetingProjectionBenchmarkTest {
+
+    private static final int MEETING_COUNT = 1_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURE_ROUNDS = 30;
+    private static final String MEMBER_PROVIDER_ID = "benchmark-member";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    @Autowired
+    private MeetingCardsRepository meetingCardsRepository;
+
+    @Autowired
+    private FindMeetingService findMeetingService;
+
+    @Autowired
+    private LikeMeetingSearchEngine likeMeetingSearchEngine;
+
+    @Autowired
+    private MeetingCardProjector meetingCardProjector;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        Long hostUserId = fixtures.insertUser("benchmark-host");
+        fixtures.insertUser(MEMBER_PROVIDER_ID);
+        fixtures.insertMarts();
+        jdbcTemplate.update("""
+            INSERT INTO meetings (host_user_id, mart_id, title, description, meeting_date, max_participants,
+                                  current_participants, status, thumbnail_image_url, created_at, updated_at)
+            SELECT ?,
+                   (SELECT MIN(mart_id) FROM marts) + (i % 4),
+                   '대용량 상품 소분 모임 ' || i,
+                   '대용량 상품을 함께 구매하고 나눠 가져요. 개인 용기를 꼭 준비해주세요. 번호 ' || i,
+                   NOW() + (i || ' minutes')::interval,
+                   5, 2, 'RECRUITING', '/images/meeting-default-img.svg',
+                   NOW() - (i || ' seconds')::interval, NOW()
+            FROM generate_series(1, ?) AS s(i)
+        """, hostUserId, MEETING_COUNT);
+        // 모든 모임에 호스트와 멤버가 승인된 참여자로 참여
+        jdbcTemplate.update("""
+            INSERT INTO meeting_participants (meeting_id, user_id, participant_type, application_status, joined_at, updated_at)
+            SELECT m.meeting_id, u.user_id,
+                   CASE WHEN u.user_id = m.host_user_id THEN 'HOST' ELSE 'PARTICIPANT' END,
+                   'APPROVED', NOW(), NOW()
+            FROM meetings m CROSS JOIN users u
+        """);
+        // JDBC로 직접 적재했으므로 이벤트가 발행되지 않아 모임 카드를 한 번에 재구성합니다.
+        meetingCardProjector.rebuildAll();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("전체 모임 목록: 엔티티 하이드레이션 vs DTO 프로젝션")
+    void compareMeetingList() {
+        Supplier<List<MeetingSimpleResponse>> entityPath = () ->
+                meetingsRepository.findAllWithMartByOrderByCreatedAtDesc().stream()
+                        .filter(meeting -> meeting.getStatus() != Meeting.MeetingStatus.CANCELLED)
+                        .map(MeetingSimpleResponse::new)
+                        .toList();
+        // 검색 결과 캐시를 거치지 않도록 모임 카드 프로젝션 쿼리를 직접 측정
+        Supplier<List<MeetingSimpleResponse>> projectionPath = () ->
+                meetingCardsRepository.findAllSimpleResponses(Meeting.MeetingStatus.CANCELLED);
+
+        assertThat(projectionPath.get()).hasSize(MEETING_COUNT);
+        report("전체 목록", measure(entityPath), measure(projectionPath));
+    }
+
+    @Test
+    @DisplayName("키워드 검색: 엔티티 하이드레이션 vs DTO 프로젝션")
+    void compareKeywordSearch() {
+        String keyword = "소분";
+        Supplier<List<MeetingSimpleResponse>> entityPath = () ->
+                meetingsRepository.findByKeywordAndRecruiting(keyword).stream()
+                        .filter(meeting -> meeting.getStatus() != Meeting.MeetingStatus.CANCELLED)
+                        .map(MeetingSimpleResponse::new)
+                        .toList();
+        Supplier<List<MeetingSimpleResponse>> projectionPath = () -> likeMeetingSearchEngine.searchSimple(keyword);
+
+        assertThat(projectionPath.get()).hasSize(MEETING_COUNT);
+        report("키워드 검색", measure(entityPath), measure(projectionPath));
+    }
+
+    @Test
+    @DisplayName("참여 모임 목록: 엔티티 하이드레이션(지연 로딩) vs 프로젝션 + 참여자 IN 조회")
+    void compareParticipatedMeetings() {
+        Long memberId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM users WHERE provider_id = ?", Long.class, MEMBER_PROVIDER_ID);
+        PageRequest pageable = PageRequest.of(0, MEETING_COUNT);
+
+        Supplier<List<MeetingDetailResponse>> entityPath = () ->
+                meetingsRepository.findMeetingsWithMartByUserIdAndStatus(memberId, "APPROVED", pageable)
+                        .getContent().stream()
+                        .map(MeetingDetailResponse::new)
+                        .toList();
+        Supplier<List<MeetingDetailResponse>> projectionPath = () -> {
+            MeetingProfilePageResponse page = findMeetingService.getParticipatedMeetings(
+                    MEMBER_PROVIDER_ID, MeetingParticipant.ApplicationStatus.APPROVED, pageable);
+            return page.getContent();
+        };
+
+        List<MeetingDetailResponse> projected = projectionPath.get();
+        assertThat(projected).hasSize(MEETING_COUNT);
+        assertThat(projected).allMatch(response -> response.getParticipants().size() == 2);
+        report("참여 모임 목록", measure(entityPath), measure(projectionPath));
+    }
+
+    /**
+     * 워밍업 후 회차당 평균 응답 시간(ms)과 평균 할당량(MB)을 측정합니다.
+     * 서비스 트랜잭션 단위와 같도록 매 회차마다 영속성 컨텍스트를 비웁니다.
+     */
+    private Measurement measure(Supplier<? extends List<?>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long threadId = Thread.currentThread().getId();
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            query.get();
+            totalNanos += System.nanoTime() - start;
+            totalBytes += THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - startBytes;
+            entityManager.clear();
+        }
+        return new Measurement(totalNanos / (double) MEASURE_ROUNDS / 1_000_000,
+                totalBytes / (double) MEASURE_ROUNDS / (1024 * 1024));
+    }
+
+    private void report(String name, Measurement entity, Measurement projection) {
+        System.out.printf("[프로젝션 벤치마크] %s %,d건 | 엔티티: %.2f ms, %.2f MB | 프로젝션: %.2f ms, %.2f MB | 시간 %.1fx, 할당 %.1fx%n",
+                name, MEETING_COUNT, entity.millis(), entity.megabytes(), projection.millis(), projection.megabytes(),
+                entity.millis() / projection.millis(), entity.megabytes() / projection.megabytes());
+    }
+
+    private record Measurement(double millis, double megabytes) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.entity.MeetingParticipant;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.lease.SchedulerLeaseManager;
+import com.nathing.banthing.service.schedule.SchedulerChunkRunner;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄(set) 모드 스케줄러가 엔티티별 전환과 같은 규칙으로 모임 상태를 바꾸는지 검증합니다.
+ *
+ * - 시작 시간이 지난 모집중 모임 중 승인 인원이 1명(호스트) 이하면 CANCELLED
+ * - 그 외 시작 시간이 지난 모집중/모집마감 모임은 ONGOING
+ * - 시작된 지 24시간이 지난 진행중 모임은 COMPLETED
+ *
+ * 청크 트랜잭션은 테스트 트랜잭션에 참여하므로 JDBC로 넣은 데이터를 그대로 볼 수 있습니다.
+ * (청크 실패와 동시 전환을 확인하는 테스트만 트랜잭션마다 커밋/롤백되도록 테스트 트랜잭션 없이 실행하고 직접 정리합니다.)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+// 청크 경계를 넘는 경우도 확인하도록 청크 크기를 작게 둡니다.
+@TestPropertySource(properties = "meeting.scheduler.chunk.size=2")
+@Import({MeetingSchedulerService.class, SchedulerChunkRunner.class, SchedulerLeaseManager.class, SimpleMeterRegistry.class})
+class MeetingSchedulerServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeetingSchedulerService meetingSchedulerService;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    @Autowired
+    private MeetingCardsRepository meetingCardsRepository;
+
+    private TestFixtures fixtures;
+    private Long hostUserId;
+    private Long martId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        hostUserId = fixtures.insertUser("sched-host-" + UUID.randomUUID());
+        martId = fixtures.insertMart();
+    }
+
+    @Test
+    @DisplayName("시작 시간이 지난 모임은 승인 인원에 따라 한 번에 취소 또는 시작된다")
+    void startScheduledMeetingsInBulk() {
+        Long lonely = createMeeting("RECRUITING", "-1 hour", 0);
+        Long recruiting = createMeeting("RECRUITING", "-1 hour", 1);
+        Long full = createMeeting("FULL", "-1 hour", 2);
+        Long upcoming = createMeeting("RECRUITING", "1 hour", 1);
+
+        meetingSchedulerService.startScheduledMeetings();
+        entityManager.clear();
+
+        assertThat(statusOf(lonely)).isEqualTo("CANCELLED");
+        assertThat(statusOf(recruiting)).isEqualTo("ONGOING");
+        assertThat(statusOf(full)).isEqualTo("ONGOING");
+        assertThat(statusOf(upcoming)).isEqualTo("RECRUITING");
+        assertThat(versionOf(recruiting)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("취소 청크가 실패해도 취소 대상 모임은 시작되지 않는다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void failedCancelChunkDoesNotStartCancelCandidates() {
+        Long lonely = createMeeting("RECRUITING", "-1 hour", 0);
+        Long recruiting = createMeeting("RECRUITING", "-1 hour", 1);
+        // 취소 UPDATE만 실패하도록 트리거를 겁니다. (락 타임아웃 등 청크 트랜잭션 실패 재현)
+        jdbcTemplate.execute("""
+            CREATE FUNCTION fail_meeting_cancel() RETURNS trigger AS $$
+            BEGIN
+                RAISE EXCEPTION 'cancel chunk failure';
+            END;
+            $$ LANGUAGE plpgsql
+        """);
+        jdbcTemplate.execute("""
+            CREATE TRIGGER fail_meeting_cancel BEFORE UPDATE ON meetings
+            FOR EACH ROW WHEN (NEW.status = 'CANCELLED') EXECUTE FUNCTION fail_meeting_cancel()
+        """);
+        try {
+            meetingSchedulerService.startScheduledMeetings();
+
+            assertThat(statusOf(lonely)).isEqualTo("RECRUITING");
+            assertThat(statusOf(recruiting)).isEqualTo("ONGOING");
+        } finally {
+            jdbcTemplate.execute("DROP TRIGGER fail_meeting_cancel ON meetings");
+            jdbcTemplate.execute("DROP FUNCTION fail_meeting_cancel()");
+            jdbcTemplate.update("DELETE FROM meeting_participants WHERE meeting_id IN (?, ?)", lonely, recruiting);
+            jdbcTemplate.update("DELETE FROM meetings WHERE meeting_id IN (?, ?)", lonely, recruiting);
+            jdbcTemplate.update("DELETE FROM users WHERE provider_id LIKE 'sched-%'");
+            jdbcTemplate.update("DELETE FROM marts WHERE mart_id = ?", martId);
+        }
+    }
+
+    @Test
+    @DisplayName("시작된 지 24시간이 지난 진행중 모임만 한 번에 완료된다")
+    void autoCompleteMeetingsInBulk() {
+        Long old = createMeeting("ONGOING", "-25 hours", 1);
+        Long recent = createMeeting("ONGOING", "-1 hour", 1);
+
+        meetingSchedulerService.autoCompleteMeetings();
+        entityManager.clear();
+
+        assertThat(statusOf(old)).isEqualTo("COMPLETED");
+        assertThat(statusOf(recent)).isEqualTo("ONGOING");
+    }
+
+    @Test
+    @DisplayName("일괄 전환된 모임의 카드 상태도 함께 바뀐다")
+    void bulkTransitionUpdatesCards() {
+        Long lonely = createMeeting("RECRUITING", "-1 hour", 0);
+        Long full = createMeeting("FULL", "-1 hour", 2);
+        Long upcoming = createMeeting("RECRUITING", "1 hour", 1);
+        meetingCardsRepository.insertAllFromMeetings();
+
+        meetingSchedulerService.startScheduledMeetings();
+        entityManager.clear();
+
+        assertThat(cardStatusOf(lonely)).isEqualTo("CANCELLED");
+        assertThat(cardStatusOf(full)).isEqualTo("ONGOING");
+        assertThat(cardStatusOf(upcoming)).isEqualTo("RECRUITING");
+    }
+
+    @Test
+    @DisplayName("조회 이후 참여자가 승인된 모임은 취소 UPDATE에서 다시 걸러진다")
+    void cancelUpdateRechecksApprovedCount() {
+        Long meetingId = createMeeting("RECRUITING", "-1 hour", 0);
+        fixtures.insertParticipant(meetingId, fixtures.insertUser("sched-late-" + UUID.randomUUID()), "APPROVED");
+
+        int updated = meetingsRepository.cancelByMeetingIdIn(List.of(meetingId), Meeting.MeetingStatus.RECRUITING,
+                MeetingParticipant.ApplicationStatus.APPROVED, Meeting.MeetingStatus.CANCELLED, LocalDateTime.now());
+
+        assertThat(updated).isZero();
+        assertThat(statusOf(meetingId)).isEqualTo("RECRUITING");
+    }
+
+    @Test
+    @DisplayName("조회 이후 모임 시간이 미뤄진 모임은 상태 UPDATE에서 다시 걸러진다")
+    void statusUpdateRechecksMeetingDate() {
+        Long meetingId = createMeeting("FULL", "1 hour", 2);
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = meetingsRepository.updateStatusByMeetingIdIn(List.of(meetingId),
+                EnumSet.of(Meeting.MeetingStatus.RECRUITING, Meeting.MeetingStatus.FULL),
+                Meeting.MeetingStatus.ONGOING, now, now);
+
+        assertThat(updated).isZero();
+        assertThat(statusOf(meetingId)).isEqualTo("FULL");
+    }
+
+    @Test
+    @DisplayName("여러 서버가 같은 마감을 동시에 전환해도 한 곳만 모임을 바꾼다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void competingDueTransitionsChangeRowOnce() throws Exception {
+        Long meetingId = createMeeting("RECRUITING", "-1 second", 1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = List.of(
+                    executor.submit(() -> {
+                        start.await();
+                        return meetingSchedulerService.applyDueTransition(meetingId);
+                    }),
+                    executor.submit(() -> {
+                        start.await();
+                        return meetingSchedulerService.applyDueTransition(meetingId);
+                    }));
+            start.countDown();
+
+            List<Boolean> changed = List.of(results.get(0).get(30, TimeUnit.SECONDS), results.get(1).get(30, TimeUnit.SECONDS));
+            assertThat(changed).containsExactlyInAnyOrder(true, false);
+            assertThat(statusOf(meetingId)).isEqualTo("ONGOING");
+            assertThat(versionOf(meetingId)).isEqualTo(1L);
+        } finally {
+            executor.shutdown();
+            jdbcTemplate.update("DELETE FROM meeting_participants WHERE meeting_id = ?", meetingId);
+            jdbcTemplate.update("DELETE FROM meetings WHERE meeting_id = ?", meetingId);
+            jdbcTemplate.update("DELETE FROM users WHERE provider_id LIKE 'sched-%'");
+            jdbcTemplate.update("DELETE FROM marts WHERE mart_id = ?", martId);
+        }
+    }
+
+    private String cardStatusOf(Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM meeting_cards WHERE meeting_id = ?", String.class, meetingId);
+    }
+
+    private String statusOf(Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM meetings WHERE meeting_id = ?", String.class, meetingId);
+    }
+
+    private Long versionOf(Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM meetings WHERE meeting_id = ?", Long.class, meetingId);
+    }
+
+    /**
+     * 호스트와 승인된 참여자 approvedMembers명이 있는 모임을 생성합니다. (meetingOffset: 현재 시각 기준 모임 시간)
+     */
+    private Long createMeeting(String status, String meetingOffset, int approvedMembers) {
+        Long meetingId = fixtures.insertMeeting(hostUserId, martId, status, meetingOffset,
+                approvedMembers + 1, approvedMembers + 1);
+        for (int i = 0; i < approvedMembers; i++) {
+            fixtures.insertParticipant(meetingId, fixtures.insertUser("sched-member-" + UUID.randomUUID()), "APPROVED");
+        }
+        return meetingId;
+    }
+}
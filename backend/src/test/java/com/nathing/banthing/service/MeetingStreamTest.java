@@ -0,0 +1,136 @@
+package com.nathing.banthing.service;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.service.auth.CurrentUserResolver;
+import com.nathing.banthing.service.card.MeetingCardProjector;
+import com.nathing.banthing.service.geo.MartSpatialIndex;
+import com.nathing.banthing.service.search.LikeMeetingSearchEngine;
+import com.nathing.banthing.service.search.MeetingSearchCache;
+import com.nathing.banthing.service.search.MeetingSuggestIndex;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 목록 스트리밍이 (생성 시각, 모임 ID) 키셋 페이지를 이어 붙여 전체 목록을 최신순으로 한 번씩 넘기고,
+ * 응답을 쓰는 동안(consumer 호출 중) 트랜잭션을 잡고 있지 않은지 검증합니다.
+ * 카드의 생성 시각은 모임 ID 순서와 어긋나고 페이지 경계에서 같은 값이 겹치도록 넣습니다.
+ *
+ * 서비스가 트랜잭션 없이 페이지마다 따로 조회하므로 테스트 트랜잭션을 사용하지 않고 카드를 직접 넣고 지웁니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({FindMeetingService.class, LikeMeetingSearchEngine.class, MartSpatialIndex.class,
+        MeetingSearchCache.class, MeetingSuggestIndex.class, MeetingCardProjector.class, CurrentUserResolver.class,
+        SimpleMeterRegistry.class})
+class MeetingStreamTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FindMeetingService findMeetingService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meeting_cards");
+        ReflectionTestUtils.setField(findMeetingService, "maxStreamRows", 0);
+    }
+
+    @Test
+    @DisplayName("여러 페이지에 걸친 목록을 빠짐없이 최신순으로 넘기고, 취소된 모임은 제외한다")
+    void streamsAllPagesInOrder() {
+        int total = FindMeetingService.STREAM_PAGE_SIZE * 2 + 7;
+        insertCards(total, "코스트코 소분", "RECRUITING");
+        insertCards(3, "취소된 소분", "CANCELLED");
+
+        List<Long> meetingIds = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+        boolean truncated = findMeetingService.streamMeetings(null, meeting -> {
+            meetingIds.add(meeting.getMeetingId());
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+        });
+
+        assertThat(truncated).isFalse();
+        assertThat(meetingIds).hasSize(total).doesNotHaveDuplicates()
+                .containsExactlyElementsOf(idsInListOrder())
+                .isNotEqualTo(meetingIds.stream().sorted(Comparator.reverseOrder()).toList());
+        assertThat(inTransaction).containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("건수 제한을 켜면 그만큼만 보내고 truncated를 반환한다")
+    void stopsAtConfiguredMaxRows() {
+        insertCards(FindMeetingService.STREAM_PAGE_SIZE * 2, "코스트코 소분", "RECRUITING");
+        int maxRows = FindMeetingService.STREAM_PAGE_SIZE + 3;
+        ReflectionTestUtils.setField(findMeetingService, "maxStreamRows", maxRows);
+
+        List<Long> meetingIds = new ArrayList<>();
+        boolean truncated = findMeetingService.streamMeetings(null, meeting -> meetingIds.add(meeting.getMeetingId()));
+
+        assertThat(truncated).isTrue();
+        assertThat(meetingIds).containsExactlyElementsOf(idsInListOrder().subList(0, maxRows));
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 일치하는 모임만 페이지를 이어 넘긴다")
+    void streamsKeywordMatchesAcrossPages() {
+        int matches = FindMeetingService.STREAM_PAGE_SIZE + 1;
+        insertCards(matches, "트레이더스 소분", "RECRUITING");
+        insertCards(10, "코스트코 소분", "RECRUITING");
+
+        List<MeetingSimpleResponse> meetings = new ArrayList<>();
+        findMeetingService.streamMeetings(" 트레이더스 ", meetings::add);
+
+        assertThat(meetings).hasSize(matches)
+                .allSatisfy(meeting -> assertThat(meeting.getTitle()).startsWith("트레이더스"));
+        assertThat(meetings).extracting(MeetingSimpleResponse::getMeetingId)
+                .containsExactlyElementsOf(jdbcTemplate.queryForList(
+                        "SELECT meeting_id FROM meeting_cards WHERE title LIKE '트레이더스%' " +
+                                "ORDER BY created_at DESC, meeting_id DESC", Long.class));
+    }
+
+    /**
+     * 목록 조회와 같은 순서(생성 시각 최신순, 같으면 모임 ID 내림차순)의 취소되지 않은 모임 ID
+     */
+    private List<Long> idsInListOrder() {
+        return jdbcTemplate.queryForList("SELECT meeting_id FROM meeting_cards WHERE status <> 'CANCELLED' " +
+                "ORDER BY created_at DESC, meeting_id DESC", Long.class);
+    }
+
+    /**
+     * 모임 카드를 직접 넣습니다. (ID는 기존 카드 다음부터)
+     * 생성 시각은 ID 순서와 반대로 7분 주기로 돌아가므로 ID가 큰 카드가 더 오래된 경우와 같은 생성 시각이 함께 생깁니다.
+     */
+    private void insertCards(int count, String title, String status) {
+        jdbcTemplate.update("""
+            INSERT INTO meeting_cards (meeting_id, title, description, meeting_date, status, approved_count,
+                                       max_participants, thumbnail_image_url, mart_id, mart_name, mart_brand,
+                                       latitude, longitude, host_user_id, host_nickname, host_trust_score,
+                                       host_trust_grade, created_at, updated_at)
+            SELECT (SELECT COALESCE(MAX(meeting_id), 0) FROM meeting_cards) + i, ? || ' ' || i, '설명',
+                   NOW() + INTERVAL '1 day', ?, 1, 5, '/images/meeting-default-img.svg', 1, '코스트코 양평점',
+                   'COSTCO', 37.5276272, 126.8921542, 1, '호스트', 300, 'BASIC',
+                   TIMESTAMP '2026-10-17 12:00:00' - ((i % 7) || ' minutes')::interval, NOW()
+            FROM generate_series(1, ?) AS s(i)
+        """, title, status, count);
+    }
+}
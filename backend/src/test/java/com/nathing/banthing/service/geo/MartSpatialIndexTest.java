@@ -0,0 +1,145 @@
+package com.nathing.banthing.service.geo;
+
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.repository.MartsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마트 공간 인덱스가 알려진 거리로 haversine을 계산하고, 여러 셀에 걸친 반경 검색에서
+ * 반경 안의 마트만 가까운 순으로 빠짐없이 찾는지(셀 경계 바로 너머, 반경 바로 안/밖 포함) 검증합니다.
+ *
+ * 셀은 0.05도 크기이므로 위도 37.6, 경도 127.0 등이 셀 경계입니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class MartSpatialIndexTest {
+
+    /** 서울시청 */
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LNG = 126.9780;
+
+    private final MartsRepository martsRepository = mock(MartsRepository.class);
+    private final List<Mart> marts = new ArrayList<>();
+
+    private MartSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(martsRepository.findAll()).thenReturn(marts);
+        index = new MartSpatialIndex(martsRepository);
+    }
+
+    @Test
+    @DisplayName("haversine 거리가 알려진 거리와 일치한다")
+    void haversineMatchesKnownDistances() {
+        // 구 반지름 6371km에서 자오선/적도 위 1도의 길이
+        double kmPerDegree = 6371.0 * Math.PI / 180;
+        assertThat(MartSpatialIndex.haversineKm(37.0, 127.0, 38.0, 127.0)).isCloseTo(kmPerDegree, within(1e-9));
+        assertThat(MartSpatialIndex.haversineKm(0.0, 127.0, 0.0, 128.0)).isCloseTo(kmPerDegree, within(1e-9));
+        // 같은 위도에서는 경도 1도가 cos(위도)만큼 짧아집니다.
+        assertThat(MartSpatialIndex.haversineKm(60.0, 0.0, 60.0, 0.001))
+                .isCloseTo(kmPerDegree * 0.001 * Math.cos(Math.toRadians(60)), within(1e-6));
+
+        // 서울시청 → 부산시청 약 325km
+        assertThat(MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG, 35.1796, 129.0756)).isCloseTo(325.1, within(0.1));
+        // 서울시청 → 코스트코 양평점 약 8.7km
+        assertThat(MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG, 37.5276272, 126.8921542)).isCloseTo(8.72, within(0.01));
+
+        assertThat(MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG, SEOUL_LAT, SEOUL_LNG)).isZero();
+        assertThat(MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG, 35.1796, 129.0756))
+                .isEqualTo(MartSpatialIndex.haversineKm(35.1796, 129.0756, SEOUL_LAT, SEOUL_LNG));
+    }
+
+    @Test
+    @DisplayName("여러 셀에 걸친 반경에서 반경 안의 마트를 가까운 순으로 모두 찾는다")
+    void findsMartsAcrossSeveralCells() {
+        // 서울시청(셀 751, 2539) 주변의 서로 다른 셀에 있는 마트 네 곳과 부산의 마트 한 곳
+        mart(1L, 37.5276272, 126.8921542);  // 양평, 약 8.7km
+        mart(2L, 37.4618756, 127.0361402);  // 양재, 약 12.7km
+        mart(3L, 37.6278244, 127.0613885);  // 월계, 약 10.0km
+        mart(4L, 37.4706810, 126.8956481);  // 금천, 약 12.9km
+        mart(5L, 35.1796, 129.0756);        // 부산
+        index.rebuild();
+
+        List<MartSpatialIndex.MartDistance> result = index.findWithinRadius(SEOUL_LAT, SEOUL_LNG, 15);
+
+        assertThat(result).extracting(MartSpatialIndex.MartDistance::martId).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(result.get(0).distanceKm())
+                .isEqualTo(MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG, 37.5276272, 126.8921542));
+
+        // 반경이 양재(12.7km)와 금천(12.9km) 사이이면 금천만 빠집니다.
+        assertThat(index.findWithinRadius(SEOUL_LAT, SEOUL_LNG, 12.8))
+                .extracting(MartSpatialIndex.MartDistance::martId).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("셀 경계 너머에서 반경 바로 안의 마트는 찾고 바로 밖의 마트는 뺀다")
+    void includesMartJustInsideAndExcludesMartJustOutside() {
+        // 중심에서 정북쪽으로 10km 지점이 위도 37.6(셀 경계) 바로 너머가 되도록 중심을 잡습니다.
+        double centerLat = 37.51015;
+        double centerLng = 127.02;
+        mart(1L, 37.60005, centerLng);  // 약 9.996km, 다음 셀
+        mart(2L, 37.60010, centerLng);  // 약 10.002km
+        index.rebuild();
+
+        List<MartSpatialIndex.MartDistance> result = index.findWithinRadius(centerLat, centerLng, 10);
+
+        assertThat(result).extracting(MartSpatialIndex.MartDistance::martId).containsExactly(1L);
+        assertThat(result.get(0).distanceKm()).isLessThan(10).isGreaterThan(9.99);
+        assertThat(MartSpatialIndex.haversineKm(centerLat, centerLng, 37.60010, centerLng)).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("반경 경계 주변에 흩어진 마트에 대해 전체 거리 계산과 같은 결과를 낸다")
+    void matchesBruteForceAroundRadius() {
+        double radiusKm = 12;
+        Random random = new Random(20261017L);
+        for (long martId = 1; martId <= 500; martId++) {
+            // 반경의 0.98 ~ 1.02배 거리, 임의 방향 (위도/경도 셀 경계 여러 개에 걸침)
+            double distanceKm = radiusKm * (0.98 + random.nextDouble() * 0.04);
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double latDelta = Math.toDegrees(distanceKm / 6371.0) * Math.cos(bearing);
+            double lngDelta = Math.toDegrees(distanceKm / 6371.0) * Math.sin(bearing)
+                    / Math.cos(Math.toRadians(SEOUL_LAT));
+            mart(martId, SEOUL_LAT + latDelta, SEOUL_LNG + lngDelta);
+        }
+        index.rebuild();
+
+        List<Long> expected = marts.stream()
+                .filter(mart -> distanceFromSeoul(mart) <= radiusKm)
+                .sorted((a, b) -> Double.compare(distanceFromSeoul(a), distanceFromSeoul(b)))
+                .map(Mart::getMartId)
+                .toList();
+
+        assertThat(expected).hasSizeBetween(100, 400);
+        assertThat(index.findWithinRadius(SEOUL_LAT, SEOUL_LNG, radiusKm))
+                .extracting(MartSpatialIndex.MartDistance::martId)
+                .containsExactlyElementsOf(expected);
+    }
+
+    private double distanceFromSeoul(Mart mart) {
+        return MartSpatialIndex.haversineKm(SEOUL_LAT, SEOUL_LNG,
+                mart.getLatitude().doubleValue(), mart.getLongitude().doubleValue());
+    }
+
+    private void mart(Long martId, double latitude, double longitude) {
+        Mart mart = mock(Mart.class);
+        when(mart.getMartId()).thenReturn(martId);
+        when(mart.getLatitude()).thenReturn(BigDecimal.valueOf(latitude));
+        when(mart.getLongitude()).thenReturn(BigDecimal.valueOf(longitude));
+        marts.add(mart);
+    }
+}
@@ -0,0 +1,179 @@
+package com.nathing.banthing.service.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.IdempotencyKeysRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link IdempotencyAspect}가 같은 키의 재요청에 저장된 응답을 재전송하고,
+ * 본문이 다른 요청에 키를 다시 쓰거나 처음 요청이 실패한 경우를 올바르게 처리하는지 검증합니다.
+ *
+ * 컨트롤러 대신 {@link Idempotent} 메서드를 가진 엔드포인트에 애스펙트를 프록시로 적용하고,
+ * 요청/로그인 사용자는 RequestContextHolder와 SecurityContextHolder에 직접 넣습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyAspectTest {
+
+    private static final String PROVIDER_ID = "idempotency-user";
+
+    @Autowired
+    private IdempotencyKeysRepository idempotencyKeysRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WriteEndpoint target;
+    private WriteEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(idempotencyKeysRepository, transactionManager, 100,
+                Duration.ofHours(1), Duration.ofMinutes(5), new SimpleMeterRegistry());
+        target = new WriteEndpoint();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new IdempotencyAspect(store, objectMapper));
+        endpoint = proxyFactory.getProxy();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(PROVIDER_ID, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    @DisplayName("같은 키로 같은 요청을 다시 보내면 실행하지 않고 저장된 응답을 재전송한다")
+    void replaysStoredResponse() {
+        request("POST", "/api/meetings/1/decisions", "key-replay");
+        ResponseEntity<?> first = endpoint.create(Map.of("title", "코스트코 소분"));
+
+        request("POST", "/api/meetings/1/decisions", "key-replay");
+        ResponseEntity<?> second = endpoint.create(Map.of("title", "코스트코 소분"));
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(first.getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+        assertThat(second.getStatusCode().value()).isEqualTo(201);
+        assertThat(second.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(((JsonNode) second.getBody()).get("call").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 본문이 다른 요청에 다시 쓰면 IDEMPOTENCY_KEY_REUSED로 거절한다")
+    void rejectsKeyReusedWithDifferentBody() {
+        request("POST", "/api/meetings/1/decisions", "key-reuse");
+        endpoint.create(Map.of("title", "코스트코 소분"));
+
+        request("POST", "/api/meetings/1/decisions", "key-reuse");
+        assertThatThrownBy(() -> endpoint.create(Map.of("title", "트레이더스 소분")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업로드 파일 내용이 다르면 같은 키라도 다른 요청으로 본다")
+    void includesMultipartContentInFingerprint() {
+        request("POST", "/api/meetings", "key-upload");
+        endpoint.upload(Map.of("title", "코스트코 소분"), new MockMultipartFile("imageFile", "a.png", "image/png", new byte[]{1}));
+
+        request("POST", "/api/meetings", "key-upload");
+        assertThatThrownBy(() -> endpoint.upload(Map.of("title", "코스트코 소분"),
+                new MockMultipartFile("imageFile", "a.png", "image/png", new byte[]{2})))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실패(2xx 외) 응답은 저장하지 않고 같은 키로 다시 실행할 수 있다")
+    void doesNotStoreNonSuccessResponse() {
+        request("POST", "/api/meetings/1/join", "key-fail");
+        ResponseEntity<?> first = endpoint.fail();
+
+        assertThat(first.getStatusCode().value()).isEqualTo(400);
+        assertThat(idempotencyKeysRepository.count()).isZero();
+
+        request("POST", "/api/meetings/1/join", "key-fail");
+        ResponseEntity<?> second = endpoint.fail();
+
+        assertThat(target.calls.get()).isEqualTo(2);
+        assertThat(second.getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+    }
+
+    private void request(String method, String uri, String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, key);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    /**
+     * 멱등성 키를 적용한 쓰기 엔드포인트 (호출 횟수를 셉니다.)
+     */
+    static class WriteEndpoint {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Idempotent
+        public ResponseEntity<?> create(@RequestBody Map<String, Object> body) {
+            return ResponseEntity.status(201).body(Map.of("call", calls.incrementAndGet()));
+        }
+
+        @Idempotent
+        public ResponseEntity<?> upload(@RequestPart("request") Map<String, Object> body,
+                                        @RequestPart("imageFile") MultipartFile imageFile) {
+            return ResponseEntity.status(201).body(Map.of("call", calls.incrementAndGet()));
+        }
+
+        @Idempotent
+        public ResponseEntity<?> fail() {
+            return ResponseEntity.badRequest().body(Map.of("call", calls.incrementAndGet()));
+        }
+    }
+}
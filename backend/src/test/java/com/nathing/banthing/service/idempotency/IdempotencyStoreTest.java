@@ -0,0 +1,115 @@
+package com.nathing.banthing.service.idempotency;
+
+import com.nathing.banthing.repository.IdempotencyKeysRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멱등성 키 저장소의 선점(begin)이 메모리 캐시에 없는 응답을 DB에서 찾아 돌려주고, DB 선점으로 같은 키의 동시 처리를 막는지 검증합니다.
+ *
+ * 저장소마다 빈 캐시를 가지므로 저장소 두 개는 서로 다른 서버처럼 동작합니다.
+ * 선점/완료가 각자 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyKeysRepository idempotencyKeysRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    private IdempotencyStore newStore(Duration ttl) {
+        return new IdempotencyStore(idempotencyKeysRepository, transactionManager, 100, ttl,
+                Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("메모리 캐시에 없는 응답은 선점 대신 DB에서 찾아 돌려준다")
+    void findsCompletedResponseFromDatabase() {
+        IdempotencyStore.StoredResponse response =
+                new IdempotencyStore.StoredResponse("POST /api/meetings/1/join", 200, "{\"success\":true}");
+        IdempotencyStore first = newStore(Duration.ofHours(1));
+        assertThat(first.begin("user-1", "key-1", response.fingerprint()).acquired()).isTrue();
+        first.complete("user-1", "key-1", response);
+
+        // 재시작했거나 다른 서버인 경우 (빈 캐시)
+        IdempotencyStore second = newStore(Duration.ofHours(1));
+
+        IdempotencyStore.Claim claim = second.begin("user-1", "key-1", response.fingerprint());
+        assertThat(claim.acquired()).isFalse();
+        assertThat(claim.stored()).isEqualTo(response);
+        // 같은 키라도 다른 사용자의 키는 별개입니다.
+        assertThat(second.begin("user-2", "key-1", response.fingerprint()).acquired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 처리 중인 키는 처리가 끝나거나 실패할 때까지 다시 처리할 수 없다")
+    void blocksConcurrentUseOfSameKeyAcrossServers() {
+        IdempotencyStore nodeA = newStore(Duration.ofHours(1));
+        IdempotencyStore nodeB = newStore(Duration.ofHours(1));
+
+        assertThat(nodeA.begin("user-1", "key-2", "POST /api/meetings").acquired()).isTrue();
+
+        IdempotencyStore.Claim claim = nodeB.begin("user-1", "key-2", "POST /api/meetings");
+        assertThat(claim.acquired()).isFalse();
+        assertThat(claim.stored()).isNull();
+        assertThat(claim.fingerprint()).isEqualTo("POST /api/meetings");
+
+        nodeA.abort("user-1", "key-2", "POST /api/meetings");
+        assertThat(nodeB.begin("user-1", "key-2", "POST /api/meetings").acquired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("처리하던 서버가 끝내지 못한 선점은 만료 후 다시 선점할 수 있다")
+    void expiredPendingClaimIsTakenOver() {
+        IdempotencyStore nodeA = newStore(Duration.ofHours(1));
+        IdempotencyStore nodeB = newStore(Duration.ofHours(1));
+        assertThat(nodeA.begin("user-1", "key-4", "POST /api/meetings").acquired()).isTrue();
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = NOW() - INTERVAL '1 minute'");
+
+        assertThat(nodeB.begin("user-1", "key-4", "POST /api/meetings").acquired()).isTrue();
+        assertThat(idempotencyKeysRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 응답은 재전송하지 않고 다시 선점할 수 있으며, 정리 작업에서 삭제된다")
+    void expiredRecordsArePurged() {
+        IdempotencyStore store = newStore(Duration.ofHours(1));
+        assertThat(store.begin("user-1", "key-3", "POST /api/meetings").acquired()).isTrue();
+        store.complete("user-1", "key-3", new IdempotencyStore.StoredResponse("POST /api/meetings", 201, null));
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = NOW() - INTERVAL '1 minute'");
+
+        IdempotencyStore.Claim claim = newStore(Duration.ofHours(1)).begin("user-1", "key-3", "POST /api/meetings");
+        assertThat(claim.acquired()).isTrue();
+        assertThat(claim.stored()).isNull();
+
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = NOW() - INTERVAL '1 minute'");
+        store.purgeExpired();
+        assertThat(idempotencyKeysRepository.count()).isZero();
+    }
+}
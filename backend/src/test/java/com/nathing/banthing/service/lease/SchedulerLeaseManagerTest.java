@@ -0,0 +1,136 @@
+package com.nathing.banthing.service.lease;
+
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.SchedulerLeasesRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 서버(노드)가 하나의 DB로 스케줄러 리스를 다툴 때 한 노드만 리스를 얻고,
+ * 만료 후 넘어간 리스는 펜싱 토큰으로 이전 소유자를 막는지 검증합니다.
+ *
+ * 노드마다 owner가 다른 SchedulerLeaseManager를 만들어 같은 임베디드 DB를 공유합니다.
+ * 획득/반납이 각자 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고, 작업 이름은 테스트마다 새로 만듭니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLeaseManagerTest {
+
+    private static final int NODES = 8;
+
+    @Autowired
+    private SchedulerLeasesRepository schedulerLeasesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String jobName;
+
+    @BeforeEach
+    void setUp() {
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 리스를 요청하면 한 노드만 얻는다")
+    void onlyOneNodeAcquires() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<SchedulerLeaseManager.Lease>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < NODES; i++) {
+                SchedulerLeaseManager node = node("node-" + i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryAcquire(jobName, Duration.ofMinutes(5));
+                }));
+            }
+            start.countDown();
+
+            long acquired = 0;
+            for (Future<Optional<SchedulerLeaseManager.Lease>> result : results) {
+                acquired += result.get().isPresent() ? 1 : 0;
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 리스는 다른 노드가 더 큰 토큰으로 가져가고, 이전 소유자는 펜싱에서 막힌다")
+    void expiredLeaseIsTakenOverAndOldOwnerIsFenced() throws Exception {
+        SchedulerLeaseManager nodeA = node("node-a");
+        SchedulerLeaseManager nodeB = node("node-b");
+
+        SchedulerLeaseManager.Lease first = nodeA.tryAcquire(jobName, Duration.ofMillis(50)).orElseThrow();
+        assertThat(nodeB.tryAcquire(jobName, Duration.ofMinutes(5))).isEmpty();
+
+        Thread.sleep(100);
+        SchedulerLeaseManager.Lease second = nodeB.tryAcquire(jobName, Duration.ofMinutes(5)).orElseThrow();
+
+        assertThat(second.fencingToken()).isGreaterThan(first.fencingToken());
+        assertThatThrownBy(() -> inTransaction(() -> nodeA.fence(first)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SCHEDULER_LEASE_LOST);
+        inTransaction(() -> nodeB.fence(second));
+    }
+
+    @Test
+    @DisplayName("작업이 일찍 끝나 반납해도 최소 유지 시간 동안은 같은 주기의 다른 노드가 리스를 얻지 못한다")
+    void releasedLeaseIsHeldForMinimumHold() {
+        SchedulerLeaseManager nodeA = node("node-a");
+        SchedulerLeaseManager nodeB = node("node-b");
+
+        SchedulerLeaseManager.Lease lease = nodeA.tryAcquire(jobName, Duration.ofMinutes(5)).orElseThrow();
+        nodeA.release(lease, Duration.ofMinutes(1));
+
+        assertThat(nodeB.tryAcquire(jobName, Duration.ofMinutes(5))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최소 유지 시간이 지난 뒤 반납한 리스는 다른 노드가 바로 가져간다")
+    void leaseReleasedAfterMinimumHoldIsAvailableImmediately() throws Exception {
+        SchedulerLeaseManager nodeA = node("node-a");
+        SchedulerLeaseManager nodeB = node("node-b");
+
+        SchedulerLeaseManager.Lease lease = nodeA.tryAcquire(jobName, Duration.ofMinutes(5)).orElseThrow();
+        Thread.sleep(100);
+        nodeA.release(lease, Duration.ofMillis(50));
+
+        assertThat(nodeB.tryAcquire(jobName, Duration.ofMinutes(5))).isPresent();
+    }
+
+    private SchedulerLeaseManager node(String owner) {
+        return new SchedulerLeaseManager(schedulerLeasesRepository, transactionManager, owner);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,235 @@
+package com.nathing.banthing.service.lease;
+
+import com.nathing.banthing.entity.SchedulerLease;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.SchedulerLeasesRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서버(노드)마다 별도의 애플리케이션 컨텍스트를 띄워 하나의 임베디드 DB를 공유하게 하고,
+ * {@link SchedulerLeased} 작업이 {@link SchedulerLeaseAspect}를 거쳐 한 노드에서만 실행되는지 끝에서 끝까지 검증합니다.
+ *
+ * 노드 컨텍스트는 각자 EntityManagerFactory/트랜잭션 매니저/리스 매니저/애스펙트를 가지며 DataSource만 공유합니다.
+ * 리스 획득/반납이 각자 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLeaseMultiContextTest {
+
+    private static final int NODES = 4;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void closeNodes() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+        nodes.clear();
+    }
+
+    @Test
+    @DisplayName("여러 컨텍스트가 동시에 실행해도 @SchedulerLeased 작업은 한 노드에서만 실행되고, 끝난 뒤 같은 주기에 늦게 실행한 노드도 건너뛴다")
+    void onlyOneContextRunsLeasedJob() throws Exception {
+        List<LeasedJob> jobs = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            jobs.add(startNode("node-" + i));
+        }
+
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch skipped = new CountDownLatch(NODES - 1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (LeasedJob job : jobs) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    AtomicBoolean ran = new AtomicBoolean();
+                    job.runExclusive(() -> {
+                        ran.set(true);
+                        executions.incrementAndGet();
+                        entered.countDown();
+                        awaitQuietly(finish);
+                    });
+                    if (!ran.get()) {
+                        skipped.countDown();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // 리스를 얻은 노드가 작업 중인 동안 나머지 노드는 작업을 건너뛰고 바로 끝납니다.
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(skipped.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executions.get()).isEqualTo(1);
+
+            finish.countDown();
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 실행이 끝나도 최소 유지 시간(PT1M) 동안은 리스를 놓지 않으므로, 같은 주기에 늦게 깨어난 노드는 건너뜁니다.
+        jobs.get(NODES - 1).runExclusive(executions::incrementAndGet);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스가 만료되어 다른 컨텍스트로 넘어가면 이전 노드의 작업 트랜잭션은 펜싱에서 막힌다")
+    void expiredLeaseIsFencedAcrossContexts() throws Exception {
+        LeasedJob nodeA = startNode("node-a");
+        LeasedJob nodeB = startNode("node-b");
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> nodeA.runWithShortLease(() -> {
+                entered.countDown();
+                awaitQuietly(resume);
+            }));
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 노드 A가 멈춘 사이 리스(PT1S)가 만료되고 노드 B가 더 큰 토큰으로 가져가 작업을 마칩니다.
+            Thread.sleep(1_500);
+            AtomicBoolean ranOnB = new AtomicBoolean();
+            nodeB.runWithShortLease(() -> ranOnB.set(true));
+            assertThat(ranOnB).isTrue();
+
+            resume.countDown();
+            assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e.getCause()).getErrorCode())
+                            .isEqualTo(ErrorCode.SCHEDULER_LEASE_LOST));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 공유 DataSource와 노드 식별자(scheduler.lease.owner)로 노드 컨텍스트를 띄우고 작업 빈을 반환합니다.
+     */
+    private LeasedJob startNode(String owner) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("node", Map.of("scheduler.lease.owner", owner)));
+        context.getBeanFactory().registerSingleton("dataSource", dataSource);
+        context.register(NodeConfig.class);
+        context.refresh();
+        nodes.add(context);
+        return context.getBean(LeasedJob.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 노드 하나의 구성: 리스 테이블만 매핑한 JPA, 리스 매니저/애스펙트, 리스 작업 빈
+     * (@Configuration을 붙이면 테스트 클래스의 컨텍스트 설정으로 인식되므로 노드 컨텍스트에 직접 등록합니다.)
+     */
+    @EnableAspectJAutoProxy
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = SchedulerLeasesRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SchedulerLeasesRepository.class))
+    @Import({SchedulerLeaseManager.class, SchedulerLeaseAspect.class, LeasedJob.class})
+    static class NodeConfig {
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setManagedTypes(PersistenceManagedTypes.of(SchedulerLease.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+
+    /**
+     * 스케줄 작업과 같은 방식으로 리스 안에서 실행되는 작업입니다.
+     */
+    static class LeasedJob {
+
+        private final SchedulerLeaseManager schedulerLeaseManager;
+        private final TransactionTemplate transactionTemplate;
+
+        LeasedJob(SchedulerLeaseManager schedulerLeaseManager, PlatformTransactionManager transactionManager) {
+            this.schedulerLeaseManager = schedulerLeaseManager;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+        }
+
+        @SchedulerLeased(job = "lease-e2e-exclusive", leaseFor = "PT5M", minHold = "PT1M")
+        public void runExclusive(Runnable body) {
+            body.run();
+        }
+
+        /**
+         * 작업 본문 뒤에 SchedulerChunkRunner처럼 작업 트랜잭션을 열어 현재 리스로 펜싱합니다. (리스를 잃었으면 SCHEDULER_LEASE_LOST)
+         */
+        @SchedulerLeased(job = "lease-e2e-expiring", leaseFor = "PT1S", minHold = "PT0S")
+        public void runWithShortLease(Runnable body) {
+            body.run();
+            SchedulerLeaseManager.Lease lease = schedulerLeaseManager.current().orElseThrow();
+            transactionTemplate.executeWithoutResult(status -> schedulerLeaseManager.fence(lease));
+        }
+    }
+}
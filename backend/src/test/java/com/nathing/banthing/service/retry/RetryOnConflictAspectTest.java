@@ -0,0 +1,154 @@
+package com.nathing.banthing.service.retry;
+
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.exception.BusinessException;
+import com.nathing.banthing.exception.ErrorCode;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link RetryOnConflictAspect}가 트랜잭션 인터셉터 바깥에서 동작해 커밋 시점의 낙관적 락 충돌까지 잡고,
+ * 시도마다 새 트랜잭션(새 영속성 컨텍스트)으로 다시 실행하며, maxAttempts를 넘으면 CONCURRENT_UPDATE를 던지는지 검증합니다.
+ *
+ * 애스펙트와 @Transactional이 실제 애플리케이션처럼 같은 프록시에 순서대로 적용되도록 자동 프록시로 등록합니다.
+ * 충돌은 엔티티를 읽은 뒤 별도 트랜잭션에서 버전을 올려 만들며, 이 변경은 커밋 시점 flush의 버전 검사에서 드러납니다.
+ * 시도마다 커밋/롤백되어야 하므로 테스트 트랜잭션을 사용하지 않고 데이터를 직접 정리합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@EmbeddedPostgresTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RetryOnConflictAspect.class, RetryOnConflictAspectTest.AopConfig.class, RetryOnConflictAspectTest.ConflictingWriter.class})
+class RetryOnConflictAspectTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConflictingWriter writer;
+
+    private Long meetingId;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        Long hostUserId = fixtures.insertUser("retry-host-" + UUID.randomUUID());
+        meetingId = fixtures.insertMeeting(hostUserId, fixtures.insertMart(), "RECRUITING", "1 day", 5, 1);
+        writer.reset(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meeting_participants");
+        jdbcTemplate.update("DELETE FROM meetings");
+        jdbcTemplate.update("DELETE FROM marts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("커밋 시점에 드러난 충돌은 새 트랜잭션에서 다시 실행해 반영한다")
+    void retriesCommitTimeConflictInFreshTransaction() {
+        writer.reset(1);
+
+        writer.closeRecruitment(meetingId);
+
+        // 두 번째 시도는 새 영속성 컨텍스트에서 다른 트랜잭션이 올린 버전을 다시 읽습니다.
+        assertThat(writer.readVersions()).containsExactly(0L, 1L);
+        assertThat(statusOf(meetingId)).isEqualTo("FULL");
+        assertThat(versionOf(meetingId)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("maxAttempts번 모두 충돌하면 CONCURRENT_UPDATE를 던지고 변경을 반영하지 않는다")
+    void throwsConcurrentUpdateAfterMaxAttempts() {
+        writer.reset(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> writer.closeRecruitment(meetingId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CONCURRENT_UPDATE);
+        assertThat(writer.readVersions()).containsExactly(0L, 1L, 2L);
+        assertThat(statusOf(meetingId)).isEqualTo("RECRUITING");
+    }
+
+    private String statusOf(Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM meetings WHERE meeting_id = ?", String.class, meetingId);
+    }
+
+    private Long versionOf(Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM meetings WHERE meeting_id = ?", Long.class, meetingId);
+    }
+
+    /**
+     * 애스펙트를 @Transactional과 같은 자동 프록시에 적용합니다.
+     */
+    @EnableAspectJAutoProxy
+    static class AopConfig {
+    }
+
+    /**
+     * 서비스 쓰기 메서드와 같은 방식(@Transactional + @RetryOnConflict)으로 모임을 바꾸는 빈입니다.
+     * 처음 conflicts번의 시도는 엔티티를 읽은 뒤 다른 트랜잭션에서 같은 모임의 버전을 올립니다.
+     */
+    static class ConflictingWriter {
+
+        private final MeetingsRepository meetingsRepository;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate otherTransaction;
+
+        private final List<Long> readVersions = new CopyOnWriteArrayList<>();
+        private volatile int conflicts;
+
+        ConflictingWriter(MeetingsRepository meetingsRepository, JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager) {
+            this.meetingsRepository = meetingsRepository;
+            this.jdbcTemplate = jdbcTemplate;
+            this.otherTransaction = new TransactionTemplate(transactionManager);
+            this.otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        // 프록시를 거쳐 대상 객체의 상태를 읽고 쓰도록 public 메서드로 둡니다.
+        public void reset(int conflicts) {
+            readVersions.clear();
+            this.conflicts = conflicts;
+        }
+
+        public List<Long> readVersions() {
+            return readVersions;
+        }
+
+        @Transactional
+        @RetryOnConflict(maxAttempts = 3, backoffMillis = 1, maxBackoffMillis = 5)
+        public void closeRecruitment(Long meetingId) {
+            Meeting meeting = meetingsRepository.findById(meetingId).orElseThrow();
+            readVersions.add(meeting.getVersion());
+            if (readVersions.size() <= conflicts) {
+                otherTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                        "UPDATE meetings SET version = version + 1 WHERE meeting_id = ?", meetingId));
+            }
+            meeting.closeRecruitment();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.nathing.banthing.service.schedule;
+
+import com.nathing.banthing.dto.projection.MeetingDeadlineRow;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.service.MeetingSchedulerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모임 마감 큐가 수백 밀리초 뒤의 짧은 마감으로 실제 전환 스레드를 돌렸을 때
+ * 마감 시각이 지나서 한 번만 전환을 호출하고, 바뀌었거나 제거된 이전 마감은 건너뛰는지 검증합니다.
+ *
+ * 전환 자체(applyDueTransition)는 목으로 호출 시각만 기록합니다.
+ * 여러 서버가 같은 마감을 동시에 꺼낸 경우는 MeetingSchedulerServiceTest에서 DB로 확인합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class MeetingDeadlineQueueTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private final MeetingsRepository meetingsRepository = mock(MeetingsRepository.class);
+    private final MeetingSchedulerService meetingSchedulerService = mock(MeetingSchedulerService.class);
+    private final Map<Long, Long> firedAtMillis = new ConcurrentHashMap<>();
+
+    private MeetingDeadlineQueue deadlineQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(meetingsRepository.findDeadlineRowsByStatusIn(any())).thenReturn(List.of());
+        when(meetingSchedulerService.applyDueTransition(anyLong())).thenAnswer(invocation -> {
+            firedAtMillis.put(invocation.getArgument(0), System.currentTimeMillis());
+            return true;
+        });
+        deadlineQueue = new MeetingDeadlineQueue(meetingsRepository, meetingSchedulerService, new SimpleMeterRegistry());
+        deadlineQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineQueue.stop();
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 바로 한 번 전환한다")
+    void firesAtDueTime() {
+        LocalDateTime dueAt = LocalDateTime.now().plusNanos(300_000_000);
+        deadlineQueue.schedule(row(1L, Meeting.MeetingStatus.RECRUITING, dueAt));
+
+        verify(meetingSchedulerService, timeout(WAIT_MILLIS)).applyDueTransition(1L);
+        assertThat(firedAtMillis.get(1L)).isGreaterThan(toMillis(dueAt));
+        assertThat(firedAtMillis.get(1L) - toMillis(dueAt)).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("진행중 모임은 모임 시간 + 24시간에 전환한다")
+    void ongoingMeetingFiresAfterCompletionDelay() {
+        LocalDateTime dueAt = LocalDateTime.now().plusNanos(300_000_000);
+        deadlineQueue.schedule(row(1L, Meeting.MeetingStatus.ONGOING, dueAt.minus(MeetingSchedulerService.COMPLETE_AFTER)));
+
+        verify(meetingSchedulerService, timeout(WAIT_MILLIS)).applyDueTransition(1L);
+        assertThat(firedAtMillis.get(1L)).isGreaterThan(toMillis(dueAt));
+    }
+
+    @Test
+    @DisplayName("마감이 바뀌면 이전 마감은 건너뛰고 새 마감에 한 번만 전환한다")
+    void skipsSupersededDeadline() {
+        LocalDateTime now = LocalDateTime.now();
+        deadlineQueue.schedule(row(1L, Meeting.MeetingStatus.RECRUITING, now.plusNanos(200_000_000)));
+        LocalDateTime postponed = now.plusNanos(600_000_000);
+        deadlineQueue.schedule(row(1L, Meeting.MeetingStatus.RECRUITING, postponed));
+        // 이전 마감이 남아 있었다면 전환되었을 시각 이후의 기준 마감
+        deadlineQueue.schedule(row(2L, Meeting.MeetingStatus.RECRUITING, now.plusNanos(800_000_000)));
+
+        verify(meetingSchedulerService, timeout(WAIT_MILLIS)).applyDueTransition(2L);
+        verify(meetingSchedulerService, times(1)).applyDueTransition(1L);
+        assertThat(firedAtMillis.get(1L)).isGreaterThan(toMillis(postponed));
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 끝난 모임의 마감은 전환하지 않는다")
+    void skipsRemovedDeadline() {
+        LocalDateTime now = LocalDateTime.now();
+        deadlineQueue.schedule(row(1L, Meeting.MeetingStatus.RECRUITING, now.plusNanos(200_000_000)));
+        when(meetingsRepository.findDeadlineRowByMeetingId(1L)).thenReturn(Optional.empty());
+        deadlineQueue.onMeetingChanged(MeetingChangedEvent.deleted(1L));
+        deadlineQueue.schedule(row(2L, Meeting.MeetingStatus.RECRUITING, now.plusNanos(500_000_000)));
+
+        verify(meetingSchedulerService, timeout(WAIT_MILLIS)).applyDueTransition(2L);
+        verify(meetingSchedulerService, never()).applyDueTransition(1L);
+    }
+
+    @Test
+    @DisplayName("참여자 변경 이벤트는 마감을 다시 조회하지 않는다")
+    void ignoresParticipantChanges() {
+        deadlineQueue.onMeetingChanged(MeetingChangedEvent.participantsChanged(1L));
+        deadlineQueue.onMeetingChanged(MeetingChangedEvent.updated(2L));
+
+        verify(meetingsRepository, never()).findDeadlineRowByMeetingId(1L);
+        verify(meetingsRepository).findDeadlineRowByMeetingId(2L);
+    }
+
+    private MeetingDeadlineRow row(Long meetingId, Meeting.MeetingStatus status, LocalDateTime meetingDate) {
+        return new MeetingDeadlineRow(meetingId, status, meetingDate);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
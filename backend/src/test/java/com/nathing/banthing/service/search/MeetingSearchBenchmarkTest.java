@@ -0,0 +1,165 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSimpleResponse;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.repository.MeetingCardsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import com.nathing.banthing.support.EmbeddedPostgresTest;
+import com.nathing.banthing.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 LIKE 검색과 pg_trgm 검색의 응답 시간을 10만 건 이상의 모임 데이터로 비교하는 벤치마크입니다.
+ * pg_trgm 검색은 모임 엔티티 경로(search)와 카드 프로젝션 경로(searchSimple)도 비교합니다.
+ * 스키마와 pg_trgm 확장/인덱스는 운영과 같이 Flyway 마이그레이션으로 만듭니다.
+ *
+ * 기본 test 태스크에서는 제외되며 다음 명령으로 실행합니다.
+ * ./gradlew benchmark --tests "*MeetingSearchBenchmarkTest"
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Tag("benchmark")
+@EmbeddedPostgresTest
+@TestPropertySource(properties = {
+        "meeting.search.engine=trigram",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Import(TrigramMeetingSearchEngine.class)
+class MeetingSearchBenchmarkTest {
+
+    private static final int MEETING_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeetingsRepository meetingsRepository;
+
+    @Autowired
+    private MeetingCardsRepository meetingCardsRepository;
+
+    @Autowired
+    private TrigramMeetingSearchEngine trigramMeetingSearchEngine;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        Long hostUserId = fixtures.insertUser("benchmark-host");
+        fixtures.insertMarts();
+
+        // 제목/설명 조합으로 10만 건 생성 (제목마다 고유 번호를 붙여 선택도가 높은 검색도 측정)
+        jdbcTemplate.update("""
+            INSERT INTO meetings (host_user_id, mart_id, title, description, meeting_date, max_participants,
+                                  current_participants, status, thumbnail_image_url, created_at, updated_at)
+            SELECT ?,
+                   (SELECT MIN(mart_id) FROM marts) + (i % 4),
+                   (ARRAY['견과류 소분해요', '삼겹살 같이 사요', '세제 대용량 나눔', '냉동만두 소분', '베이글 나눠요',
+                          '올리브오일 소분', '닭가슴살 공동구매', '생수 나눠요', '휴지 대용량', '와인 소분'])[i % 10 + 1]
+                       || ' 모임' || i,
+                   '대용량 상품을 함께 구매하고 나눠 가져요. 개인 용기를 꼭 준비해주세요. 번호 ' || i,
+                   NOW() + (i || ' minutes')::interval,
+                   5, 1,
+                   CASE WHEN i % 20 = 0 THEN 'CANCELLED' ELSE 'RECRUITING' END,
+                   '/images/meeting-default-img.svg',
+                   NOW() - (i || ' seconds')::interval,
+                   NOW()
+            FROM generate_series(1, ?) AS s(i)
+        """, hostUserId, MEETING_COUNT);
+
+        meetingCardsRepository.insertAllFromMeetings();
+
+        jdbcTemplate.execute("ANALYZE meetings");
+        jdbcTemplate.execute("ANALYZE marts");
+        jdbcTemplate.execute("ANALYZE meeting_cards");
+    }
+
+    @Test
+    @DisplayName("선택도가 높은 검색어: LIKE 검색과 pg_trgm 검색의 응답 시간 비교")
+    void compareSelectiveKeyword() {
+        String keyword = "모임77777";
+
+        List<Meeting> likeResult = meetingsRepository.findByKeywordAndRecruiting(keyword);
+        List<Meeting> trigramResult = trigramMeetingSearchEngine.search(keyword);
+        assertThat(trigramResult).extracting(Meeting::getMeetingId)
+                .containsExactlyInAnyOrderElementsOf(likeResult.stream().map(Meeting::getMeetingId).toList());
+
+        report(keyword,
+                measure(() -> meetingsRepository.findByKeywordAndRecruiting(keyword)),
+                measure(() -> trigramMeetingSearchEngine.search(keyword)));
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색어: LIKE 검색과 pg_trgm 검색의 응답 시간 비교")
+    void compareKoreanSubstringKeyword() {
+        String keyword = "올리브오일";
+
+        List<Meeting> trigramResult = trigramMeetingSearchEngine.search(keyword);
+        assertThat(trigramResult).isNotEmpty();
+        assertThat(trigramResult).allMatch(meeting -> meeting.getTitle().contains(keyword));
+
+        report(keyword,
+                measure(() -> meetingsRepository.findByKeywordAndRecruiting(keyword)),
+                measure(() -> trigramMeetingSearchEngine.search(keyword)));
+    }
+
+    @Test
+    @DisplayName("목록 응답: 모임 엔티티 검색(search)과 카드 프로젝션 검색(searchSimple)의 결과와 응답 시간 비교")
+    void compareEntityAndCardSearch() {
+        String keyword = "올리브오일";
+
+        List<Meeting> entityResult = trigramMeetingSearchEngine.search(keyword);
+        List<MeetingSimpleResponse> cardResult = trigramMeetingSearchEngine.searchSimple(keyword);
+        assertThat(cardResult).extracting(MeetingSimpleResponse::getMeetingId)
+                .containsExactlyInAnyOrderElementsOf(entityResult.stream().map(Meeting::getMeetingId).toList());
+
+        double entityMillis = measure(() -> trigramMeetingSearchEngine.search(keyword).stream()
+                .map(MeetingSimpleResponse::new).toList());
+        double cardMillis = measure(() -> trigramMeetingSearchEngine.searchSimple(keyword));
+        System.out.printf("[검색 벤치마크] 모임 %,d건, 키워드='%s' | 엔티티: %.2f ms | 카드: %.2f ms | %.1fx%n",
+                MEETING_COUNT, keyword, entityMillis, cardMillis, entityMillis / cardMillis);
+    }
+
+    /**
+     * 워밍업 후 평균 응답 시간(ms)을 측정합니다.
+     * 매 회차마다 영속성 컨텍스트를 비워 엔티티 캐시 효과를 제거합니다.
+     */
+    private double measure(Supplier<? extends List<?>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long total = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            total += System.nanoTime() - start;
+            entityManager.clear();
+        }
+        return total / (double) MEASURE_ROUNDS / 1_000_000;
+    }
+
+    private void report(String keyword, double likeMillis, double trigramMillis) {
+        System.out.printf("[검색 벤치마크] 모임 %,d건, 키워드='%s' | LIKE: %.2f ms | pg_trgm: %.2f ms | %.1fx%n",
+                MEETING_COUNT, keyword, likeMillis, trigramMillis, likeMillis / trigramMillis);
+    }
+}
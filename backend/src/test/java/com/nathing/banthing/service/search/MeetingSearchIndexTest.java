@@ -0,0 +1,167 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.event.MeetingsStatusChangedEvent;
+import com.nathing.banthing.repository.MeetingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모집중 모임 n-gram 인덱스가 모임 변경 이벤트로 문서를 증분 추가/수정/삭제하고,
+ * 모집중이 아닌 모임을 빼며, 1글자 키워드도 찾는지 검증합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class MeetingSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final MeetingsRepository meetingsRepository = mock(MeetingsRepository.class);
+    private final List<Meeting> recruiting = new ArrayList<>();
+
+    private MeetingSearchIndex index;
+    private Mart yangpyeong;
+    private Mart wolgye;
+
+    @BeforeEach
+    void setUp() {
+        yangpyeong = mart("코스트코 양평점", "서울특별시 영등포구 선유로 156");
+        wolgye = mart("이마트 트레이더스 월계점", "서울특별시 노원구 마들로3길 17");
+        when(meetingsRepository.findAllWithMartByStatus(Meeting.MeetingStatus.RECRUITING)).thenReturn(recruiting);
+        index = new MeetingSearchIndex(meetingsRepository);
+    }
+
+    @Test
+    @DisplayName("모임 변경 이벤트로 문서를 추가/수정/삭제하면 검색 결과에 바로 반영된다")
+    void appliesIncrementalChanges() {
+        recruiting.add(meeting(1L, "베이글 소분해요", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0));
+        index.rebuild();
+        assertThat(index.search(List.of("베이글"), 10)).containsExactly(1L);
+
+        // 추가
+        Meeting added = meeting(2L, "베이글 같이 사요", wolgye, Meeting.MeetingStatus.RECRUITING, 1);
+        changed(MeetingChangedEvent.created(2L), added);
+        assertThat(index.search(List.of("베이글"), 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+
+        // 수정: 이전 제목의 포스팅은 빠지고 새 제목으로 찾습니다.
+        Meeting updated = meeting(1L, "머핀 소분해요", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0);
+        changed(MeetingChangedEvent.updated(1L), updated);
+        assertThat(index.search(List.of("베이글"), 10)).containsExactly(2L);
+        assertThat(index.search(List.of("머핀"), 10)).containsExactly(1L);
+
+        // 삭제
+        when(meetingsRepository.findWithMartByMeetingId(2L)).thenReturn(Optional.empty());
+        index.onMeetingChanged(MeetingChangedEvent.deleted(2L));
+        assertThat(index.search(List.of("베이글"), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모집중이 아닌 모임은 색인하지 않고, 상태가 바뀌면 인덱스에서 뺀다")
+    void indexesRecruitingMeetingsOnly() {
+        recruiting.add(meeting(1L, "삼겹살 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0));
+        recruiting.add(meeting(2L, "삼겹살 나눠요", wolgye, Meeting.MeetingStatus.RECRUITING, 1));
+        recruiting.add(meeting(3L, "삼겹살 반띵", wolgye, Meeting.MeetingStatus.RECRUITING, 2));
+        index.rebuild();
+
+        // 개별 변경: 정원이 차면(FULL) 빠집니다.
+        changed(MeetingChangedEvent.statusChanged(1L),
+                meeting(1L, "삼겹살 소분", yangpyeong, Meeting.MeetingStatus.FULL, 0));
+        assertThat(index.search(List.of("삼겹살"), 10)).containsExactlyInAnyOrder(2L, 3L);
+
+        // 일괄 전환: DB를 다시 읽지 않고 빠집니다.
+        index.onMeetingsStatusChanged(new MeetingsStatusChangedEvent(List.of(2L, 3L), Meeting.MeetingStatus.ONGOING));
+        assertThat(index.search(List.of("삼겹살"), 10)).isEmpty();
+        assertThat(index.size()).isZero();
+
+        // 다시 모집중이 되면 다시 읽어 색인합니다.
+        when(meetingsRepository.findWithMartByMeetingId(1L)).thenReturn(Optional.of(
+                meeting(1L, "삼겹살 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0)));
+        index.onMeetingsStatusChanged(new MeetingsStatusChangedEvent(List.of(1L), Meeting.MeetingStatus.RECRUITING));
+        assertThat(index.search(List.of("삼겹살"), 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("1글자 키워드는 바이그램 없이 전체 문서에서 찾는다")
+    void fallsBackToFullScanForSingleCharacter() {
+        recruiting.add(meeting(1L, "빵 소분해요", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0));
+        recruiting.add(meeting(2L, "우유 소분해요", wolgye, Meeting.MeetingStatus.RECRUITING, 1));
+        index.rebuild();
+
+        assertThat(index.search(List.of("빵"), 10)).containsExactly(1L);
+        assertThat(index.search(List.of("떡"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 매칭이 마트/주소 매칭보다 앞서고, 동점이면 최신 모임이 먼저다")
+    void ranksByFieldWeightThenRecency() {
+        recruiting.add(meeting(1L, "양평 근처 과일 소분", wolgye, Meeting.MeetingStatus.RECRUITING, 0));
+        recruiting.add(meeting(2L, "과일 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 1));
+        recruiting.add(meeting(3L, "견과류 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 2));
+        index.rebuild();
+
+        // 1번: 제목 3, 2번/3번: 마트명 2 (2번보다 3번이 최신)
+        assertThat(index.search(List.of("양평"), 10)).containsExactly(1L, 3L, 2L);
+        // 키워드별 점수는 합산: 1번(과일 3 + 양평 3) > 2번(과일 3 + 양평 2) > 3번(양평 2)
+        assertThat(index.search(List.of("과일", "양평"), 2)).containsExactly(1L, 2L);
+        assertThat(index.recent(2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("최신순 후보는 문서 추가/수정/삭제에 맞춰 유지되고, 생성 시각이 같으면 모임 ID가 큰 모임이 먼저다")
+    void maintainsRecentOrderIncrementally() {
+        recruiting.add(meeting(1L, "과일 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0));
+        recruiting.add(meeting(2L, "견과류 소분", wolgye, Meeting.MeetingStatus.RECRUITING, 1));
+        recruiting.add(meeting(3L, "생수 소분", wolgye, Meeting.MeetingStatus.RECRUITING, 1));
+        index.rebuild();
+        assertThat(index.recent(10)).containsExactly(3L, 2L, 1L);
+
+        changed(MeetingChangedEvent.created(4L), meeting(4L, "휴지 소분", yangpyeong, Meeting.MeetingStatus.RECRUITING, 2));
+        // 수정된 문서는 이전 위치에서 빠지고 한 번만 남습니다.
+        changed(MeetingChangedEvent.updated(1L), meeting(1L, "과일 나눠요", yangpyeong, Meeting.MeetingStatus.RECRUITING, 0));
+        assertThat(index.recent(10)).containsExactly(4L, 3L, 2L, 1L);
+
+        index.onMeetingsStatusChanged(new MeetingsStatusChangedEvent(List.of(3L), Meeting.MeetingStatus.ONGOING));
+        assertThat(index.recent(2)).containsExactly(4L, 2L);
+
+        index.rebuild();
+        assertThat(index.recent(10)).containsExactly(3L, 2L, 1L);
+    }
+
+    private void changed(MeetingChangedEvent event, Meeting meeting) {
+        when(meetingsRepository.findWithMartByMeetingId(meeting.getMeetingId())).thenReturn(Optional.of(meeting));
+        index.onMeetingChanged(event);
+    }
+
+    private static Mart mart(String name, String address) {
+        Mart mart = mock(Mart.class);
+        when(mart.getMartName()).thenReturn(name);
+        when(mart.getAddress()).thenReturn(address);
+        return mart;
+    }
+
+    private static Meeting meeting(Long meetingId, String title, Mart mart, Meeting.MeetingStatus status, int minutes) {
+        return Meeting.builder()
+                .meetingId(meetingId)
+                .title(title)
+                .description("")
+                .mart(mart)
+                .status(status)
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.nathing.banthing.service.search;
+
+import com.nathing.banthing.dto.response.MeetingSuggestResponse;
+import com.nathing.banthing.entity.Mart;
+import com.nathing.banthing.entity.Meeting;
+import com.nathing.banthing.event.MeetingChangedEvent;
+import com.nathing.banthing.repository.MartsRepository;
+import com.nathing.banthing.repository.MeetingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동완성 트라이가 입력 중인 글자/초성 접두어로 단어를 찾고,
+ * 모임 변경 이벤트로 가중치가 바뀌면 노드별 상위 K 목록을 다시 계산하는지 검증합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class MeetingSuggestIndexTest {
+
+    private final MeetingsRepository meetingsRepository = mock(MeetingsRepository.class);
+    private final MartsRepository martsRepository = mock(MartsRepository.class);
+    private final List<Meeting> recruiting = new ArrayList<>();
+
+    private MeetingSuggestIndex index;
+    private Mart mart;
+    private long nextMeetingId = 1;
+
+    @BeforeEach
+    void setUp() {
+        mart = mock(Mart.class);
+        when(mart.getMartName()).thenReturn("코스트코 양평점");
+        when(martsRepository.findAll()).thenReturn(List.of(mart));
+        when(meetingsRepository.findAllWithMartByStatus(Meeting.MeetingStatus.RECRUITING)).thenReturn(recruiting);
+        index = new MeetingSuggestIndex(meetingsRepository, martsRepository);
+    }
+
+    @Test
+    @DisplayName("겹모음/겹받침을 입력 중인 글자도 완성된 단어의 접두어로 찾는다")
+    void matchesPartiallyTypedCompoundJamo() {
+        recruiting.add(meeting("과일 소분해요"));
+        recruiting.add(meeting("갈비 같이 사요"));
+        recruiting.add(meeting("고구마 나눠요"));
+        index.rebuild();
+
+        assertThat(texts(index.suggest("고", 10))).containsExactlyInAnyOrder("과일 소분해요", "고구마 나눠요");
+        assertThat(texts(index.suggest("과", 10))).containsExactly("과일 소분해요");
+        assertThat(texts(index.suggest("갋", 10))).containsExactly("갈비 같이 사요");
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 제목과 마트명을 찾는다")
+    void matchesChosungQuery() {
+        recruiting.add(meeting("갈비 같이 사요"));
+        index.rebuild();
+
+        assertThat(index.suggest("ㅋㅅㅌㅋ", 10))
+                .extracting(MeetingSuggestResponse::getText, MeetingSuggestResponse::getType)
+                .containsExactly(tuple("코스트코 양평점", "MART"));
+        assertThat(texts(index.suggest("ㄱㅂ", 10))).containsExactly("갈비 같이 사요");
+        assertThat(index.suggest("ㅎㅎ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가중치가 오른 단어는 상위 K에 들어가고 가장 낮은 단어가 밀려나며, 가중치가 내려가면 되돌아온다")
+    void recomputesTopKWhenWeightChanges() {
+        for (int i = 1; i <= MeetingSuggestIndex.TOP_K + 2; i++) {
+            recruiting.add(meeting("소분 %02d".formatted(i)));
+        }
+        index.rebuild();
+
+        // 가중치가 모두 1이면 이름순으로 상위 K개
+        assertThat(texts(index.suggest("소분", MeetingSuggestIndex.TOP_K)))
+                .hasSize(MeetingSuggestIndex.TOP_K)
+                .startsWith("소분 01")
+                .endsWith("소분 10");
+
+        // "소분 12" 모임이 하나 더 생기면 가중치 2로 맨 앞에 오고 "소분 10"이 밀려납니다.
+        Meeting another = meeting("소분 12");
+        when(meetingsRepository.findWithMartByMeetingId(another.getMeetingId())).thenReturn(Optional.of(another));
+        index.onMeetingChanged(MeetingChangedEvent.created(another.getMeetingId()));
+
+        assertThat(texts(index.suggest("소분", MeetingSuggestIndex.TOP_K)))
+                .hasSize(MeetingSuggestIndex.TOP_K)
+                .startsWith("소분 12", "소분 01")
+                .doesNotContain("소분 10");
+
+        // 모임이 삭제되면 가중치가 1로 돌아가 원래 순서가 됩니다.
+        when(meetingsRepository.findWithMartByMeetingId(another.getMeetingId())).thenReturn(Optional.empty());
+        index.onMeetingChanged(MeetingChangedEvent.deleted(another.getMeetingId()));
+
+        assertThat(texts(index.suggest("소분", MeetingSuggestIndex.TOP_K)))
+                .endsWith("소분 10")
+                .doesNotContain("소분 12");
+    }
+
+    private Meeting meeting(String title) {
+        return Meeting.builder()
+                .meetingId(nextMeetingId++)
+                .title(title)
+                .mart(mart)
+                .status(Meeting.MeetingStatus.RECRUITING)
+                .build();
+    }
+
+    private static List<String> texts(List<MeetingSuggestResponse> responses) {
+        return responses.stream().map(MeetingSuggestResponse::getText).toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.nathing.banthing.support;
+
+import com.nathing.banthing.config.QuerydslConfig;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 임베디드 PostgreSQL(zonky) 위에서 JPA 슬라이스 테스트를 실행합니다.
+ *
+ * 운영과 같은 PostgreSQL 문법(RETURNING, generate_series, 부분 인덱스 등)을 쓰는 테스트에 사용하며,
+ * 설정이 같은 테스트끼리는 스프링 컨텍스트와 임베디드 DB를 공유합니다. (embedded-pg 프로필 참고)
+ * 테스트 데이터는 {@link TestFixtures}로 넣습니다.
+ * JPA 슬라이스는 @Configuration을 스캔하지 않으므로 모임 리포지토리의 QueryDSL 구현에 필요한 설정을 함께 불러옵니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("embedded-pg")
+@Import(QuerydslConfig.class)
+public @interface EmbeddedPostgresTest {
+}
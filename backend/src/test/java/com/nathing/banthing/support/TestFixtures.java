@@ -0,0 +1,92 @@
+package com.nathing.banthing.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 임베디드 PostgreSQL 테스트에서 마트/사용자/모임/참여자 데이터를 JDBC로 넣는 도우미입니다.
+ *
+ * JDBC로 넣은 사용자는 Hibernate 쿼리 캐시가 알지 못하므로 providerId는 테스트마다 다른 값을 사용합니다.
+ * (닉네임도 providerId로 채우므로 50자 이하로 만듭니다.)
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+public class TestFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 코스트코 양평점 하나를 등록하고 마트 ID를 반환합니다.
+     */
+    public Long insertMart() {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO marts (mart_name, mart_brand, address, latitude, longitude, created_at, updated_at)
+            VALUES ('코스트코 양평점', 'COSTCO', '서울특별시 영등포구 선유로 156', 37.5276272, 126.8921542, NOW(), NOW())
+            RETURNING mart_id
+        """, Long.class);
+    }
+
+    /**
+     * 브랜드가 다른 서울 지역 마트 네 곳을 등록하고 마트 ID 목록을 반환합니다.
+     */
+    public List<Long> insertMarts() {
+        return jdbcTemplate.queryForList("""
+            INSERT INTO marts (mart_name, mart_brand, address, latitude, longitude, created_at, updated_at) VALUES
+            ('코스트코 양평점', 'COSTCO', '서울특별시 영등포구 선유로 156', 37.5276272, 126.8921542, NOW(), NOW()),
+            ('코스트코 양재점', 'COSTCO', '서울특별시 서초구 양재대로 159', 37.4618756, 127.0361402, NOW(), NOW()),
+            ('이마트 트레이더스 월계점', 'TRADERS', '서울특별시 노원구 마들로3길 17', 37.6278244, 127.0613885, NOW(), NOW()),
+            ('롯데마트 맥스 금천점', 'LOTTE_MART', '서울특별시 금천구 두산로 71', 37.4706810, 126.8956481, NOW(), NOW())
+            RETURNING mart_id
+        """, Long.class);
+    }
+
+    /**
+     * 닉네임과 providerId가 같은 카카오 사용자를 등록하고 사용자 ID를 반환합니다.
+     */
+    public Long insertUser(String providerId) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO users (nickname, provider, provider_id, trust_score, trust_grade, no_show_count, agree, created_at, updated_at)
+            VALUES (?, 'kakao', ?, 300, 'BASIC', 0, true, NOW(), NOW())
+            RETURNING user_id
+        """, Long.class, providerId, providerId);
+    }
+
+    /**
+     * 모임을 등록하고 호스트를 승인된 참여자로 추가한 뒤 모임 ID를 반환합니다.
+     *
+     * @param meetingOffset 현재 시각 기준 모임 시간 (예: "1 day", "-1 hour")
+     * @param currentParticipants 현재 인원 (호스트 포함, 나머지 참여자는 {@link #insertParticipant}로 추가)
+     */
+    public Long insertMeeting(Long hostUserId, Long martId, String status, String meetingOffset,
+                              int maxParticipants, int currentParticipants) {
+        Long meetingId = jdbcTemplate.queryForObject("""
+            INSERT INTO meetings (host_user_id, mart_id, title, description, meeting_date, max_participants,
+                                  current_participants, status, thumbnail_image_url, created_at, updated_at)
+            VALUES (?, ?, '테스트 모임', '설명', NOW() + CAST(? AS INTERVAL), ?, ?, ?,
+                    '/images/meeting-default-img.svg', NOW(), NOW())
+            RETURNING meeting_id
+        """, Long.class, hostUserId, martId, meetingOffset, maxParticipants, currentParticipants, status);
+        jdbcTemplate.update("""
+            INSERT INTO meeting_participants (meeting_id, user_id, participant_type, application_status, joined_at, updated_at)
+            VALUES (?, ?, 'HOST', 'APPROVED', NOW(), NOW())
+        """, meetingId, hostUserId);
+        return meetingId;
+    }
+
+    /**
+     * 사용자를 지정한 신청 상태의 일반 참여자로 추가하고 참가 신청 ID를 반환합니다.
+     */
+    public Long insertParticipant(Long meetingId, Long userId, String applicationStatus) {
+        return jdbcTemplate.queryForObject("""
+            INSERT INTO meeting_participants (meeting_id, user_id, participant_type, application_status, joined_at, updated_at)
+            VALUES (?, ?, 'PARTICIPANT', ?, NOW(), NOW())
+            RETURNING participant_id
+        """, Long.class, meetingId, userId, applicationStatus);
+    }
+}
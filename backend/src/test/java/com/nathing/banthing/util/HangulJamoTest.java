@@ -0,0 +1,65 @@
+package com.nathing.banthing.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 자모 분해가 입력 중인 글자(겹모음/겹받침 포함)를 완성된 단어의 접두어로 만드는지 검증합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절을 초성/중성/종성으로 풀고 한글이 아닌 문자는 그대로 둔다")
+    void decomposesSyllables() {
+        assertThat(HangulJamo.decompose("코스")).isEqualTo("ㅋㅗㅅㅡ");
+        assertThat(HangulJamo.decompose("코스트코 2L")).isEqualTo("ㅋㅗㅅㅡㅌㅡㅋㅗ 2L");
+    }
+
+    @Test
+    @DisplayName("겹모음은 두 모음으로 나눠 입력 중인 글자가 접두어가 된다")
+    void splitsCompoundVowels() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("왜")).isEqualTo("ㅇㅗㅐ");
+        assertThat(HangulJamo.decompose("외")).isEqualTo("ㅇㅗㅣ");
+        assertThat(HangulJamo.decompose("원")).isEqualTo("ㅇㅜㅓㄴ");
+        assertThat(HangulJamo.decompose("웨")).isEqualTo("ㅇㅜㅔ");
+        assertThat(HangulJamo.decompose("위")).isEqualTo("ㅇㅜㅣ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+
+        assertThat(HangulJamo.decompose("과일")).startsWith(HangulJamo.decompose("고"));
+    }
+
+    @Test
+    @DisplayName("겹받침은 두 자음으로 나눠 다음 글자의 초성과 이어진다")
+    void splitsCompoundFinals() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulJamo.decompose("않")).isEqualTo("ㅇㅏㄴㅎ");
+
+        assertThat(HangulJamo.decompose("갈비")).startsWith(HangulJamo.decompose("갋"));
+        assertThat(HangulJamo.decompose("닭가슴살")).startsWith(HangulJamo.decompose("닭"));
+    }
+
+    @Test
+    @DisplayName("따로 입력한 겹자모도 음절 안에서와 같이 나눈다")
+    void splitsStandaloneCompoundJamo() {
+        assertThat(HangulJamo.decompose("가ㅄ")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulJamo.decompose("ㄱㅘ")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.chosung("ㄳ")).isEqualTo("ㄱㅅ");
+    }
+
+    @Test
+    @DisplayName("초성만 남기고, 음절 없이 자음만 있는 입력을 초성 검색어로 본다")
+    void chosung() {
+        assertThat(HangulJamo.chosung("코스트코 양평점")).isEqualTo("ㅋㅅㅌㅋ ㅇㅍㅈ");
+        assertThat(HangulJamo.isChosungQuery("ㅋㅅㅌ")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("ㅋㅅ 2")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("코ㅅ")).isFalse();
+        assertThat(HangulJamo.isChosungQuery("costco")).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package com.nathing.banthing.util;
+
+import com.nathing.banthing.config.AuthUser;
+import com.nathing.banthing.entity.TrustGrade;
+import com.nathing.banthing.entity.User;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Access Token 클레임 세트(사용자 ID, 클레임 버전)가 인증 주체로 올바르게 변환되는지 검증합니다.
+ *
+ * @author 고동현
+ * @since 2026-10-17
+ */
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(Jwts.SIG.HS256.key().build().getEncoded()));
+        properties.setAccessExpiration(60_000);
+        properties.setRefreshExpiration(60_000);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("사용자로 발급한 Access Token은 사용자 ID만 담고 바뀔 수 있는 신뢰 등급은 담지 않는다")
+    void accessTokenCarriesUserClaims() {
+        User user = User.builder()
+                .nickname("반띵")
+                .provider("kakao")
+                .providerId("12345")
+                .trustGrade(TrustGrade.GOOD)
+                .build();
+        ReflectionTestUtils.setField(user, "userId", 7L);
+
+        String token = jwtTokenProvider.createAccessToken(user);
+        AuthUser authUser = jwtTokenProvider.toAuthUser(jwtTokenProvider.getClaims(token));
+
+        assertThat(authUser).isEqualTo(new AuthUser("12345", 7L));
+        assertThat(authUser.getName()).isEqualTo("12345");
+        assertThat(jwtTokenProvider.getClaims(token)).doesNotContainKey("grade");
+    }
+
+    @Test
+    @DisplayName("클레임이 없거나 버전이 다른 토큰은 providerId만 사용한다")
+    void legacyOrUnknownVersionTokensFallBackToProviderId() {
+        String legacy = jwtTokenProvider.createAccessToken("12345", Map.of());
+        String future = jwtTokenProvider.createAccessToken("12345", Map.of(
+                JwtTokenProvider.CLAIM_VERSION, JwtTokenProvider.CLAIMS_VERSION + 1,
+                JwtTokenProvider.CLAIM_USER_ID, 99L));
+
+        assertThat(jwtTokenProvider.toAuthUser(jwtTokenProvider.getClaims(legacy)))
+                .isEqualTo(AuthUser.ofProviderId("12345"));
+        assertThat(jwtTokenProvider.toAuthUser(jwtTokenProvider.getClaims(future)))
+                .isEqualTo(AuthUser.ofProviderId("12345"));
+    }
+}